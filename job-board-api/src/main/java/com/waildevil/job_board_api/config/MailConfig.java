@@ -0,0 +1,47 @@
+package com.waildevil.job_board_api.config;
+
+import com.waildevil.job_board_api.mail.PooledJavaMailSender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Replaces Spring Boot's {@code JavaMailSender}, which connects to the SMTP server for every send, with one that
+ * keeps a pool of open sessions. Configured from the usual {@code spring.mail.*} properties.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.mail", name = "host")
+@EnableConfigurationProperties(MailProperties.class)
+public class MailConfig {
+
+    @Bean
+    public PooledJavaMailSender javaMailSender(MailProperties properties,
+                                               @Value("${mail.pool.max-sessions:4}") int maxSessions,
+                                               @Value("${mail.pool.max-messages-per-session:100}") int maxMessagesPerSession,
+                                               @Value("${mail.pool.idle-timeout-seconds:60}") long idleTimeoutSeconds) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(maxSessions, maxMessagesPerSession,
+                Duration.ofSeconds(idleTimeoutSeconds));
+        sender.setHost(properties.getHost());
+        if (properties.getPort() != null) {
+            sender.setPort(properties.getPort());
+        }
+        sender.setUsername(properties.getUsername());
+        sender.setPassword(properties.getPassword());
+        sender.setProtocol(properties.getProtocol());
+        if (properties.getDefaultEncoding() != null) {
+            sender.setDefaultEncoding(properties.getDefaultEncoding().name());
+        }
+        if (!properties.getProperties().isEmpty()) {
+            Properties javaMailProperties = new Properties();
+            javaMailProperties.putAll(properties.getProperties());
+            sender.setJavaMailProperties(javaMailProperties);
+        }
+        return sender;
+    }
+}
@@ -52,6 +52,7 @@ public class SecurityConfig {
                                 "/oauth2/authorization/**"
                         ).permitAll()
                         .requestMatchers("/uploads/**").authenticated()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                         .anyRequest().authenticated()
                 )
@@ -1,13 +1,21 @@
 package com.waildevil.job_board_api.controller;
 
+import com.waildevil.job_board_api.dto.ActivityTimeseriesDto;
 import com.waildevil.job_board_api.dto.AdminStatsResponse;
+import com.waildevil.job_board_api.dto.MailOutboxStatsDto;
+import com.waildevil.job_board_api.dto.SearchCacheStatsDto;
+import com.waildevil.job_board_api.dto.SearchIndexStatsDto;
 import com.waildevil.job_board_api.service.AdminService;
+import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
+import java.util.Map;
+
 @Tag(name = "Admin", description = "Admin dashboard and statistics")
 @RestController
 @RequestMapping("/api/admin")
@@ -21,4 +29,58 @@ public class AdminController {
     public ResponseEntity<AdminStatsResponse> getStats() {
         return ResponseEntity.ok(adminService.getStats());
     }
+
+    @Operation(summary = "Recompute platform totals", description = "Counts users, jobs and applications from their tables, "
+            + "replaces the in-memory counters behind /stats with the result and checkpoints them")
+    @PostMapping("/stats/recompute")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AdminStatsResponse> recomputeStats() {
+        return ResponseEntity.ok(adminService.recomputeStats());
+    }
+
+    @Operation(summary = "Platform activity over time", description = "Signups, job postings, applications and "
+            + "acceptances per hour, day (default) or week between from and to (ISO-8601 instants, UTC buckets). "
+            + "Defaults to the last 30 buckets; served from hourly rollups, so activity after rolledUpTo is not included yet. "
+            + "Acceptances are counted from applications still accepted when their hour is rolled up, so an accepted "
+            + "application deleted before its hour is rolled up is not counted")
+    @GetMapping("/timeseries")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ActivityTimeseriesDto> getTimeseries(
+            @RequestParam(required = false) String granularity,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to
+    ) {
+        return ResponseEntity.ok(adminService.getTimeseries(granularity, from, to));
+    }
+
+    @Operation(summary = "Search cache statistics", description = "Hit/miss counts and size of the job search result cache")
+    @GetMapping("/search-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SearchCacheStatsDto> getSearchCacheStats() {
+        return ResponseEntity.ok(adminService.getSearchCacheStats());
+    }
+
+    @Operation(summary = "Search index statistics", description = "Job count and heap footprint of the in-memory job catalog, "
+            + "also extrapolated to 100k jobs")
+    @GetMapping("/search-index")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SearchIndexStatsDto> getSearchIndexStats() {
+        return ResponseEntity.ok(adminService.getSearchIndexStats());
+    }
+
+    @Operation(summary = "Mail outbox statistics", description = "Mails waiting to be sent or given up on, the age of "
+            + "the oldest one and this node's send counts; also published as mail.outbox.* metrics")
+    @GetMapping("/mail-outbox")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<MailOutboxStatsDto> getMailOutboxStats() {
+        return ResponseEntity.ok(adminService.getMailOutboxStats());
+    }
+
+    @Operation(summary = "Reconcile job application stats", description = "Recounts the per-job application counters "
+            + "that differ from the applications table and returns how many jobs were repaired")
+    @PostMapping("/job-stats/reconcile")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Integer>> reconcileJobStats() {
+        return ResponseEntity.ok(Map.of("repaired", adminService.reconcileJobStats()));
+    }
 }
@@ -2,8 +2,11 @@ package com.waildevil.job_board_api.controller;
 
 import com.waildevil.job_board_api.dto.*;
 import com.waildevil.job_board_api.entity.Application;
+import com.waildevil.job_board_api.export.ExportFormat;
+import com.waildevil.job_board_api.export.ExportResponse;
 import com.waildevil.job_board_api.mapper.ApplicationMapper;
 import com.waildevil.job_board_api.service.ApplicationService;
+import com.waildevil.job_board_api.service.ExportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,6 +21,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.File;
 import java.io.IOException;
@@ -37,6 +41,7 @@ public class ApplicationController {
 
     private final ApplicationService applicationService;
     private final ApplicationMapper applicationMapper;
+    private final ExportService exportService;
 
     @GetMapping
     @Operation(summary = "Get all applications", description = "Returns all applications in the system")
@@ -50,6 +55,15 @@ public class ApplicationController {
         );
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "Export all applications", description = "Streams every application as NDJSON (default) or CSV (format=csv)")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportAll(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        return ExportResponse.attachment("applications", exportFormat,
+                out -> exportService.exportApplications(null, exportFormat, out));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get application by ID", description = "Returns a single application by its ID")
     public ResponseEntity<ApplicationResponseDto> getById(@PathVariable Long id) {
@@ -120,6 +134,18 @@ public class ApplicationController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/employer/export")
+    @PreAuthorize("hasRole('RECRUITER')")
+    @Operation(summary = "Export applications for current employer", description = "Streams the applications for jobs posted by "
+            + "the authenticated employer as NDJSON (default) or CSV (format=csv)")
+    public ResponseEntity<StreamingResponseBody> exportEmployerApplications(
+            @RequestParam(defaultValue = "ndjson") String format, Authentication auth) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        String email = auth.getName();
+        return ExportResponse.attachment("applications", exportFormat,
+                out -> exportService.exportApplications(email, exportFormat, out));
+    }
+
     @GetMapping("/me")
     @PreAuthorize("hasRole('CANDIDATE')")
     @Operation(summary = "Get my applications", description = "Returns all applications submitted by the authenticated candidate")
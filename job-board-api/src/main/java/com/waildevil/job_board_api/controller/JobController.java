@@ -1,14 +1,24 @@
 package com.waildevil.job_board_api.controller;
 
+import com.waildevil.job_board_api.dto.JobFacetsDto;
+import com.waildevil.job_board_api.dto.JobFeedPageDto;
 import com.waildevil.job_board_api.dto.JobRequestDto;
 import com.waildevil.job_board_api.dto.JobResponseDto;
+import com.waildevil.job_board_api.dto.JobSearchPageDto;
+import com.waildevil.job_board_api.dto.SuggestionDto;
 import com.waildevil.job_board_api.entity.Job;
 import com.waildevil.job_board_api.entity.Role;
 import com.waildevil.job_board_api.entity.User;
 import com.waildevil.job_board_api.exception.ApiException;
+import com.waildevil.job_board_api.importer.JobImportFormat;
 import com.waildevil.job_board_api.mapper.JobMapper;
 import com.waildevil.job_board_api.repository.JobRepository;
 import com.waildevil.job_board_api.repository.UserRepository;
+import com.waildevil.job_board_api.search.JobFacets;
+import com.waildevil.job_board_api.search.JobSearchResult;
+import com.waildevil.job_board_api.search.JobSearchSort;
+import com.waildevil.job_board_api.search.PageTotal;
+import com.waildevil.job_board_api.service.JobImportService;
 import com.waildevil.job_board_api.service.JobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -17,17 +27,23 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Tag(name = "Jobs", description = "Job management endpoints")
 @RestController
@@ -39,25 +55,61 @@ public class JobController {
     private final JobMapper jobMapper;
     private final UserRepository userRepository;
     private final JobRepository jobRepository;
+    private final JobImportService jobImportService;
 
     @GetMapping
-    @Operation(summary = "Get all jobs", description = "Returns a list of all job postings")
-    public ResponseEntity<Map<String, Object>> getAllJobs(Pageable pageable) {
-        Page<Job> jobPage = jobService.getJobsPaginated(pageable);
-        List<JobResponseDto> jobDtos = jobPage.getContent()
-                .stream()
-                .map(jobMapper::toResponseDto)
-                .toList();
+    @Operation(summary = "Get all jobs", description = "Returns a list of all job postings. "
+            + "With paging=keyset (or a cursor) jobs come newest first and meta.nextCursor is passed back as cursor "
+            + "for the next page, which costs the same at any depth. "
+            + "total is exact (runs a COUNT), estimate (search index size) or none; "
+            + "it defaults to exact for offset pages and none for keyset pages")
+    public ResponseEntity<Map<String, Object>> getAllJobs(
+            Pageable pageable,
+            @RequestParam(defaultValue = "offset") String paging,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String total
+    ) {
+        boolean keyset = cursor != null || isKeyset(paging);
+        // A keyset page costs one index seek, so it only pays for a COUNT when asked to
+        PageTotal pageTotal = total != null ? PageTotal.fromParam(total) : keyset ? PageTotal.NONE : PageTotal.EXACT;
+        Map<String, Object> meta = new LinkedHashMap<>();
+        List<Job> jobs;
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("jobs", jobDtos);
-        response.put("meta", Map.of(
-                "currentPage", jobPage.getNumber(),
-                "totalPages", jobPage.getTotalPages(),
-                "totalItems", jobPage.getTotalElements(),
-                "pageSize", jobPage.getSize()
-        ));
+        if (keyset) {
+            JobSearchResult feed = jobService.getJobFeed(cursor, pageable.getPageSize());
+            jobs = feed.jobs();
+            meta.put("pageSize", pageable.getPageSize());
+            meta.put("nextCursor", feed.nextCursor());
+            meta.put("hasMore", feed.hasMore());
+        } else if (pageTotal == PageTotal.EXACT) {
+            Page<Job> jobPage = jobService.getJobsPaginated(pageable);
+            jobs = jobPage.getContent();
+            meta.put("currentPage", jobPage.getNumber());
+            meta.put("totalPages", jobPage.getTotalPages());
+            meta.put("totalItems", jobPage.getTotalElements());
+            meta.put("pageSize", jobPage.getSize());
+        } else {
+            Slice<Job> slice = jobService.getJobsSlice(pageable);
+            jobs = slice.getContent();
+            meta.put("currentPage", slice.getNumber());
+            meta.put("pageSize", slice.getSize());
+            meta.put("hasMore", slice.hasNext());
+        }
+
+        if (keyset || pageTotal != PageTotal.EXACT) {
+            Long count = jobService.countJobs(pageTotal);
+            if (count != null) {
+                if (!keyset) {
+                    meta.put("totalPages", (int) Math.ceil((double) count / pageable.getPageSize()));
+                }
+                meta.put("totalItems", count);
+                meta.put("totalExact", pageTotal == PageTotal.EXACT);
+            }
+        }
 
+        Map<String, Object> response = new HashMap<>();
+        response.put("jobs", jobs.stream().map(jobMapper::toResponseDto).toList());
+        response.put("meta", meta);
         return ResponseEntity.ok(response);
     }
 
@@ -85,6 +137,38 @@ public class JobController {
         return ResponseEntity.status(HttpStatus.CREATED).body(jobMapper.toResponseDto(saved));
     }
 
+    @Operation(summary = "Bulk import jobs", description = "Creates many jobs from a JSON array (application/json) or CSV "
+            + "with a header row (text/csv) of job request fields (RECRUITER only). The response is NDJSON streamed while "
+            + "the file is read: an error line per rejected row, a progress line per saved batch and a final done line")
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, "text/csv"})
+    @PreAuthorize("hasRole('RECRUITER')")
+    public ResponseEntity<StreamingResponseBody> importJobs(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body,
+            Authentication auth
+    ) {
+        User recruiter = userRepository.findByEmail(auth.getName())
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Recruiter not found"));
+        JobImportFormat format = JobImportFormat.detect(contentType, null);
+        return importResponse(out -> jobImportService.importJobs(format, body, recruiter, out));
+    }
+
+    @Operation(summary = "Bulk import jobs from a file", description = "Same as the JSON/CSV body import, for a multipart "
+            + "upload; files named *.csv are read as CSV, anything else as a JSON array")
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('RECRUITER')")
+    public ResponseEntity<StreamingResponseBody> importJobsFile(@RequestParam("file") MultipartFile file,
+                                                                Authentication auth) {
+        User recruiter = userRepository.findByEmail(auth.getName())
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Recruiter not found"));
+        JobImportFormat format = JobImportFormat.detect(file.getContentType(), file.getOriginalFilename());
+        return importResponse(out -> {
+            try (InputStream in = file.getInputStream()) {
+                jobImportService.importJobs(format, in, recruiter, out);
+            }
+        });
+    }
+
     @Operation(summary = "Update a job", description = "Updates an existing job posting (RECRUITER only)")
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('RECRUITER')")
@@ -123,31 +207,109 @@ public class JobController {
         return ResponseEntity.ok(dtos);
     }
 
-    @Operation(summary = "Search jobs", description = "Search jobs by title, location, type, and salary range")
+    @Operation(summary = "Search jobs", description = "Search jobs by keyword (title, description, company, category), location, type, and salary range. "
+            + "With lat, lon and radiusKm only jobs within that distance are returned, nearest first. "
+            + "sort is one of createdAt (default), salary, distance or relevance (best keyword match first). "
+            + "Results are returned in pages; pass nextCursor back as cursor to get the following page")
     @GetMapping("/search")
-    public ResponseEntity<List<JobResponseDto>> searchJobs(
+    public ResponseEntity<JobSearchPageDto> searchJobs(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Integer minSalary,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lon,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        JobSearchResult result = jobService.searchJobs(keyword, location, category, type, minSalary,
+                lat, lon, radiusKm, sort != null ? JobSearchSort.fromParam(sort) : null, cursor, size);
+
+        List<JobResponseDto> jobs = result.jobs().stream()
+                .map(job -> {
+                    JobResponseDto dto = jobMapper.toResponseDto(job);
+                    Double distance = result.distancesKm().get(job.getId());
+                    if (distance != null) {
+                        dto.setDistanceKm(Math.round(distance * 10) / 10.0);
+                    }
+                    return dto;
+                })
+                .toList();
+
+        return ResponseEntity.ok(JobSearchPageDto.builder()
+                .jobs(jobs)
+                .nextCursor(result.nextCursor())
+                .hasMore(result.hasMore())
+                .build());
+    }
+
+    @Operation(summary = "Search facets", description = "Returns job counts per category, type, location and salary band for a search, "
+            + "each counted with all other filters applied")
+    @GetMapping("/facets")
+    public ResponseEntity<JobFacetsDto> getFacets(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String type,
             @RequestParam(required = false) Integer minSalary,
             @RequestParam(required = false) String category
     ) {
-        List<JobResponseDto> results = jobService.searchJobs(keyword, location, type, category, minSalary)
-                .stream()
-                .map(jobMapper::toResponseDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(results);
+        JobFacets facets = jobService.getFacets(keyword, location, category, type, minSalary);
+        return ResponseEntity.ok(JobFacetsDto.builder()
+                .total(facets.total())
+                .categories(facets.categories())
+                .types(facets.types())
+                .locations(facets.locations())
+                .salaryBands(facets.salaryBands())
+                .build());
+    }
+
+    @Operation(summary = "Autocomplete", description = "Suggests job titles, locations and company names starting with the prefix, most used first")
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDto>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<SuggestionDto> suggestions = jobService.suggest(prefix, limit).stream()
+                .map(s -> SuggestionDto.builder()
+                        .text(s.text())
+                        .type(s.type().name())
+                        .count(s.count())
+                        .build())
+                .toList();
+        return ResponseEntity.ok(suggestions);
     }
 
+    @Operation(summary = "Latest jobs", deprecated = true, description = "Newest jobs first as a numbered page with "
+            + "an exact total. Every page runs a COUNT and deeper pages an ever larger OFFSET; use /feed instead")
     @GetMapping("/latest")
     public ResponseEntity<Page<JobResponseDto>> getLatestJobs(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Job> jobPage = jobRepository.findAll(pageable);
-        Page<JobResponseDto> dtoPage = jobPage.map(jobMapper::toResponseDto);
-        return ResponseEntity.ok(dtoPage);
+        return ResponseEntity.ok(jobService.getJobsPaginated(pageable).map(jobMapper::toResponseDto));
+    }
+
+    @Operation(summary = "Job feed", description = "Newest jobs first. Pass nextCursor back as cursor for the next page; "
+            + "total is none (default), estimate (search index size) or exact (runs a COUNT)")
+    @GetMapping("/feed")
+    public ResponseEntity<JobFeedPageDto> getJobFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "none") String total
+    ) {
+        PageTotal pageTotal = PageTotal.fromParam(total);
+        JobSearchResult feed = jobService.getJobFeed(cursor, size);
+        return ResponseEntity.ok(JobFeedPageDto.builder()
+                .jobs(feed.jobs().stream().map(jobMapper::toResponseDto).toList())
+                .nextCursor(feed.nextCursor())
+                .hasMore(feed.hasMore())
+                .totalItems(jobService.countJobs(pageTotal))
+                .totalExact(pageTotal == PageTotal.EXACT)
+                .build());
     }
 
     /*
@@ -170,10 +332,15 @@ public class JobController {
         return jobService.countByFilters(keyword, location, type, category, salary);
     }
 
+    private static ResponseEntity<StreamingResponseBody> importResponse(StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
 
-
+    private static boolean isKeyset(String paging) {
+        if ("keyset".equalsIgnoreCase(paging)) return true;
+        if ("offset".equalsIgnoreCase(paging)) return false;
+        throw new ApiException(HttpStatus.BAD_REQUEST, "Unsupported paging: " + paging);
+    }
 }
-
-
-
-
@@ -0,0 +1,37 @@
+package com.waildevil.job_board_api.controller;
+
+import com.waildevil.job_board_api.dto.RecruiterDashboardDto;
+import com.waildevil.job_board_api.entity.User;
+import com.waildevil.job_board_api.exception.ApiException;
+import com.waildevil.job_board_api.repository.UserRepository;
+import com.waildevil.job_board_api.service.RecruiterDashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@SecurityRequirement(name = "BearerAuth")
+@Tag(name = "Recruiter", description = "Recruiter home screen")
+@RestController
+@RequestMapping("/api/recruiter")
+@RequiredArgsConstructor
+public class RecruiterController {
+
+    private final RecruiterDashboardService recruiterDashboardService;
+    private final UserRepository userRepository;
+
+    @GetMapping("/dashboard")
+    @PreAuthorize("hasRole('RECRUITER')")
+    @Operation(summary = "Get my dashboard", description = "Returns every job of the authenticated recruiter, newest first, "
+            + "with application counts per status, remaining positions and the time of the latest application")
+    public ResponseEntity<RecruiterDashboardDto> getDashboard(Authentication auth) {
+        User recruiter = userRepository.findByEmail(auth.getName())
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Recruiter not found"));
+        return ResponseEntity.ok(recruiterDashboardService.getDashboard(recruiter));
+    }
+}
@@ -0,0 +1,76 @@
+package com.waildevil.job_board_api.controller;
+
+import com.waildevil.job_board_api.dto.SavedSearchDto;
+import com.waildevil.job_board_api.dto.SavedSearchRequestDto;
+import com.waildevil.job_board_api.entity.SavedSearch;
+import com.waildevil.job_board_api.entity.User;
+import com.waildevil.job_board_api.exception.ApiException;
+import com.waildevil.job_board_api.repository.UserRepository;
+import com.waildevil.job_board_api.service.JobAlertService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@SecurityRequirement(name = "BearerAuth")
+@Tag(name = "Saved searches", description = "Saved job searches and new-job email alerts")
+@RestController
+@RequestMapping("/api/saved-searches")
+@RequiredArgsConstructor
+public class SavedSearchController {
+
+    private final JobAlertService jobAlertService;
+    private final UserRepository userRepository;
+
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get my saved searches", description = "Returns the saved searches of the authenticated user, newest first")
+    public ResponseEntity<List<SavedSearchDto>> getMine(Authentication auth) {
+        List<SavedSearchDto> dtos = jobAlertService.getSavedSearches(currentUser(auth)).stream()
+                .map(SavedSearchController::toDto)
+                .toList();
+        return ResponseEntity.ok(dtos);
+    }
+
+    @PostMapping
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Save a search", description = "Saves a search; an email is sent whenever a new job matches it")
+    public ResponseEntity<SavedSearchDto> create(@Valid @RequestBody SavedSearchRequestDto dto, Authentication auth) {
+        SavedSearch saved = jobAlertService.createSavedSearch(dto, currentUser(auth));
+        return ResponseEntity.status(HttpStatus.CREATED).body(toDto(saved));
+    }
+
+    @DeleteMapping("/{id}")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Delete a saved search", description = "Deletes one of the authenticated user's saved searches")
+    public ResponseEntity<Void> delete(@PathVariable Long id, Authentication auth) {
+        jobAlertService.deleteSavedSearch(id, currentUser(auth));
+        return ResponseEntity.noContent().build();
+    }
+
+    private User currentUser(Authentication auth) {
+        return userRepository.findByEmail(auth.getName())
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "User not found"));
+    }
+
+    private static SavedSearchDto toDto(SavedSearch search) {
+        return SavedSearchDto.builder()
+                .id(search.getId())
+                .name(search.getName())
+                .keyword(search.getKeyword())
+                .location(search.getLocation())
+                .category(search.getCategory())
+                .type(search.getType())
+                .minSalary(search.getMinSalary())
+                .createdAt(search.getCreatedAt())
+                .build();
+    }
+}
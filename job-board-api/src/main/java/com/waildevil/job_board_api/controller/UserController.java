@@ -2,8 +2,11 @@ package com.waildevil.job_board_api.controller;
 
 import com.waildevil.job_board_api.dto.*;
 import com.waildevil.job_board_api.entity.User;
+import com.waildevil.job_board_api.export.ExportFormat;
+import com.waildevil.job_board_api.export.ExportResponse;
 import com.waildevil.job_board_api.mapper.UserMapper;
 import com.waildevil.job_board_api.repository.UserRepository;
+import com.waildevil.job_board_api.service.ExportService;
 import com.waildevil.job_board_api.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,6 +17,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -28,6 +32,7 @@ public class UserController {
     private final UserRepository userRepository;
     private final UserService userService;
     private final UserMapper userMapper;
+    private final ExportService exportService;
     private final BCryptPasswordEncoder passwordEncoder;
 
     @GetMapping("/me")
@@ -49,6 +54,14 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
 
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Export all users", description = "Streams every user as NDJSON (default) or CSV (format=csv) (Admin only)")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        return ExportResponse.attachment("users", exportFormat, out -> exportService.exportUsers(exportFormat, out));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Get user by ID", description = "Returns the user details for a given ID (Admin only)")
@@ -123,6 +136,27 @@ public class UserController {
     }
 
 
+    @PatchMapping("/me/locale")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Update mail language", description = "Sets the language the user's mails are written in")
+    public ResponseEntity<UserResponseDto> updateMyLocale(@RequestBody @Valid LocaleUpdateDto dto, Authentication auth) {
+        var updated = userService.updateOwnLocale(auth.getName(), dto.locale());
+        return ResponseEntity.ok(userMapper.toResponseDto(updated));
+    }
+
+
+    @PatchMapping("/me/notifications")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Update notification delivery",
+            description = "IMMEDIATE mails every application status change, "
+                    + "DIGEST collects them into one mail per digest window")
+    public ResponseEntity<UserResponseDto> updateMyNotifications(@RequestBody @Valid NotificationPreferenceDto dto,
+                                                                 Authentication auth) {
+        var updated = userService.updateOwnNotificationDelivery(auth.getName(), dto.delivery());
+        return ResponseEntity.ok(userMapper.toResponseDto(updated));
+    }
+
+
     @PatchMapping("/me/password")
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "Change password", description = "Allows the authenticated user to change their password")
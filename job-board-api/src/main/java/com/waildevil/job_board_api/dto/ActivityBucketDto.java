@@ -0,0 +1,18 @@
+package com.waildevil.job_board_api.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActivityBucketDto {
+    private Instant start;
+    private long signups;
+    private long jobsPosted;
+    private long applications;
+    private long acceptances;
+}
@@ -0,0 +1,21 @@
+package com.waildevil.job_board_api.dto;
+
+import com.waildevil.job_board_api.entity.RollupGranularity;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActivityTimeseriesDto {
+    private RollupGranularity granularity;
+    private Instant from;
+    private Instant to;
+    // Activity at or after this time is not rolled up yet, so later buckets are incomplete
+    private Instant rolledUpTo;
+    private List<ActivityBucketDto> buckets;
+}
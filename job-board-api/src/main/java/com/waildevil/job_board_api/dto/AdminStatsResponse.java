@@ -1,7 +1,12 @@
 package com.waildevil.job_board_api.dto;
 
+import com.waildevil.job_board_api.entity.ApplicationStatus;
+import com.waildevil.job_board_api.entity.Role;
 import lombok.*;
 
+import java.time.Instant;
+import java.util.Map;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -11,4 +16,8 @@ public class AdminStatsResponse {
     private long totalUsers;
     private long totalJobs;
     private long totalApplications;
+    private Map<Role, Long> usersByRole;
+    private Map<ApplicationStatus, Long> applicationsByStatus;
+    // When the counters were last written to the database; null before the first checkpoint
+    private Instant checkpointedAt;
 }
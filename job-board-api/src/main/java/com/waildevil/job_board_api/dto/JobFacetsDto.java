@@ -0,0 +1,18 @@
+package com.waildevil.job_board_api.dto;
+
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobFacetsDto {
+    private long total;
+    private Map<String, Long> categories;
+    private Map<String, Long> types;
+    private Map<String, Long> locations;
+    private Map<String, Long> salaryBands;
+}
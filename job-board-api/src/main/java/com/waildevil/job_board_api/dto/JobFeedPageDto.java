@@ -0,0 +1,19 @@
+package com.waildevil.job_board_api.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobFeedPageDto {
+    private List<JobResponseDto> jobs;
+    private String nextCursor;
+    private boolean hasMore;
+    // null unless the request asked for a total
+    private Long totalItems;
+    private boolean totalExact;
+}
@@ -0,0 +1,23 @@
+package com.waildevil.job_board_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+/**
+ * One line of the bulk import progress stream: a rejected row ({@code error}), a committed batch ({@code progress})
+ * or the final totals ({@code done}).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobImportEventDto {
+    private String type;
+    private Integer row;
+    private String message;
+    private Integer processed;
+    private Integer imported;
+    private Integer failed;
+}
@@ -24,4 +24,7 @@ public class JobResponseDto {
     private RecruiterResponseDto recruiter;
     private String category;
     private Instant createdAt;
+    private Double latitude;
+    private Double longitude;
+    private Double distanceKm;
 }
@@ -0,0 +1,16 @@
+package com.waildevil.job_board_api.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobSearchPageDto {
+    private List<JobResponseDto> jobs;
+    private String nextCursor;
+    private boolean hasMore;
+}
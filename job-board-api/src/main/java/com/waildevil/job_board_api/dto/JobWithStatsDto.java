@@ -11,6 +11,8 @@ public class JobWithStatsDto {
     private Long id;
     private String title;
     private int availablePositions;
+    private long pendingCount;
     private long acceptedCount;
+    private long rejectedCount;
     private int remainingPositions;
 }
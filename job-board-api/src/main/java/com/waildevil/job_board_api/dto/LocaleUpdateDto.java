@@ -0,0 +1,13 @@
+package com.waildevil.job_board_api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+public record LocaleUpdateDto(
+        // BCP 47 language tag, e.g. "de" or "en-GB"
+        @NotBlank
+        @Size(max = 16)
+        @Pattern(regexp = "^[A-Za-z]{2,3}([-_][A-Za-z0-9]{2,8})*$")
+        String locale
+) {}
@@ -0,0 +1,21 @@
+package com.waildevil.job_board_api.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MailOutboxStatsDto {
+    // Queue depth, including mails waiting for a retry
+    private long pending;
+    private long failed;
+    private Instant oldestPendingAt;
+    // Since this node started
+    private long sent;
+    private long failedAttempts;
+    private long givenUp;
+}
@@ -0,0 +1,9 @@
+package com.waildevil.job_board_api.dto;
+
+import com.waildevil.job_board_api.entity.NotificationDelivery;
+import jakarta.validation.constraints.NotNull;
+
+public record NotificationPreferenceDto(
+        @NotNull
+        NotificationDelivery delivery
+) {}
@@ -0,0 +1,17 @@
+package com.waildevil.job_board_api.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecruiterDashboardDto {
+    private int totalJobs;
+    private long totalApplications;
+    private long pendingApplications;
+    private List<RecruiterJobStatsDto> jobs;
+}
@@ -0,0 +1,24 @@
+package com.waildevil.job_board_api.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecruiterJobStatsDto {
+    private Long jobId;
+    private String title;
+    private String location;
+    private Instant createdAt;
+    private int availablePositions;
+    private long pendingCount;
+    private long acceptedCount;
+    private long rejectedCount;
+    private int remainingPositions;
+    private LocalDateTime latestAppliedAt;
+}
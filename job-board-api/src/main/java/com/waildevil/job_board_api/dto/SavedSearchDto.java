@@ -0,0 +1,21 @@
+package com.waildevil.job_board_api.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SavedSearchDto {
+    private Long id;
+    private String name;
+    private String keyword;
+    private String location;
+    private String category;
+    private String type;
+    private Integer minSalary;
+    private Instant createdAt;
+}
@@ -0,0 +1,21 @@
+package com.waildevil.job_board_api.dto;
+
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class SavedSearchRequestDto {
+    @Size(max = 100)
+    private String name;
+    @Size(max = 255)
+    private String keyword;
+    @Size(max = 255)
+    private String location;
+    @Size(max = 255)
+    private String category;
+    @Size(max = 255)
+    private String type;
+    @PositiveOrZero
+    private Integer minSalary;
+}
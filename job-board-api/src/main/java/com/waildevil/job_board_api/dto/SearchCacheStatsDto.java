@@ -0,0 +1,18 @@
+package com.waildevil.job_board_api.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchCacheStatsDto {
+    private int entries;
+    private long cachedIds;
+    private long hits;
+    private long misses;
+    private double hitRate;
+    private long invalidations;
+    private long evictions;
+}
@@ -0,0 +1,18 @@
+package com.waildevil.job_board_api.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchIndexStatsDto {
+    private boolean ready;
+    private int jobs;
+    private long catalogBytes;
+    private long catalogBytesPer100kJobs;
+    private int categories;
+    private int types;
+    private int locations;
+}
@@ -0,0 +1,14 @@
+package com.waildevil.job_board_api.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SuggestionDto {
+    private String text;
+    private String type;
+    private int count;
+}
@@ -1,5 +1,6 @@
 package com.waildevil.job_board_api.dto;
 
+import com.waildevil.job_board_api.entity.NotificationDelivery;
 import com.waildevil.job_board_api.entity.Role;
 import lombok.Builder;
 import lombok.Data;
@@ -16,4 +17,6 @@ public class UserResponseDto {
     private Long companyId;
     private String companyName;
     private String provider;
+    private NotificationDelivery notificationDelivery;
+    private String locale;
 }
@@ -0,0 +1,9 @@
+package com.waildevil.job_board_api.entity;
+
+public enum ActivityMetric {
+
+    SIGNUPS,
+    JOBS_POSTED,
+    APPLICATIONS,
+    ACCEPTANCES
+}
@@ -0,0 +1,40 @@
+package com.waildevil.job_board_api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * How often {@link #metric} happened in one hour, day or week, see
+ * {@link com.waildevil.job_board_api.service.ActivityRollupService}. Buckets without activity have no row.
+ */
+@Entity
+@Table(name = "activity_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_activity_rollups_bucket", columnNames = {"granularity", "bucket_start", "metric"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActivityRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private Instant bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private ActivityMetric metric;
+
+    @Column(name = "activity_count", nullable = false)
+    private long count;
+}
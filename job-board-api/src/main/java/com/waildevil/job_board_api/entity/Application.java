@@ -6,7 +6,11 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", indexes = {
+        @Index(name = "idx_applications_job_applied_at", columnList = "job_id, applied_at"),
+        @Index(name = "idx_applications_applied_at", columnList = "applied_at"),
+        @Index(name = "idx_applications_status_changed_at", columnList = "status, status_changed_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -28,15 +32,15 @@ public class Application {
     @Column(nullable = false)
     private String phoneNumber;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "job_id")
     private Job job;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id")
     private Company company;
 
@@ -44,5 +48,8 @@ public class Application {
     @Column(nullable = false)
     private ApplicationStatus status = ApplicationStatus.PENDING;
 
+    // When a recruiter last accepted or rejected it; null while it is pending
+    private LocalDateTime statusChangedAt;
+
 
 }
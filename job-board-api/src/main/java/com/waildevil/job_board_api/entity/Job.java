@@ -10,7 +10,12 @@ import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+        @Index(name = "idx_jobs_category_type_salary", columnList = "category_id, type, max_salary"),
+        @Index(name = "idx_jobs_type_salary", columnList = "type, max_salary"),
+        @Index(name = "idx_jobs_max_salary", columnList = "max_salary"),
+        @Index(name = "idx_jobs_created_at_id", columnList = "created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -31,6 +36,11 @@ public class Job {
 
     private String location;
 
+    // Resolved from location by the city gazetteer when the job is saved; null if the place is unknown
+    private Double latitude;
+
+    private Double longitude;
+
     @Column(name = "salary")
     private String salaryText;
 
@@ -50,17 +60,17 @@ public class Job {
     private Instant createdAt;
 
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id")
     private Company company;
 
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "recruiter_id")
     private User recruiter;
 
 
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     private Category category;
 
@@ -0,0 +1,36 @@
+package com.waildevil.job_board_api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Application counts of one job, kept in step with the {@code applications} table by
+ * {@link com.waildevil.job_board_api.service.JobApplicationStatsService} in the same transaction as every
+ * application insert, delete and status change.
+ */
+@Entity
+@Table(name = "job_application_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobApplicationStats {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(name = "pending_count", nullable = false)
+    private long pendingCount;
+
+    @Column(name = "accepted_count", nullable = false)
+    private long acceptedCount;
+
+    @Column(name = "rejected_count", nullable = false)
+    private long rejectedCount;
+
+    // available_positions of the job minus accepted_count; can go negative if positions are reduced later
+    @Column(name = "remaining_positions", nullable = false)
+    private int remainingPositions;
+}
@@ -0,0 +1,9 @@
+package com.waildevil.job_board_api.entity;
+
+public enum NotificationDelivery {
+
+    // One mail per application status change
+    IMMEDIATE,
+    // Status changes are collected and sent as one mail per digest window
+    DIGEST
+}
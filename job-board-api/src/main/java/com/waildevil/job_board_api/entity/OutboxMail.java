@@ -0,0 +1,58 @@
+package com.waildevil.job_board_api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * A mail waiting in the outbox, written in the transaction that caused it and sent later by
+ * {@link com.waildevil.job_board_api.service.MailOutboxDispatcher}. Rows are deleted once the mail is sent.
+ */
+@Entity
+@Table(name = "mail_outbox", indexes = {
+        @Index(name = "idx_mail_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxMail {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 320)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Lob
+    @Column(nullable = false)
+    private String body;
+
+    // Sent as the alternative to the text body; null for text-only mails
+    @Lob
+    @Column(name = "html_body")
+    private String htmlBody;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private OutboxMailStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // Null until the first attempt, which makes a new mail due at once; afterwards the retry or lease expiry time
+    @Column(name = "next_attempt_at")
+    private Instant nextAttemptAt;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(length = 500)
+    private String lastError;
+}
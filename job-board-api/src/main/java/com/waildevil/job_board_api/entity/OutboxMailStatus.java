@@ -0,0 +1,8 @@
+package com.waildevil.job_board_api.entity;
+
+public enum OutboxMailStatus {
+
+    PENDING,
+    // Gave up after the configured number of attempts; kept for inspection
+    FAILED
+}
@@ -0,0 +1,46 @@
+package com.waildevil.job_board_api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * A status change waiting for the candidate's next digest mail. Written in the transaction that changed the
+ * status, so it survives a restart, and deleted in the transaction that queues the digest.
+ */
+@Entity
+@Table(name = "pending_notifications", indexes = {
+        @Index(name = "idx_pending_notifications_user", columnList = "user_id, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PendingNotification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // No foreign key: a notification for a deleted account is still sent to the address it was meant for
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 320)
+    private String recipient;
+
+    @Column(length = 16)
+    private String locale;
+
+    @Column(nullable = false)
+    private String jobTitle;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ApplicationStatus status;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,29 @@
+package com.waildevil.job_board_api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Last checkpoint of one in-memory platform counter, see {@link com.waildevil.job_board_api.service.PlatformCounters}.
+ */
+@Entity
+@Table(name = "platform_counters")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlatformCounter {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(name = "counter_value", nullable = false)
+    private long value;
+
+    @Column(nullable = false)
+    private Instant checkpointedAt;
+}
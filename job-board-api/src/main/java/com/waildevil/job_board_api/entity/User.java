@@ -2,15 +2,19 @@ package com.waildevil.job_board_api.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_created_at", columnList = "created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -48,9 +52,23 @@ public class User implements UserDetails {
 
     private String providerId;
 
+    // Null for accounts created before the column existed
+    @CreationTimestamp
+    private Instant createdAt;
+
+    // Null for accounts created before the column existed, which are treated as IMMEDIATE
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private NotificationDelivery notificationDelivery;
+
+    // Language tag for mails, e.g. "de"; null means the default mail locale
+    @Column(length = 16)
+    private String locale;
+
     @PrePersist
     void ensureDefaults() {
         if (provider == null) provider = AuthProvider.LOCAL;
+        if (notificationDelivery == null) notificationDelivery = NotificationDelivery.IMMEDIATE;
     }
 
 
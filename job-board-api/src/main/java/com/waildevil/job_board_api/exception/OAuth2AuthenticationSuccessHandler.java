@@ -5,6 +5,7 @@ import com.waildevil.job_board_api.entity.Role;
 import com.waildevil.job_board_api.entity.User;
 import com.waildevil.job_board_api.repository.UserRepository;
 import com.waildevil.job_board_api.security.JwtService;
+import com.waildevil.job_board_api.service.PlatformCounters;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -25,6 +26,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
 
     private final UserRepository userRepo;
     private final JwtService jwtService;
+    private final PlatformCounters platformCounters;
 
     @Value("${app.oauth2.frontend-redirect:http://localhost:3000/oauth2/callback}")
     private String frontendRedirect;
@@ -54,7 +56,9 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
             u.setPassword("{noop}");
             u.setProvider(AuthProvider.GOOGLE);
             u.setProviderId(providerId);
-            return userRepo.save(u);
+            User saved = userRepo.save(u);
+            platformCounters.onUserCreated(saved.getRole());
+            return saved;
         });
 
         // If existing account but no provider linked yet
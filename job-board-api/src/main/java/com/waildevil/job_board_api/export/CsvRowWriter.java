@@ -0,0 +1,64 @@
+package com.waildevil.job_board_api.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+final class CsvRowWriter<T> implements RowWriter<T> {
+
+    private final Writer out;
+    private final List<ExportColumn<T>> columns;
+
+    CsvRowWriter(Writer out, List<ExportColumn<T>> columns) throws IOException {
+        this.out = out;
+        this.columns = columns;
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) out.write(',');
+            writeField(columns.get(i).header());
+        }
+        out.write("\r\n");
+    }
+
+    @Override
+    public void write(T row) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) out.write(',');
+            Object value = columns.get(i).value().apply(row);
+            if (value instanceof String text) {
+                writeField(neutralize(text));
+            } else if (value != null) {
+                writeField(value.toString());
+            }
+        }
+        out.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        out.flush();
+    }
+
+    // Spreadsheets run text starting with one of these as a formula, and users control the free-text columns
+    private static String neutralize(String value) {
+        if (value.isEmpty()) return value;
+        return switch (value.charAt(0)) {
+            case '=', '+', '-', '@' -> "'" + value;
+            default -> value;
+        };
+    }
+
+    private void writeField(String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
@@ -0,0 +1,9 @@
+package com.waildevil.job_board_api.export;
+
+import java.util.function.Function;
+
+/**
+ * A CSV column: its header and how to read the value from a row. Nulls are written as empty fields.
+ */
+public record ExportColumn<T>(String header, Function<T, ?> value) {
+}
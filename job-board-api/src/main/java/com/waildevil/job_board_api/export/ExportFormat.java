@@ -0,0 +1,49 @@
+package com.waildevil.job_board_api.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waildevil.job_board_api.exception.ApiException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+public enum ExportFormat {
+
+    /** One JSON object per line, shaped like the matching list endpoint's DTO. */
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+    /** RFC 4180 CSV with a header row. */
+    CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+    private final String param;
+    private final MediaType mediaType;
+
+    ExportFormat(String param, MediaType mediaType) {
+        this.param = param;
+        this.mediaType = mediaType;
+    }
+
+    public String param() {
+        return param;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public static ExportFormat fromParam(String value) {
+        for (ExportFormat format : values()) {
+            if (format.param.equalsIgnoreCase(value)) return format;
+        }
+        throw new ApiException(HttpStatus.BAD_REQUEST, "Unsupported export format: " + value);
+    }
+
+    public <T> RowWriter<T> open(Writer out, List<ExportColumn<T>> columns, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonRowWriter<>(out, objectMapper);
+            case CSV -> new CsvRowWriter<>(out, columns);
+        };
+    }
+}
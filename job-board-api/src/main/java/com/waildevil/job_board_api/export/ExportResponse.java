@@ -0,0 +1,27 @@
+package com.waildevil.job_board_api.export;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public final class ExportResponse {
+
+    private ExportResponse() {
+    }
+
+    /**
+     * A download of {@code body}, named {@code baseName} with the format's extension. The body runs on the MVC async
+     * executor after the controller returns, so it must not rely on the request's transaction or security context.
+     */
+    public static ResponseEntity<StreamingResponseBody> attachment(String baseName, ExportFormat format,
+                                                                   StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(baseName + "." + format.param())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,14 @@
+package com.waildevil.job_board_api.export;
+
+import java.io.IOException;
+
+/**
+ * Writes export rows one at a time. {@link #finish()} flushes whatever is buffered but leaves the underlying
+ * stream open, since it belongs to the HTTP response.
+ */
+public interface RowWriter<T> {
+
+    void write(T row) throws IOException;
+
+    void finish() throws IOException;
+}
@@ -0,0 +1,143 @@
+package com.waildevil.job_board_api.importer;
+
+import com.waildevil.job_board_api.dto.JobRequestDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+
+/**
+ * RFC 4180 reader: quoted fields may contain commas, doubled quotes and line breaks. The header row names the
+ * {@link JobRequestDto} fields, in any order and case.
+ */
+final class CsvJobRowReader implements Iterator<JobImportRow> {
+
+    private static final Map<String, BiConsumer<JobRequestDto, String>> FIELDS = Map.of(
+            "title", JobRequestDto::setTitle,
+            "description", JobRequestDto::setDescription,
+            "location", JobRequestDto::setLocation,
+            "type", JobRequestDto::setType,
+            "minsalary", (job, value) -> job.setMinSalary(Integer.valueOf(value)),
+            "maxsalary", (job, value) -> job.setMaxSalary(Integer.valueOf(value)),
+            "companyid", (job, value) -> job.setCompanyId(Long.valueOf(value)),
+            "categoryid", (job, value) -> job.setCategoryId(Long.valueOf(value)));
+
+    private final Reader in;
+    private final List<String> header;
+    private List<String> next;
+    private int row;
+
+    CsvJobRowReader(InputStream in) throws IOException {
+        this.in = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i);
+            if (i == 0 && name.startsWith("\uFEFF")) {
+                name = name.substring(1);
+            }
+            name = name.strip().toLowerCase(Locale.ROOT);
+            if (!FIELDS.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown CSV column: " + header.get(i));
+            }
+            header.set(i, name);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = readRecord();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public JobImportRow next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        List<String> record = next;
+        next = null;
+        row++;
+        if (record.size() != header.size()) {
+            return JobImportRow.invalid(row, "Expected " + header.size() + " fields but found " + record.size());
+        }
+        JobRequestDto job = new JobRequestDto();
+        for (int i = 0; i < record.size(); i++) {
+            String value = record.get(i).strip();
+            if (value.isEmpty()) continue;
+            try {
+                FIELDS.get(header.get(i)).accept(job, value);
+            } catch (NumberFormatException e) {
+                return JobImportRow.invalid(row, "Invalid number for " + header.get(i) + ": " + value);
+            }
+        }
+        return JobImportRow.parsed(row, job);
+    }
+
+    // Returns the fields of the next non-blank record, or null at the end of the input
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean any = false;
+        int c;
+        while ((c = in.read()) != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    in.mark(1);
+                    if (in.read() == '"') {
+                        field.append('"');
+                    } else {
+                        in.reset();
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+                continue;
+            }
+            if (c == '"') {
+                quoted = true;
+                any = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                any = true;
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    in.mark(1);
+                    if (in.read() != '\n') in.reset();
+                }
+                if (!any && field.isEmpty()) continue;
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+                any = true;
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field in CSV row " + (row + 1));
+        }
+        if (!any && field.isEmpty()) return null;
+        fields.add(field.toString());
+        return fields;
+    }
+}
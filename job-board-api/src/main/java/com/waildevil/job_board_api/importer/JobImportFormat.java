@@ -0,0 +1,36 @@
+package com.waildevil.job_board_api.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Locale;
+
+public enum JobImportFormat {
+
+    /** A JSON array of job objects with the fields of {@link com.waildevil.job_board_api.dto.JobRequestDto}. */
+    JSON,
+    /** CSV with a header row naming those same fields. */
+    CSV;
+
+    /**
+     * Picks the format from a content type or file name; anything that does not look like CSV is read as JSON.
+     */
+    public static JobImportFormat detect(String contentType, String fileName) {
+        if (contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("text/csv")) return CSV;
+        if (fileName != null && fileName.toLowerCase(Locale.ROOT).endsWith(".csv")) return CSV;
+        return JSON;
+    }
+
+    /**
+     * Reads rows lazily, so only the current row is held in memory. Structural problems (not an array, unknown CSV
+     * column) are thrown as {@link IllegalArgumentException} from the iterator.
+     */
+    public Iterator<JobImportRow> read(InputStream in, ObjectMapper objectMapper) throws IOException {
+        return switch (this) {
+            case JSON -> new JsonJobRowReader(in, objectMapper);
+            case CSV -> new CsvJobRowReader(in);
+        };
+    }
+}
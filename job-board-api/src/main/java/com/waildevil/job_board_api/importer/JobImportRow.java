@@ -0,0 +1,18 @@
+package com.waildevil.job_board_api.importer;
+
+import com.waildevil.job_board_api.dto.JobRequestDto;
+
+/**
+ * One job read from an import file. {@code row} counts jobs from 1, not file lines; {@code error} is set instead of
+ * {@code job} when the row could not be parsed.
+ */
+public record JobImportRow(int row, JobRequestDto job, String error) {
+
+    static JobImportRow parsed(int row, JobRequestDto job) {
+        return new JobImportRow(row, job, null);
+    }
+
+    static JobImportRow invalid(int row, String error) {
+        return new JobImportRow(row, null, error);
+    }
+}
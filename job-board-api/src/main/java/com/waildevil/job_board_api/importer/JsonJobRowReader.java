@@ -0,0 +1,67 @@
+package com.waildevil.job_board_api.importer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waildevil.job_board_api.dto.JobRequestDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+final class JsonJobRowReader implements Iterator<JobImportRow> {
+
+    private final JsonParser parser;
+    private final ObjectMapper objectMapper;
+    private int row;
+    private JsonToken next;
+
+    JsonJobRowReader(InputStream in, ObjectMapper objectMapper) throws IOException {
+        this.parser = objectMapper.createParser(in);
+        this.objectMapper = objectMapper;
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException("Expected a JSON array of jobs");
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            if (next == null) {
+                next = parser.nextToken();
+            }
+            return next != null && next != JsonToken.END_ARRAY;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public JobImportRow next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        next = null;
+        row++;
+        // Read the whole element first, so a bad value only fails this row and the parser stays in step
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!node.isObject()) {
+            return JobImportRow.invalid(row, "Expected a job object");
+        }
+        try {
+            return JobImportRow.parsed(row, objectMapper.treeToValue(node, JobRequestDto.class));
+        } catch (JsonMappingException e) {
+            return JobImportRow.invalid(row, "Invalid value: " + e.getOriginalMessage());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
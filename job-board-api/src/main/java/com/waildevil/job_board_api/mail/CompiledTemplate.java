@@ -0,0 +1,226 @@
+package com.waildevil.job_board_api.mail;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A template parsed into a tree of literal text, variables and sections, so rendering is a walk over that tree with
+ * one map lookup per variable. The syntax is a small subset of Mustache:
+ * <ul>
+ *     <li>{@code {{name}}} inserts a value, HTML-escaped when the template is HTML</li>
+ *     <li>{@code {{#name}}...{{/name}}} renders its body once per element if the value is a list of maps, whose
+ *     keys are then visible inside it, or once if the value is present and not empty or {@code false}</li>
+ *     <li>{@code {{^name}}...{{/name}}} renders its body if the value is missing, empty or {@code false}</li>
+ * </ul>
+ * A section tag that stands alone on its line takes the whole line with it, so sections do not leave blank lines
+ * behind in text mails. Instances are immutable and safe to share between threads.
+ */
+final class CompiledTemplate {
+
+    private static final Pattern NAME = Pattern.compile("[A-Za-z][A-Za-z0-9_]*");
+    // Room for the values on top of the literal text, so most renders never grow the buffer
+    private static final int VALUE_SIZE_HINT = 24;
+
+    private sealed interface Node permits Text, Variable, Section {
+    }
+
+    private record Text(String value) implements Node {
+    }
+
+    private record Variable(String name) implements Node {
+    }
+
+    private record Section(String name, boolean inverted, Node[] body) implements Node {
+    }
+
+    private record Scope(Map<String, ?> values, Scope parent) {
+        Object get(String name) {
+            for (Scope scope = this; scope != null; scope = scope.parent) {
+                Object value = scope.values.get(name);
+                if (value != null) return value;
+            }
+            return null;
+        }
+    }
+
+    private final String name;
+    private final boolean html;
+    private final Node[] nodes;
+    private final int sizeHint;
+
+    private CompiledTemplate(String name, boolean html, Node[] nodes, int sizeHint) {
+        this.name = name;
+        this.html = html;
+        this.nodes = nodes;
+        this.sizeHint = sizeHint;
+    }
+
+    /**
+     * @param html whether values are HTML-escaped
+     * @throws IllegalArgumentException if the template is malformed
+     */
+    static CompiledTemplate compile(String name, String source, boolean html) {
+        record Open(Section tag, List<Node> parentNodes) {
+        }
+        Deque<Open> open = new ArrayDeque<>();
+        List<Node> nodes = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        int sizeHint = 0;
+        int pos = 0;
+        while (pos < source.length()) {
+            int start = source.indexOf("{{", pos);
+            if (start < 0) {
+                text.append(source, pos, source.length());
+                break;
+            }
+            int end = source.indexOf("}}", start + 2);
+            if (end < 0) {
+                throw new IllegalArgumentException(name + ": unclosed tag at offset " + start);
+            }
+            String tag = source.substring(start + 2, end).trim();
+            char kind = tag.isEmpty() ? ' ' : tag.charAt(0);
+            boolean sectionTag = kind == '#' || kind == '^' || kind == '/';
+            String tagName = sectionTag ? tag.substring(1).trim() : tag;
+            if (!NAME.matcher(tagName).matches()) {
+                throw new IllegalArgumentException(name + ": invalid tag {{" + tag + "}} at offset " + start);
+            }
+
+            int next = end + 2;
+            text.append(source, pos, start);
+            if (sectionTag) {
+                int lineStart = source.lastIndexOf('\n', start - 1) + 1;
+                int lineEnd = source.indexOf('\n', next);
+                if (lineEnd < 0) lineEnd = source.length();
+                if (source.substring(lineStart, start).isBlank() && source.substring(next, lineEnd).isBlank()) {
+                    text.setLength(text.length() - (start - lineStart));
+                    next = Math.min(lineEnd + 1, source.length());
+                }
+            }
+            sizeHint += text.length();
+            flush(text, nodes);
+
+            switch (kind) {
+                case '#', '^' -> {
+                    open.push(new Open(new Section(tagName, kind == '^', null), nodes));
+                    nodes = new ArrayList<>();
+                }
+                case '/' -> {
+                    Open section = open.poll();
+                    if (section == null || !section.tag().name().equals(tagName)) {
+                        throw new IllegalArgumentException(name + ": unexpected {{/" + tagName + "}} at offset " + start);
+                    }
+                    Section closed = new Section(tagName, section.tag().inverted(), nodes.toArray(Node[]::new));
+                    nodes = section.parentNodes();
+                    nodes.add(closed);
+                }
+                default -> {
+                    nodes.add(new Variable(tagName));
+                    sizeHint += VALUE_SIZE_HINT;
+                }
+            }
+            pos = next;
+        }
+        if (!open.isEmpty()) {
+            throw new IllegalArgumentException(name + ": section {{#" + open.peek().tag().name() + "}} is not closed");
+        }
+        sizeHint += text.length();
+        flush(text, nodes);
+        return new CompiledTemplate(name, html, nodes.toArray(Node[]::new), sizeHint);
+    }
+
+    private static void flush(StringBuilder text, List<Node> nodes) {
+        if (text.isEmpty()) return;
+        nodes.add(new Text(text.toString()));
+        text.setLength(0);
+    }
+
+    String name() {
+        return name;
+    }
+
+    /**
+     * Renders the template; missing values render as nothing.
+     */
+    String render(Map<String, ?> model) {
+        StringBuilder out = new StringBuilder(sizeHint);
+        render(nodes, new Scope(model, null), out);
+        return out.toString();
+    }
+
+    private void render(Node[] nodes, Scope scope, StringBuilder out) {
+        for (Node node : nodes) {
+            switch (node) {
+                case Text text -> out.append(text.value());
+                case Variable variable -> {
+                    Object value = scope.get(variable.name());
+                    if (value != null) {
+                        append(value.toString(), out);
+                    }
+                }
+                case Section section -> {
+                    Object value = scope.get(section.name());
+                    if (section.inverted()) {
+                        if (isEmpty(value)) render(section.body(), scope, out);
+                    } else if (value instanceof List<?> items) {
+                        for (Object item : items) {
+                            render(section.body(), item instanceof Map<?, ?> values
+                                    ? new Scope(cast(values), scope) : scope, out);
+                        }
+                    } else if (!isEmpty(value)) {
+                        render(section.body(), scope, out);
+                    }
+                }
+            }
+        }
+    }
+
+    private void append(String value, StringBuilder out) {
+        int first = html ? firstToEscape(value) : -1;
+        if (first < 0) {
+            out.append(value);
+            return;
+        }
+        out.append(value, 0, first);
+        for (int i = first; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    // Most values need no escaping and are appended in one piece
+    private static int firstToEscape(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            switch (value.charAt(i)) {
+                case '&', '<', '>', '"', '\'' -> {
+                    return i;
+                }
+                default -> {
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isEmpty(Object value) {
+        return value == null
+                || Boolean.FALSE.equals(value)
+                || (value instanceof CharSequence chars && chars.isEmpty())
+                || (value instanceof List<?> list && list.isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, ?> cast(Map<?, ?> values) {
+        return (Map<String, ?>) values;
+    }
+}
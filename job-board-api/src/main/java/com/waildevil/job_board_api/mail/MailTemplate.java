@@ -0,0 +1,33 @@
+package com.waildevil.job_board_api.mail;
+
+import java.util.Map;
+
+/**
+ * The compiled subject, text body and optional HTML body of one mail type in one locale.
+ */
+record MailTemplate(CompiledTemplate subject, CompiledTemplate text, CompiledTemplate html) {
+
+    private static final String SUBJECT_PREFIX = "Subject:";
+
+    /**
+     * Parses a {@code .txt} template: a {@code Subject:} line, a blank line and the body.
+     */
+    static MailTemplate compile(String name, String textSource, String htmlSource) {
+        String source = textSource.replace("\r\n", "\n");
+        int headerEnd = source.indexOf("\n\n");
+        if (!source.startsWith(SUBJECT_PREFIX) || headerEnd < 0 || source.indexOf('\n') != headerEnd) {
+            throw new IllegalArgumentException(name + ": expected a Subject: line followed by a blank line");
+        }
+        String subject = source.substring(SUBJECT_PREFIX.length(), headerEnd).trim();
+        return new MailTemplate(
+                CompiledTemplate.compile(name + " subject", subject, false),
+                CompiledTemplate.compile(name, source.substring(headerEnd + 2), false),
+                htmlSource != null ? CompiledTemplate.compile(name + " html", htmlSource, true) : null);
+    }
+
+    RenderedMail render(Map<String, ?> model) {
+        // Values end up in a header, where a line break would start a new one
+        String renderedSubject = subject.render(model).replace('\r', ' ').replace('\n', ' ');
+        return new RenderedMail(renderedSubject, text.render(model), html != null ? html.render(model) : null);
+    }
+}
@@ -0,0 +1,109 @@
+package com.waildevil.job_board_api.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Every mail template of every configured locale, loaded from {@value #LOCATION} and compiled once at startup, so a
+ * broken template stops the application from starting rather than a mail from being sent. A locale without its
+ * own template for a mail type uses the default locale's; the default locale must have all of them.
+ */
+@Slf4j
+@Component
+public class MailTemplates {
+
+    static final String LOCATION = "mail/templates/";
+
+    private final String defaultLocale;
+    private final Map<String, Map<MailType, MailTemplate>> byLocale = new HashMap<>();
+
+    public MailTemplates(@Value("${mail.templates.locales:en,de}") List<String> locales,
+                         @Value("${mail.templates.default-locale:en}") String defaultLocale) {
+        this.defaultLocale = normalize(defaultLocale);
+        Map<MailType, MailTemplate> defaults = new EnumMap<>(MailType.class);
+        for (MailType type : MailType.values()) {
+            MailTemplate template = load(this.defaultLocale, type);
+            if (template == null) {
+                throw new IllegalStateException("Missing mail template " + path(this.defaultLocale, type, "txt"));
+            }
+            defaults.put(type, template);
+        }
+        byLocale.put(this.defaultLocale, defaults);
+
+        for (String locale : locales) {
+            String key = normalize(locale);
+            if (byLocale.containsKey(key)) continue;
+            Map<MailType, MailTemplate> templates = new EnumMap<>(MailType.class);
+            for (MailType type : MailType.values()) {
+                MailTemplate template = load(key, type);
+                if (template == null) {
+                    log.warn("No {} mail template for locale {}, using {}", type.file(), key, this.defaultLocale);
+                    template = defaults.get(type);
+                }
+                templates.put(type, template);
+            }
+            byLocale.put(key, templates);
+        }
+        log.info("Compiled {} mail templates for locales {}", MailType.values().length, byLocale.keySet());
+    }
+
+    /**
+     * Renders a mail in the given locale, e.g. {@code de-AT}, falling back to its language and then to the default
+     * locale. A null locale means the default one.
+     */
+    public RenderedMail render(MailType type, String locale, Map<String, ?> model) {
+        return templatesFor(locale).get(type).render(model);
+    }
+
+    public boolean supports(String locale) {
+        return locale != null && byLocale.containsKey(supportedKey(normalize(locale)));
+    }
+
+    private Map<MailType, MailTemplate> templatesFor(String locale) {
+        if (locale == null) return byLocale.get(defaultLocale);
+        Map<MailType, MailTemplate> templates = byLocale.get(supportedKey(normalize(locale)));
+        return templates != null ? templates : byLocale.get(defaultLocale);
+    }
+
+    private String supportedKey(String locale) {
+        if (byLocale.containsKey(locale)) return locale;
+        int separator = locale.indexOf('-');
+        return separator > 0 ? locale.substring(0, separator) : locale;
+    }
+
+    private static MailTemplate load(String locale, MailType type) {
+        String text = read(path(locale, type, "txt"));
+        if (text == null) return null;
+        return MailTemplate.compile(locale + "/" + type.file(), text, read(path(locale, type, "html")));
+    }
+
+    private static String read(String path) {
+        ClassPathResource resource = new ClassPathResource(path);
+        if (!resource.exists()) return null;
+        try (InputStream in = resource.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load " + path, e);
+        }
+    }
+
+    private static String path(String locale, MailType type, String extension) {
+        return LOCATION + locale + "/" + type.file() + "." + extension;
+    }
+
+    private static String normalize(String locale) {
+        return locale.trim().replace('_', '-').toLowerCase(Locale.ROOT);
+    }
+}
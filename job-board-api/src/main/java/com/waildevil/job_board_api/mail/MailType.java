@@ -0,0 +1,25 @@
+package com.waildevil.job_board_api.mail;
+
+/**
+ * The mails the platform sends. Each one has a {@code <file>.txt} template per locale under
+ * {@value MailTemplates#LOCATION}, whose first line is the subject, and optionally a {@code <file>.html} body.
+ */
+public enum MailType {
+
+    STATUS_ACCEPTED("status-accepted"),
+    STATUS_REJECTED("status-rejected"),
+    STATUS_PENDING("status-pending"),
+    STATUS_DIGEST("status-digest"),
+    JOB_ALERT("job-alert"),
+    PASSWORD_RESET("password-reset");
+
+    private final String file;
+
+    MailType(String file) {
+        this.file = file;
+    }
+
+    public String file() {
+        return file;
+    }
+}
@@ -0,0 +1,261 @@
+package com.waildevil.job_board_api.mail;
+
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link JavaMailSenderImpl} that keeps up to {@code maxSessions} connected, authenticated SMTP sessions open
+ * between sends instead of connecting (and negotiating STARTTLS) for every call. A batch is split across several
+ * sessions that send their share concurrently, one message after another on the same connection.
+ * <p>
+ * A session is replaced after {@code maxMessagesPerSession} messages, since many servers cap that, and when it sat
+ * idle longer than {@code idleTimeout}, before the server drops it. If a connection breaks mid-batch the session is
+ * reconnected and the message retried once, so callers only see failures the server reports for the message itself
+ * or a server that stays unreachable.
+ */
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    // Smaller batches are sent on one session; splitting them would cost more connections than it saves
+    static final int MIN_MESSAGES_PER_SLICE = 10;
+
+    private final int maxSessions;
+    private final int maxMessagesPerSession;
+    private final long idleTimeoutMillis;
+
+    private final BlockingDeque<PooledSession> idle = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+    private final ExecutorService senders;
+    private final LongAdder connectionsOpened = new LongAdder();
+
+    private static final class PooledSession {
+        private final Transport transport;
+        private int messagesSent;
+        private long lastUsed;
+
+        private PooledSession(Transport transport) {
+            this.transport = transport;
+        }
+    }
+
+    public PooledJavaMailSender(int maxSessions, int maxMessagesPerSession, Duration idleTimeout) {
+        if (maxSessions < 1 || maxMessagesPerSession < 1) {
+            throw new IllegalArgumentException("A mail session pool needs at least one session and one message per session");
+        }
+        this.maxSessions = maxSessions;
+        this.maxMessagesPerSession = maxMessagesPerSession;
+        this.idleTimeoutMillis = idleTimeout.toMillis();
+        this.permits = new Semaphore(maxSessions, true);
+        AtomicInteger threads = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(maxSessions, task -> {
+            Thread thread = new Thread(task, "smtp-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Number of SMTP connections opened so far, including reconnects.
+     */
+    public long connectionsOpened() {
+        return connectionsOpened.sum();
+    }
+
+    public int idleSessions() {
+        return idle.size();
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+        Map<Object, Exception> failedMessages = Collections.synchronizedMap(new LinkedHashMap<>());
+        int slices = Math.min(maxSessions, Math.max(1, mimeMessages.length / MIN_MESSAGES_PER_SLICE));
+        if (slices == 1) {
+            sendSlice(mimeMessages, originalMessages, 0, mimeMessages.length, failedMessages);
+        } else {
+            int sliceSize = (mimeMessages.length + slices - 1) / slices;
+            List<Future<?>> futures = new ArrayList<>(slices);
+            for (int from = 0; from < mimeMessages.length; from += sliceSize) {
+                int start = from;
+                int end = Math.min(mimeMessages.length, from + sliceSize);
+                futures.add(senders.submit(() -> sendSlice(mimeMessages, originalMessages, start, end, failedMessages)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new MailSendException("Interrupted while sending mail", e);
+                } catch (ExecutionException e) {
+                    throw new MailSendException("Sending mail failed", e.getCause());
+                }
+            }
+        }
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    private void sendSlice(MimeMessage[] messages, Object[] originals, int from, int to, Map<Object, Exception> failed) {
+        PooledSession session;
+        try {
+            session = borrow();
+        } catch (MessagingException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            for (int i = from; i < to; i++) {
+                failed.put(original(messages, originals, i), e);
+            }
+            return;
+        }
+
+        try {
+            for (int i = from; i < to; i++) {
+                if (session == null) {
+                    failed.put(original(messages, originals, i), new MessagingException("No SMTP connection"));
+                    continue;
+                }
+                if (session.messagesSent >= maxMessagesPerSession) {
+                    session = replace(session);
+                    i--;
+                    continue;
+                }
+                try {
+                    send(session, messages[i]);
+                } catch (SendFailedException e) {
+                    // Rejected by the server, e.g. an invalid recipient; the connection is still fine
+                    failed.put(original(messages, originals, i), e);
+                } catch (MessagingException e) {
+                    if (isConnected(session)) {
+                        failed.put(original(messages, originals, i), e);
+                        continue;
+                    }
+                    log.debug("SMTP connection dropped, reconnecting: {}", e.getMessage());
+                    session = replace(session);
+                    try {
+                        if (session == null) throw e;
+                        send(session, messages[i]);
+                    } catch (MessagingException retryFailed) {
+                        failed.put(original(messages, originals, i), retryFailed);
+                    }
+                }
+            }
+        } finally {
+            release(session);
+        }
+    }
+
+    private void send(PooledSession session, MimeMessage message) throws MessagingException {
+        // Same preparation as JavaMailSenderImpl.doSend
+        if (message.getSentDate() == null) {
+            message.setSentDate(new Date());
+        }
+        String messageId = message.getMessageID();
+        message.saveChanges();
+        if (messageId != null) {
+            message.setHeader("Message-ID", messageId);
+        }
+        Address[] addresses = message.getAllRecipients();
+        session.transport.sendMessage(message, addresses != null ? addresses : new Address[0]);
+        session.messagesSent++;
+    }
+
+    private PooledSession borrow() throws MessagingException, InterruptedException {
+        permits.acquire();
+        try {
+            long now = System.currentTimeMillis();
+            // Most recently used first; the ones at the other end are the first to go stale
+            PooledSession oldest;
+            while ((oldest = idle.pollLast()) != null) {
+                if (now - oldest.lastUsed <= idleTimeoutMillis) {
+                    idle.offerLast(oldest);
+                    break;
+                }
+                close(oldest);
+            }
+            PooledSession session = idle.pollFirst();
+            return session != null ? session : open();
+        } catch (MessagingException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    // Returns a fresh session in place of a broken or used-up one, or null if the server cannot be reached
+    private PooledSession replace(PooledSession session) {
+        close(session);
+        try {
+            return open();
+        } catch (MessagingException e) {
+            log.debug("Could not reconnect to the SMTP server: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void release(PooledSession session) {
+        try {
+            if (session != null) {
+                session.lastUsed = System.currentTimeMillis();
+                idle.offerFirst(session);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private PooledSession open() throws MessagingException {
+        Transport transport = connectTransport();
+        connectionsOpened.increment();
+        return new PooledSession(transport);
+    }
+
+    private static boolean isConnected(PooledSession session) {
+        // Sends a NOOP on SMTP; only asked after a failure
+        return session.transport.isConnected();
+    }
+
+    private static void close(PooledSession session) {
+        try {
+            session.transport.close();
+        } catch (MessagingException e) {
+            log.debug("Could not close SMTP connection cleanly: {}", e.getMessage());
+        }
+    }
+
+    private static Object original(MimeMessage[] messages, Object[] originals, int index) {
+        return originals != null ? originals[index] : messages[index];
+    }
+
+    @Override
+    public void destroy() {
+        senders.shutdown();
+        PooledSession session;
+        while ((session = idle.poll()) != null) {
+            close(session);
+        }
+    }
+}
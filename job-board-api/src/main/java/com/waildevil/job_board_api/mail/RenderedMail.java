@@ -0,0 +1,7 @@
+package com.waildevil.job_board_api.mail;
+
+/**
+ * A mail ready to be queued; {@code html} is null for text-only mails.
+ */
+public record RenderedMail(String subject, String text, String html) {
+}
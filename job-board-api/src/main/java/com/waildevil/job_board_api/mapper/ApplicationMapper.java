@@ -4,22 +4,27 @@ import com.waildevil.job_board_api.dto.*;
 import com.waildevil.job_board_api.entity.Application;
 import com.waildevil.job_board_api.entity.Job;
 import com.waildevil.job_board_api.entity.User;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ApplicationMapper {
 
-    private final ModelMapper mapper = new ModelMapper();
-
     public ApplicationResponseDto toDto(Application application) {
-        ApplicationResponseDto dto = mapper.map(application, ApplicationResponseDto.class);
-        dto.setUserId(application.getUser().getId());
-        dto.setJobId(application.getJob().getId());
-        dto.setStatus(application.getStatus());
-        dto.setCandidateName(application.getUser().getName());
-        dto.setCompanyName(application.getJob().getCompany().getName());
-        return dto;
+        Job job = application.getJob();
+        User user = application.getUser();
+        return ApplicationResponseDto.builder()
+                .id(application.getId())
+                .resume(application.getResume())
+                .coverLetter(application.getCoverLetter())
+                .phoneNumber(application.getPhoneNumber())
+                .candidateName(user.getName())
+                .jobTitle(job.getTitle())
+                .companyName(job.getCompany().getName())
+                .appliedAt(application.getAppliedAt())
+                .jobId(job.getId())
+                .userId(user.getId())
+                .status(application.getStatus())
+                .build();
     }
 
     public Application toEntity(ApplicationResponseDto dto, User user, Job job) {
@@ -2,20 +2,31 @@ package com.waildevil.job_board_api.mapper;
 
 import com.waildevil.job_board_api.dto.CompanyDto;
 import com.waildevil.job_board_api.entity.Company;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
 
 @Component
 public class CompanyMapper {
 
-    private final ModelMapper mapper = new ModelMapper();
-
     public CompanyDto toDto(Company company) {
-        return mapper.map(company, CompanyDto.class);
+        return CompanyDto.builder()
+                .id(company.getId())
+                .name(company.getName())
+                .industry(company.getIndustry())
+                .website(company.getWebsite())
+                .description(company.getDescription())
+                .location(company.getLocation())
+                .build();
     }
 
     public Company toEntity(CompanyDto dto) {
-        return mapper.map(dto, Company.class);
+        return Company.builder()
+                .id(dto.getId())
+                .name(dto.getName())
+                .industry(dto.getIndustry())
+                .website(dto.getWebsite())
+                .description(dto.getDescription())
+                .location(dto.getLocation())
+                .build();
     }
 
     public void updateEntity(Company company, CompanyDto dto) {
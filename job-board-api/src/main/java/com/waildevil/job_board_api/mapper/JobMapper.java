@@ -6,7 +6,6 @@ import com.waildevil.job_board_api.dto.RecruiterResponseDto;
 import com.waildevil.job_board_api.entity.Category;
 import com.waildevil.job_board_api.entity.Job;
 import com.waildevil.job_board_api.entity.User;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -37,6 +36,8 @@ public class JobMapper {
                 .recruiter(toRecruiterResponseDto(job))
                 .category(job.getCategory() != null ? job.getCategory().getName() : null)
                 .createdAt(job.getCreatedAt())
+                .latitude(job.getLatitude())
+                .longitude(job.getLongitude())
                 .build();
     }
 
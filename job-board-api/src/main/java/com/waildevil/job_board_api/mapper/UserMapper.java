@@ -4,6 +4,7 @@ import com.waildevil.job_board_api.dto.UserRegistrationDto;
 import com.waildevil.job_board_api.dto.UserResponseDto;
 import com.waildevil.job_board_api.dto.UserUpdateDto;
 import com.waildevil.job_board_api.entity.Company;
+import com.waildevil.job_board_api.entity.NotificationDelivery;
 import com.waildevil.job_board_api.entity.Role;
 import com.waildevil.job_board_api.entity.User;
 import org.springframework.stereotype.Component;
@@ -31,6 +32,9 @@ public class UserMapper {
                 .companyId(user.getCompany() != null ? user.getCompany().getId() : null)
                 .companyName(user.getCompany() != null ? user.getCompany().getName() : null)
                 .provider(user.getProvider() != null ? user.getProvider().name() : "LOCAL")
+                .notificationDelivery(user.getNotificationDelivery() != null
+                        ? user.getNotificationDelivery() : NotificationDelivery.IMMEDIATE)
+                .locale(user.getLocale())
                 .build();
     }
 
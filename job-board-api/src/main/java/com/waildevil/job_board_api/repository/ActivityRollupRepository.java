@@ -0,0 +1,37 @@
+package com.waildevil.job_board_api.repository;
+
+import com.waildevil.job_board_api.entity.ActivityMetric;
+import com.waildevil.job_board_api.entity.ActivityRollup;
+import com.waildevil.job_board_api.entity.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Both queries are range or point lookups on uk_activity_rollups_bucket (granularity, bucket_start, metric).
+ */
+public interface ActivityRollupRepository extends JpaRepository<ActivityRollup, Long> {
+
+    // Source rows of one hour, counted by the source repositories for the rollups
+    interface HourCount {
+        Instant getHour();
+
+        long getCount();
+    }
+
+    @Query("""
+            SELECT r FROM ActivityRollup r
+            WHERE r.granularity = :granularity AND r.bucketStart >= :from AND r.bucketStart < :to""")
+    List<ActivityRollup> findInRange(@Param("granularity") RollupGranularity granularity,
+                                     @Param("from") Instant from, @Param("to") Instant to);
+
+    @Query("""
+            SELECT r FROM ActivityRollup r
+            WHERE r.granularity = :granularity AND r.bucketStart IN :starts AND r.metric = :metric""")
+    List<ActivityRollup> findBuckets(@Param("granularity") RollupGranularity granularity,
+                                     @Param("starts") Collection<Instant> starts, @Param("metric") ActivityMetric metric);
+}
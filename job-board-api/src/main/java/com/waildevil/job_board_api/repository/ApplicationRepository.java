@@ -3,29 +3,142 @@ package com.waildevil.job_board_api.repository;
 import com.waildevil.job_board_api.entity.Application;
 import com.waildevil.job_board_api.entity.ApplicationStatus;
 import com.waildevil.job_board_api.entity.Job;
+import com.waildevil.job_board_api.entity.NotificationDelivery;
 import com.waildevil.job_board_api.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * Reads fetch the job (with its company and recruiter), the candidate and the company together with the
+ * application, which is everything the application DTOs and ownership checks look at.
+ */
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
 
+    interface Applicant {
+        Long getId();
+
+        Long getUserId();
+
+        String getEmail();
+
+        NotificationDelivery getNotificationDelivery();
+
+        String getLocale();
+    }
+
+    interface StatusTotal {
+        ApplicationStatus getStatus();
+
+        long getCount();
+    }
+
+    interface StatusCount {
+        Long getJobId();
+
+        ApplicationStatus getStatus();
+
+        long getCount();
+    }
+
+    // Like ActivityRollupRepository.HourCount, in the server-local time of appliedAt and statusChangedAt
+    interface LocalHourCount {
+        LocalDateTime getHour();
+
+        long getCount();
+    }
+
     boolean existsByUserAndJob(User user, Job job);
 
+    @EntityGraph(attributePaths = {"job", "job.company", "job.recruiter", "user", "company"})
     @Query("SELECT a FROM Application a WHERE a.job.recruiter.email = :email")
     List<Application> findByRecruiterEmail(@Param("email") String email);
 
 
+    @EntityGraph(attributePaths = {"job", "job.company", "job.recruiter", "user", "company"})
     List<Application> findByUserEmail(String email);
 
+    @EntityGraph(attributePaths = {"job", "job.company", "job.recruiter", "user", "company"})
     List<Application> findByJobId(Long jobId);
 
-    @Query("SELECT COUNT(a) FROM Application a WHERE a.job = :job AND a.status = :status")
-    long countAcceptedApplications(@Param("job") Job job, @Param("status") ApplicationStatus status);
-
-    List<Application> findByJobAndStatus(Job job, ApplicationStatus status);
+    @Override
+    @EntityGraph(attributePaths = {"job", "job.company", "job.recruiter", "user", "company"})
+    Optional<Application> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = {"job", "job.company", "job.recruiter", "user", "company"})
+    List<Application> findAll();
+
+    // Forward-only reads for the exports; callers must consume them inside a transaction and close them
+    @EntityGraph(attributePaths = {"job", "job.company", "job.recruiter", "user", "company"})
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Application a ORDER BY a.id")
+    Stream<Application> streamAll();
+
+    @EntityGraph(attributePaths = {"job", "job.company", "job.recruiter", "user", "company"})
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Application a WHERE a.job.recruiter.email = :email ORDER BY a.id")
+    Stream<Application> streamByRecruiterEmail(@Param("email") String email);
+
+    // Full scan, only run when the platform counters are recomputed
+    @Query("SELECT a.status AS status, COUNT(a) AS count FROM Application a GROUP BY a.status")
+    List<StatusTotal> countByStatus();
+
+    // Source of truth for the job_application_stats counters, only read when they are created or reconciled
+    @Query("SELECT a.job.id AS jobId, a.status AS status, COUNT(a) AS count FROM Application a GROUP BY a.job.id, a.status")
+    List<StatusCount> countByJobAndStatus();
+
+    @Query("SELECT a.job.id AS jobId, a.status AS status, COUNT(a) AS count FROM Application a "
+            + "WHERE a.job.id = :jobId GROUP BY a.job.id, a.status")
+    List<StatusCount> countByStatusForJob(@Param("jobId") Long jobId);
+
+    @Query("""
+            SELECT a.id AS id, u.id AS userId, u.email AS email, u.notificationDelivery AS notificationDelivery,
+                   u.locale AS locale
+            FROM Application a JOIN a.user u WHERE a.job = :job AND a.status = :status""")
+    List<Applicant> findApplicantsByJobAndStatus(@Param("job") Job job, @Param("status") ApplicationStatus status);
+
+    // The status guard skips rows that changed since the ids were read
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Application a SET a.status = :status, a.statusChangedAt = :changedAt
+            WHERE a.id IN :ids AND a.status = :expected""")
+    int updateStatus(@Param("ids") List<Long> ids, @Param("expected") ApplicationStatus expected,
+                     @Param("status") ApplicationStatus status, @Param("changedAt") LocalDateTime changedAt);
+
+    // Applications and decisions per hour for the activity rollups, range scans on idx_applications_applied_at and
+    // idx_applications_status_changed_at
+    @Query("""
+            SELECT truncate(a.appliedAt, hour) AS hour, COUNT(a) AS count FROM Application a
+            WHERE a.appliedAt >= :from AND a.appliedAt < :to
+            GROUP BY truncate(a.appliedAt, hour)""")
+    List<LocalHourCount> countAppliedPerHour(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("""
+            SELECT truncate(a.statusChangedAt, hour) AS hour, COUNT(a) AS count FROM Application a
+            WHERE a.status = :status AND a.statusChangedAt >= :from AND a.statusChangedAt < :to
+            GROUP BY truncate(a.statusChangedAt, hour)""")
+    List<LocalHourCount> countStatusChangedPerHour(@Param("status") ApplicationStatus status,
+                                                   @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT MIN(a.appliedAt) FROM Application a")
+    Optional<LocalDateTime> findFirstAppliedAt();
 
     boolean existsByUserIdAndJobId(Long userId, Long jobId);
 
@@ -0,0 +1,39 @@
+package com.waildevil.job_board_api.repository;
+
+import com.waildevil.job_board_api.entity.JobApplicationStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Creates the stats row of a job that has none yet. Two transactions can find the row missing at the same time;
+ * {@code save} would then merge in both and fail the second one with a duplicate key. Here the second insert waits
+ * for the first and is dropped, so both go on with their relative UPDATEs. The plain JDBC insert leaves the
+ * caller's JPA transaction usable after the duplicate key error, where a failed JPA query would mark it rollback-only.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobApplicationStatsInsertRepository {
+
+    private static final String INSERT = """
+            INSERT INTO job_application_stats (job_id, pending_count, accepted_count, rejected_count, remaining_positions)
+            VALUES (?, ?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the row unless the job already has one. Joins the caller's transaction.
+     *
+     * @return whether this call inserted it
+     */
+    public boolean insertIfAbsent(JobApplicationStats stats) {
+        try {
+            jdbcTemplate.update(INSERT, stats.getJobId(), stats.getPendingCount(), stats.getAcceptedCount(),
+                    stats.getRejectedCount(), stats.getRemainingPositions());
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
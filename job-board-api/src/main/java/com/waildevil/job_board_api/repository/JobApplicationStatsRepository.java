@@ -0,0 +1,55 @@
+package com.waildevil.job_board_api.repository;
+
+import com.waildevil.job_board_api.entity.JobApplicationStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * Counters are changed with relative UPDATEs, so concurrent transactions queue on the row lock instead of
+ * overwriting each other's read-modify-write.
+ */
+public interface JobApplicationStatsRepository extends JpaRepository<JobApplicationStats, Long> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO job_application_stats (job_id, pending_count, accepted_count, rejected_count, remaining_positions)
+            VALUES (:jobId, 0, 0, 0, :positions)""", nativeQuery = true)
+    void insertEmpty(@Param("jobId") Long jobId, @Param("positions") int positions);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE JobApplicationStats s
+            SET s.pendingCount = s.pendingCount + :pending,
+                s.acceptedCount = s.acceptedCount + :accepted,
+                s.rejectedCount = s.rejectedCount + :rejected,
+                s.remainingPositions = s.remainingPositions - :accepted
+            WHERE s.jobId = :jobId""")
+    int addCounts(@Param("jobId") Long jobId, @Param("pending") long pending, @Param("accepted") int accepted,
+                  @Param("rejected") long rejected);
+
+    // Takes one position only while one is left; the row lock is held until the caller's transaction ends
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE JobApplicationStats s
+            SET s.acceptedCount = s.acceptedCount + 1,
+                s.remainingPositions = s.remainingPositions - 1,
+                s.pendingCount = s.pendingCount - :fromPending,
+                s.rejectedCount = s.rejectedCount - :fromRejected
+            WHERE s.jobId = :jobId AND s.remainingPositions > 0""")
+    int reservePosition(@Param("jobId") Long jobId, @Param("fromPending") long fromPending,
+                        @Param("fromRejected") long fromRejected);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobApplicationStats s SET s.remainingPositions = :positions - s.acceptedCount WHERE s.jobId = :jobId")
+    int updatePositions(@Param("jobId") Long jobId, @Param("positions") int positions);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM JobApplicationStats s WHERE s.jobId = :jobId")
+    Optional<JobApplicationStats> findForUpdate(@Param("jobId") Long jobId);
+}
@@ -0,0 +1,85 @@
+package com.waildevil.job_board_api.repository;
+
+import com.waildevil.job_board_api.entity.Job;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Inserts jobs as one JDBC batch. Hibernate cannot batch inserts for IDENTITY ids, and switching the id generator
+ * would clash with the AUTO_INCREMENT values already in the table. With {@code rewriteBatchedStatements=true}
+ * MySQL Connector/J sends the batch as multi-row INSERTs and still returns every generated id. Each job also gets
+ * its empty {@code job_application_stats} row in a second batch.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobBatchInsertRepository {
+
+    private static final String INSERT = """
+            INSERT INTO jobs (title, description, location, latitude, longitude, salary, min_salary, max_salary,
+                              type, available_positions, created_at, company_id, recruiter_id, category_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private static final String INSERT_STATS = """
+            INSERT INTO job_application_stats (job_id, pending_count, accepted_count, rejected_count, remaining_positions)
+            VALUES (?, 0, 0, 0, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the jobs with their stats rows and sets their generated ids. Joins the caller's transaction.
+     */
+    public void insertAll(List<Job> jobs) {
+        if (jobs.isEmpty()) return;
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT, Statement.RETURN_GENERATED_KEYS)) {
+                for (Job job : jobs) {
+                    statement.setString(1, job.getTitle());
+                    statement.setString(2, job.getDescription());
+                    statement.setString(3, job.getLocation());
+                    statement.setObject(4, job.getLatitude(), Types.DOUBLE);
+                    statement.setObject(5, job.getLongitude(), Types.DOUBLE);
+                    statement.setString(6, job.getSalaryText());
+                    statement.setObject(7, job.getMinSalary(), Types.INTEGER);
+                    statement.setObject(8, job.getMaxSalary(), Types.INTEGER);
+                    statement.setString(9, job.getType());
+                    statement.setInt(10, job.getAvailablePositions());
+                    statement.setTimestamp(11, Timestamp.from(job.getCreatedAt()));
+                    statement.setObject(12, job.getCompany() != null ? job.getCompany().getId() : null, Types.BIGINT);
+                    statement.setObject(13, job.getRecruiter() != null ? job.getRecruiter().getId() : null, Types.BIGINT);
+                    statement.setLong(14, job.getCategory().getId());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    int i = 0;
+                    while (keys.next()) {
+                        jobs.get(i++).setId(keys.getLong(1));
+                    }
+                    if (i != jobs.size()) {
+                        throw new IncorrectResultSizeDataAccessException("Generated ids of the job batch",
+                                jobs.size(), i);
+                    }
+                }
+            }
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_STATS)) {
+                for (Job job : jobs) {
+                    statement.setLong(1, job.getId());
+                    statement.setInt(2, job.getAvailablePositions());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+            return null;
+        });
+    }
+}
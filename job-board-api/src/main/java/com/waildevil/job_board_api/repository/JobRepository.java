@@ -2,51 +2,152 @@ package com.waildevil.job_board_api.repository;
 
 import com.waildevil.job_board_api.entity.Job;
 import com.waildevil.job_board_api.entity.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
-public interface JobRepository extends JpaRepository<Job, Long> {
+/**
+ * Every read that returns jobs fetches company, recruiter and category in the same select, since all of them end up
+ * in {@link com.waildevil.job_board_api.dto.JobResponseDto} and the associations are lazy.
+ */
+public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificationExecutor<Job> {
 
+    interface RecruiterJobRow {
+        Long getJobId();
+
+        String getTitle();
+
+        String getLocation();
+
+        Instant getCreatedAt();
+
+        int getAvailablePositions();
+
+        // Null for jobs whose stats row has not been created yet
+        Long getPendingCount();
+
+        Long getAcceptedCount();
+
+        Long getRejectedCount();
+
+        Integer getRemainingPositions();
+
+        LocalDateTime getLatestAppliedAt();
+    }
+
+    interface Positions {
+        Long getId();
+
+        int getAvailablePositions();
+    }
+
+    @EntityGraph(attributePaths = {"company", "recruiter", "category"})
     List<Job> findByRecruiter(User recruiter);
+
+    @EntityGraph(attributePaths = {"company", "recruiter", "category"})
     List<Job> findByRecruiterId(Long recruiterId);
 
+    @Override
+    @EntityGraph(attributePaths = {"company", "recruiter", "category"})
+    Optional<Job> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = {"company", "recruiter", "category"})
+    List<Job> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = {"company", "recruiter", "category"})
+    Page<Job> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = {"company", "recruiter", "category"})
+    List<Job> findAll(Specification<Job> spec);
+
+    @Override
+    @EntityGraph(attributePaths = {"company", "recruiter", "category"})
+    List<Job> findAllById(Iterable<Long> ids);
+
+    /** Offset page without the {@code COUNT(*)} that {@link #findAll(Pageable)} runs. */
+    @EntityGraph(attributePaths = {"company", "recruiter", "category"})
+    Slice<Job> findAllBy(Pageable pageable);
 
+    // Newest first, walked with a (createdAt, id) seek on idx_jobs_created_at_id instead of an OFFSET
+    @EntityGraph(attributePaths = {"company", "recruiter", "category"})
+    @Query("SELECT j FROM Job j ORDER BY j.createdAt DESC, j.id DESC")
+    List<Job> findLatest(Limit limit);
 
-    @Query("SELECT j FROM Job j WHERE " +
-            "(:keyword IS NULL OR LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
-            "(:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) AND " +
-            "(:category IS NULL OR j.category.name = :category) AND " +
-            "(:type IS NULL OR j.type = :type) AND " +
-            "(:minSalary IS NULL OR j.maxSalary >= :minSalary)")
-    List<Job> searchJobs(
-            @Param("keyword") String keyword,
-            @Param("location") String location,
-            @Param("category") String category,
-            @Param("type") String type,
-            @Param("minSalary") Integer minSalary
-    );
+    // The redundant "createdAt <=" gives MySQL a single index range to scan for the OR
+    @EntityGraph(attributePaths = {"company", "recruiter", "category"})
+    @Query("""
+            SELECT j FROM Job j
+            WHERE j.createdAt <= :createdAt AND (j.createdAt < :createdAt OR j.id < :id)
+            ORDER BY j.createdAt DESC, j.id DESC""")
+    List<Job> findLatestBefore(@Param("createdAt") Instant createdAt, @Param("id") Long id, Limit limit);
 
+    /**
+     * One newest-first page of the jobs matching {@code filter}, after {@code (createdAt, id)} unless that is null.
+     * Reads only the rows of the page, with the associations fetched like the queries above.
+     */
+    default List<Job> findLatestMatching(Specification<Job> filter, Instant createdAt, Long id, int limit) {
+        Specification<Job> spec = createdAt != null ? filter.and(JobSpecifications.createdBefore(createdAt, id)) : filter;
+        return findBy(spec, query -> query
+                .sortBy(Sort.by(Sort.Direction.DESC, "createdAt", "id"))
+                .limit(limit)
+                .project("company", "recruiter", "category")
+                .all());
+    }
 
     @Query("SELECT COUNT(j) FROM Job j WHERE j.maxSalary >= :salary")
     long countByMinExpectedSalary(@Param("salary") Integer salary);
 
+    // Counts come from job_application_stats; only the newest application time is aggregated, which
+    // idx_applications_job_applied_at answers per job without reading the application rows
+    @Query("""
+            SELECT j.id AS jobId, j.title AS title, j.location AS location, j.createdAt AS createdAt,
+                   j.availablePositions AS availablePositions,
+                   s.pendingCount AS pendingCount, s.acceptedCount AS acceptedCount,
+                   s.rejectedCount AS rejectedCount, s.remainingPositions AS remainingPositions,
+                   MAX(a.appliedAt) AS latestAppliedAt
+            FROM Job j
+            LEFT JOIN JobApplicationStats s ON s.jobId = j.id
+            LEFT JOIN Application a ON a.job = j
+            WHERE j.recruiter.id = :recruiterId
+            GROUP BY j.id, j.title, j.location, j.createdAt, j.availablePositions,
+                     s.pendingCount, s.acceptedCount, s.rejectedCount, s.remainingPositions
+            ORDER BY j.createdAt DESC, j.id DESC""")
+    List<RecruiterJobRow> findDashboardRows(@Param("recruiterId") Long recruiterId);
+
+    @Query("SELECT j.id AS id, j.availablePositions AS availablePositions FROM Job j")
+    List<Positions> findAllPositions();
+
+    @Query("SELECT j.availablePositions FROM Job j WHERE j.id = :id")
+    Optional<Integer> findAvailablePositions(@Param("id") Long id);
+
+    // Postings per hour for the activity rollups, a range scan on idx_jobs_created_at_id
+    @Query("""
+            SELECT truncate(j.createdAt, hour) AS hour, COUNT(j) AS count FROM Job j
+            WHERE j.createdAt >= :from AND j.createdAt < :to
+            GROUP BY truncate(j.createdAt, hour)""")
+    List<ActivityRollupRepository.HourCount> countCreatedPerHour(@Param("from") Instant from,
+                                                                 @Param("to") Instant to);
+
+    @Query("SELECT MIN(j.createdAt) FROM Job j")
+    Optional<Instant> findFirstCreatedAt();
+
 
-    @Query("SELECT COUNT(j) FROM Job j " +
-            "WHERE (:keyword IS NULL OR LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-            "AND (:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) " +
-            "AND (:type IS NULL OR j.type = :type) " +
-            "AND (:category IS NULL OR j.category.name = :category) " +
-            "AND (:salary IS NULL OR j.maxSalary >= :salary)")
-    long countByFilters(
-            @Param("keyword") String keyword,
-            @Param("location") String location,
-            @Param("type") String type,
-            @Param("category") String category,
-            @Param("salary") Integer salary
-    );
 
 
 
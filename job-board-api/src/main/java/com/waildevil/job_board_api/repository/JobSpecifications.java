@@ -0,0 +1,65 @@
+package com.waildevil.job_board_api.repository;
+
+import com.waildevil.job_board_api.entity.Job;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Builds job filter queries from only the filters that are actually set, instead of one
+ * {@code (:x IS NULL OR ...)} query for every combination, so MySQL can pick an index per combination.
+ */
+public final class JobSpecifications {
+
+    private JobSpecifications() {
+    }
+
+    public static Specification<Job> matching(String keyword, String location, String category, String type, Integer minSalary) {
+        List<Specification<Job>> specs = new ArrayList<>();
+        if (hasText(keyword)) specs.add(titleContains(keyword));
+        if (hasText(location)) specs.add(locationContains(location));
+        if (hasText(category)) specs.add(inCategory(category));
+        if (hasText(type)) specs.add(hasType(type));
+        if (minSalary != null) specs.add(maxSalaryAtLeast(minSalary));
+        return Specification.allOf(specs);
+    }
+
+    public static Specification<Job> titleContains(String keyword) {
+        String pattern = "%" + keyword.trim().toLowerCase(Locale.ROOT) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("title")), pattern);
+    }
+
+    public static Specification<Job> locationContains(String location) {
+        String pattern = "%" + location.trim().toLowerCase(Locale.ROOT) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("location")), pattern);
+    }
+
+    public static Specification<Job> inCategory(String category) {
+        return (root, query, cb) -> cb.equal(root.join("category").get("name"), category.trim());
+    }
+
+    public static Specification<Job> hasType(String type) {
+        return (root, query, cb) -> cb.equal(root.get("type"), type.trim());
+    }
+
+    public static Specification<Job> maxSalaryAtLeast(int minSalary) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("maxSalary"), minSalary);
+    }
+
+    /**
+     * Jobs after {@code (createdAt, id)} in newest-first order, the same seek as
+     * {@link JobRepository#findLatestBefore}.
+     */
+    public static Specification<Job> createdBefore(Instant createdAt, long id) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get("createdAt"), createdAt),
+                cb.or(cb.lessThan(root.get("createdAt"), createdAt), cb.lessThan(root.get("id"), id)));
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
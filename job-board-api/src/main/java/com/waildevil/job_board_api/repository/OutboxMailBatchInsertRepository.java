@@ -0,0 +1,40 @@
+package com.waildevil.job_board_api.repository;
+
+import com.waildevil.job_board_api.entity.OutboxMail;
+import com.waildevil.job_board_api.entity.OutboxMailStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Writes outbox mails as one JDBC batch, for the same reason as {@link JobBatchInsertRepository}: accepting the
+ * last position of a job can queue hundreds of rejection mails in the accepting transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxMailBatchInsertRepository {
+
+    private static final String INSERT = """
+            INSERT INTO mail_outbox (recipient, subject, body, html_body, status, attempts, next_attempt_at, created_at)
+            VALUES (?, ?, ?, ?, ?, 0, NULL, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the mails as due at once. Joins the caller's transaction.
+     */
+    public void insertAll(List<OutboxMail> mails) {
+        if (mails.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT, mails, mails.size(), (statement, mail) -> {
+            statement.setString(1, mail.getRecipient());
+            statement.setString(2, mail.getSubject());
+            statement.setString(3, mail.getBody());
+            statement.setString(4, mail.getHtmlBody());
+            statement.setString(5, OutboxMailStatus.PENDING.name());
+            statement.setTimestamp(6, Timestamp.from(mail.getCreatedAt()));
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package com.waildevil.job_board_api.repository;
+
+import com.waildevil.job_board_api.entity.OutboxMail;
+import com.waildevil.job_board_api.entity.OutboxMailStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxMailRepository extends JpaRepository<OutboxMail, Long> {
+
+    // A lock timeout of -2 is Hibernate's SKIP LOCKED, so dispatchers on other nodes claim different rows
+    // instead of waiting for each other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            SELECT m FROM OutboxMail m
+            WHERE m.status = :status AND (m.nextAttemptAt IS NULL OR m.nextAttemptAt <= :now)
+            ORDER BY m.id""")
+    List<OutboxMail> findDueForUpdate(@Param("status") OutboxMailStatus status, @Param("now") Instant now, Limit limit);
+
+    long countByStatus(OutboxMailStatus status);
+
+    @Query("SELECT MIN(m.createdAt) FROM OutboxMail m WHERE m.status = :status")
+    Optional<Instant> findOldestCreatedAt(@Param("status") OutboxMailStatus status);
+}
@@ -0,0 +1,39 @@
+package com.waildevil.job_board_api.repository;
+
+import com.waildevil.job_board_api.entity.PendingNotification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Writes digest notifications as one JDBC batch, like {@link OutboxMailBatchInsertRepository} does for the mails
+ * they replace.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PendingNotificationBatchInsertRepository {
+
+    private static final String INSERT = """
+            INSERT INTO pending_notifications (user_id, recipient, locale, job_title, status, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Joins the caller's transaction.
+     */
+    public void insertAll(List<PendingNotification> notifications) {
+        if (notifications.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT, notifications, notifications.size(), (statement, notification) -> {
+            statement.setLong(1, notification.getUserId());
+            statement.setString(2, notification.getRecipient());
+            statement.setString(3, notification.getLocale());
+            statement.setString(4, notification.getJobTitle());
+            statement.setString(5, notification.getStatus().name());
+            statement.setTimestamp(6, Timestamp.from(notification.getCreatedAt()));
+        });
+    }
+}
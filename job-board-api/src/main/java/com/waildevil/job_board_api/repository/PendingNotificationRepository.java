@@ -0,0 +1,30 @@
+package com.waildevil.job_board_api.repository;
+
+import com.waildevil.job_board_api.entity.PendingNotification;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface PendingNotificationRepository extends JpaRepository<PendingNotification, Long> {
+
+    interface PendingUser {
+        Long getUserId();
+
+        Instant getOldestCreatedAt();
+    }
+
+    // Held until the digest is queued and the rows deleted, so two nodes never send the same changes twice
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n FROM PendingNotification n WHERE n.userId = :userId ORDER BY n.id")
+    List<PendingNotification> findByUserIdForUpdate(@Param("userId") Long userId);
+
+    @Query("""
+            SELECT n.userId AS userId, MIN(n.createdAt) AS oldestCreatedAt
+            FROM PendingNotification n GROUP BY n.userId""")
+    List<PendingUser> findPendingUsers();
+}
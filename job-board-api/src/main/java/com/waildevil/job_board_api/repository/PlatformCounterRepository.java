@@ -0,0 +1,7 @@
+package com.waildevil.job_board_api.repository;
+
+import com.waildevil.job_board_api.entity.PlatformCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PlatformCounterRepository extends JpaRepository<PlatformCounter, String> {
+}
@@ -0,0 +1,19 @@
+package com.waildevil.job_board_api.repository;
+
+import com.waildevil.job_board_api.entity.SavedSearch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    List<SavedSearch> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    long countByUserId(Long userId);
+
+    @Query("select s from SavedSearch s join fetch s.user where s.id in :ids")
+    List<SavedSearch> findWithUserByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -1,14 +1,65 @@
 package com.waildevil.job_board_api.repository;
 
 import com.waildevil.job_board_api.entity.Company;
+import com.waildevil.job_board_api.entity.Role;
 import com.waildevil.job_board_api.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    interface RoleCount {
+        Role getRole();
+
+        long getCount();
+    }
+
+    // The company is part of every user response and of the manager checks, so it is fetched with the user
+    @EntityGraph(attributePaths = "company")
     Optional<User> findByEmail(String email);
+
+    @EntityGraph(attributePaths = "company")
     List<User> findByCompany(Company company);
 
+    @Override
+    @EntityGraph(attributePaths = "company")
+    Optional<User> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = "company")
+    List<User> findAll();
+
+    // Forward-only read for the user export; consume inside a transaction and close it
+    @EntityGraph(attributePaths = "company")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u FROM User u ORDER BY u.id")
+    Stream<User> streamAll();
+
+    @Query("SELECT u.role AS role, COUNT(u) AS count FROM User u GROUP BY u.role")
+    List<RoleCount> countByRole();
+
+    // Signups per hour for the activity rollups, a range scan on idx_users_created_at
+    @Query("""
+            SELECT truncate(u.createdAt, hour) AS hour, COUNT(u) AS count FROM User u
+            WHERE u.createdAt >= :from AND u.createdAt < :to
+            GROUP BY truncate(u.createdAt, hour)""")
+    List<ActivityRollupRepository.HourCount> countCreatedPerHour(@Param("from") Instant from,
+                                                                 @Param("to") Instant to);
+
+    @Query("SELECT MIN(u.createdAt) FROM User u")
+    Optional<Instant> findFirstCreatedAt();
+
 }
@@ -0,0 +1,67 @@
+package com.waildevil.job_board_api.search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BM25F scores for one query. Title and body frequencies are already combined into {@link IndexedJob#termWeights()},
+ * so a single saturation per query term is applied. A query term that is only a prefix of a document term
+ * ("dev" for "developer") counts with {@link #PREFIX_WEIGHT}, so exact matches rank first.
+ */
+final class Bm25Scorer {
+
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+    static final float PREFIX_WEIGHT = 0.5f;
+
+    private final List<String> terms;
+    private final boolean[] prefix;
+    private final double[] idf;
+    private final double avgLength;
+
+    /**
+     * @param documentFrequencies number of documents matched by each query term, in query order
+     * @param prefix              whether each query term also matches longer index terms
+     */
+    Bm25Scorer(List<String> terms, long[] documentFrequencies, boolean[] prefix, int docCount, double totalLength) {
+        this.terms = terms;
+        this.prefix = prefix;
+        this.idf = new double[terms.size()];
+        for (int i = 0; i < idf.length; i++) {
+            double df = documentFrequencies[i];
+            idf[i] = Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+        }
+        this.avgLength = docCount > 0 && totalLength > 0 ? totalLength / docCount : 1;
+    }
+
+    double score(IndexedJob doc) {
+        double norm = K1 * (1 - B + B * doc.length() / avgLength);
+        double score = 0;
+        for (int i = 0; i < idf.length; i++) {
+            double tf = frequency(doc.termWeights(), terms.get(i), prefix[i]);
+            if (tf > 0) {
+                score += idf[i] * tf * (K1 + 1) / (tf + norm);
+            }
+        }
+        return score;
+    }
+
+    private static double frequency(Map<String, Float> weights, String term, boolean prefix) {
+        double tf = weights.getOrDefault(term, 0f);
+        if (prefix) {
+            for (Map.Entry<String, Float> entry : weights.entrySet()) {
+                if (entry.getKey().length() > term.length() && entry.getKey().startsWith(term)) {
+                    tf += entry.getValue() * PREFIX_WEIGHT;
+                }
+            }
+        }
+        return tf;
+    }
+
+    /**
+     * Sort key preserving the order of non-negative scores.
+     */
+    static long key(double score) {
+        return Double.doubleToLongBits(score);
+    }
+}
@@ -0,0 +1,8 @@
+package com.waildevil.job_board_api.search;
+
+/**
+ * Heap used by the {@link JobCatalog}, also extrapolated to 100k jobs so differently sized deployments compare.
+ * Dictionary sizes are the number of distinct values ever seen.
+ */
+public record CatalogFootprint(int jobs, long bytes, long bytesPer100kJobs, int categories, int types, int locations) {
+}
@@ -0,0 +1,82 @@
+package com.waildevil.job_board_api.search;
+
+import com.waildevil.job_board_api.entity.Job;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Offline geocoder for free-text job locations, backed by the bundled {@code geo/cities.csv}.
+ * No network calls are made; unknown places simply stay without coordinates.
+ */
+@Slf4j
+@Component
+public class CityGazetteer {
+
+    private static final String RESOURCE = "geo/cities.csv";
+    private static final Pattern PART_SEPARATORS = Pattern.compile("[,;/|()]|\\s-\\s");
+
+    private final Map<String, GeoPoint> places = new HashMap<>();
+
+    public CityGazetteer() {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(RESOURCE).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+                String[] cols = line.split(";", -1);
+                GeoPoint point = new GeoPoint(Double.parseDouble(cols[2]), Double.parseDouble(cols[3]));
+                places.putIfAbsent(key(cols[0]), point);
+                if (!cols[4].isBlank()) {
+                    Arrays.stream(cols[4].split("\\|")).forEach(alias -> places.putIfAbsent(key(alias), point));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load " + RESOURCE, e);
+        }
+        log.info("Loaded {} place names from {}", places.size(), RESOURCE);
+    }
+
+    /**
+     * Sets the job's coordinates from its location, or clears them when the place is unknown.
+     */
+    public void geocode(Job job) {
+        Optional<GeoPoint> point = lookup(job.getLocation());
+        job.setLatitude(point.map(GeoPoint::latitude).orElse(null));
+        job.setLongitude(point.map(GeoPoint::longitude).orElse(null));
+    }
+
+    /**
+     * Resolves texts like "Berlin", "Munich, Germany", "Remote - Köln" or "Berlin Mitte" to a known city.
+     */
+    public Optional<GeoPoint> lookup(String location) {
+        if (location == null || location.isBlank()) return Optional.empty();
+
+        GeoPoint whole = places.get(key(location));
+        if (whole != null) return Optional.of(whole);
+
+        for (String part : PART_SEPARATORS.split(location)) {
+            String[] words = key(part).split(" ");
+            for (int n = words.length; n > 0; n--) {
+                GeoPoint point = places.get(String.join(" ", Arrays.copyOfRange(words, 0, n)));
+                if (point != null) return Optional.of(point);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String key(String name) {
+        return Tokenizer.normalize(name).replace('-', ' ').replaceAll("\\s+", " ").trim();
+    }
+}
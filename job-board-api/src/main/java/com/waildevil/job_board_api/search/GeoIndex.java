@@ -0,0 +1,189 @@
+package com.waildevil.job_board_api.search;
+
+import com.waildevil.job_board_api.entity.Job;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Geohash grid over job coordinates. A radius query only visits the cells overlapping the circle's bounding box
+ * and then checks the exact great-circle distance of the jobs in them. Jobs stored without coordinates are placed
+ * via the {@link CityGazetteer}, so rows written before geocoding existed are still found.
+ */
+@Component
+@RequiredArgsConstructor
+public class GeoIndex implements JobIndex {
+
+    /** Cells of roughly 39 x 20 km: a 30 km radius around a city touches a handful of them. */
+    private static final int PRECISION = 4;
+    /** Beyond this many cells a linear scan over all points is cheaper than probing the grid. */
+    private static final int MAX_CELLS = 512;
+
+    private final CityGazetteer gazetteer;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, Set<Long>> cells = new HashMap<>();
+    private Map<Long, GeoPoint> points = new HashMap<>();
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void rebuild(Collection<Job> jobs) {
+        Map<String, Set<Long>> newCells = new HashMap<>();
+        Map<Long, GeoPoint> newPoints = new HashMap<>(jobs.size() * 2);
+        for (Job job : jobs) {
+            GeoPoint point = locate(job);
+            if (point == null) continue;
+            newPoints.put(job.getId(), point);
+            newCells.computeIfAbsent(cellOf(point), c -> new HashSet<>()).add(job.getId());
+        }
+
+        lock.writeLock().lock();
+        try {
+            cells = newCells;
+            points = newPoints;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Job job) {
+        GeoPoint point = locate(job);
+        lock.writeLock().lock();
+        try {
+            removeLocked(job.getId());
+            if (point != null) {
+                points.put(job.getId(), point);
+                cells.computeIfAbsent(cellOf(point), c -> new HashSet<>()).add(job.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long jobId) {
+        GeoPoint previous = points.remove(jobId);
+        if (previous == null) return;
+        String cell = cellOf(previous);
+        Set<Long> ids = cells.get(cell);
+        if (ids != null) {
+            ids.remove(jobId);
+            if (ids.isEmpty()) {
+                cells.remove(cell);
+            }
+        }
+    }
+
+    /**
+     * Returns the ids of all jobs within {@code radiusKm} of {@code center}, mapped to their distance in km.
+     */
+    public Map<Long, Double> withinRadius(GeoPoint center, double radiusKm) {
+        double[] box = center.boundingBox(radiusKm);
+        Map<Long, Double> result = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : candidatesLocked(box[0], box[1], box[2], box[3])) {
+                double distance = center.distanceKm(points.get(id));
+                if (distance <= radiusKm) {
+                    result.put(id, distance);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ids of all jobs inside the box. Boxes crossing the antimeridian have {@code minLon > maxLon}.
+     */
+    public Set<Long> withinBox(double minLat, double minLon, double maxLat, double maxLon) {
+        Set<Long> result = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : candidatesLocked(minLat, minLon, maxLat, maxLon)) {
+                GeoPoint point = points.get(id);
+                if (point.latitude() >= minLat && point.latitude() <= maxLat
+                        && inLongitudeRange(point.longitude(), minLon, maxLon)) {
+                    result.add(id);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    private Collection<Long> candidatesLocked(double minLat, double minLon, double maxLat, double maxLon) {
+        double height = Geohash.cellHeight(PRECISION);
+        double width = Geohash.cellWidth(PRECISION);
+        double lonSpan = minLon <= maxLon ? maxLon - minLon : maxLon + 360 - minLon;
+        long rows = (long) Math.ceil((maxLat - minLat) / height) + 1;
+        long cols = (long) Math.ceil(lonSpan / width) + 1;
+        if (rows * cols > MAX_CELLS) {
+            return points.keySet();
+        }
+
+        Set<String> visited = new HashSet<>();
+        Set<Long> candidates = new HashSet<>();
+        for (long r = 0; r < rows; r++) {
+            double lat = Math.min(maxLat, minLat + r * height);
+            for (long c = 0; c < cols; c++) {
+                double lon = Math.min(minLon + lonSpan, minLon + c * width);
+                String cell = Geohash.encode(lat, wrapLongitude(lon), PRECISION);
+                if (visited.add(cell)) {
+                    Set<Long> ids = cells.get(cell);
+                    if (ids != null) {
+                        candidates.addAll(ids);
+                    }
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private GeoPoint locate(Job job) {
+        if (job.getLatitude() != null && job.getLongitude() != null) {
+            return new GeoPoint(job.getLatitude(), job.getLongitude());
+        }
+        return gazetteer.lookup(job.getLocation()).orElse(null);
+    }
+
+    private static String cellOf(GeoPoint point) {
+        return Geohash.encode(point.latitude(), point.longitude(), PRECISION);
+    }
+
+    private static boolean inLongitudeRange(double lon, double minLon, double maxLon) {
+        lon = wrapLongitude(lon);
+        minLon = wrapLongitude(minLon);
+        maxLon = wrapLongitude(maxLon);
+        return minLon <= maxLon ? lon >= minLon && lon <= maxLon : lon >= minLon || lon <= maxLon;
+    }
+
+    private static double wrapLongitude(double lon) {
+        double wrapped = ((lon + 180) % 360 + 360) % 360 - 180;
+        return wrapped == -180 && lon > 0 ? 180 : wrapped;
+    }
+}
@@ -0,0 +1,60 @@
+package com.waildevil.job_board_api.search;
+
+import com.waildevil.job_board_api.entity.Job;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The subset of a {@link Job} the search index needs, so searching never touches the entity graph.
+ * {@code termWeights} holds each term's frequency with title occurrences counted {@link #TITLE_WEIGHT} times,
+ * and {@code length} the document length weighted the same way, as used by BM25F. {@code createdAt} is in epoch
+ * microseconds, the precision it is stored with, so a cursor taken here seeks the same rows in SQL.
+ */
+record IndexedJob(
+        long id,
+        String location,
+        String locationKey,
+        String category,
+        String type,
+        Integer maxSalary,
+        long createdAt,
+        Map<String, Float> termWeights,
+        float length
+) {
+
+    static final float TITLE_WEIGHT = 3f;
+
+    static IndexedJob of(Job job) {
+        Map<String, Float> weights = new HashMap<>();
+        float length = addTerms(weights, Tokenizer.tokenize(job.getTitle()), TITLE_WEIGHT);
+        length += addTerms(weights, Tokenizer.tokenize(job.getDescription()), 1f);
+        if (job.getCompany() != null) {
+            length += addTerms(weights, Tokenizer.tokenize(job.getCompany().getName()), 1f);
+        }
+        String category = job.getCategory() != null ? job.getCategory().getName() : null;
+        length += addTerms(weights, Tokenizer.tokenize(category), 1f);
+
+        return new IndexedJob(
+                job.getId(),
+                job.getLocation(),
+                Tokenizer.normalize(job.getLocation()),
+                category,
+                job.getType(),
+                job.getMaxSalary(),
+                job.getCreatedAt() != null ? ChronoUnit.MICROS.between(Instant.EPOCH, job.getCreatedAt()) : 0L,
+                weights,
+                length
+        );
+    }
+
+    private static float addTerms(Map<String, Float> weights, List<String> tokens, float weight) {
+        for (String token : tokens) {
+            weights.merge(token, weight, Float::sum);
+        }
+        return tokens.size() * weight;
+    }
+}
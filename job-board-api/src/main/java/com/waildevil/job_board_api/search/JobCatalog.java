@@ -0,0 +1,311 @@
+package com.waildevil.job_board_api.search;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column-oriented copy of the filterable job fields. Every job gets a slot; category, type and location are stored
+ * as dictionary codes with one compressed bitmap of slots per distinct value, the salary as a plain {@code int[]}
+ * plus one bitmap per {@link SalaryBand}. Filters and facet counts are bitmap intersections instead of per-job
+ * string comparisons. Slots of removed jobs are reused. Not thread-safe; {@link JobSearchIndex} guards it.
+ */
+final class JobCatalog {
+
+    private static final int NO_VALUE = -1;
+    private static final int NO_SALARY = Integer.MIN_VALUE;
+    private static final int MAX_LOCATIONS = 50;
+
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+        private final List<String> keys = new ArrayList<>();
+        private final List<RoaringBitmap> slots = new ArrayList<>();
+
+        int codeOf(String value) {
+            if (value == null || value.isBlank()) return NO_VALUE;
+            String trimmed = value.trim();
+            Integer code = codes.get(trimmed);
+            if (code == null) {
+                code = values.size();
+                codes.put(trimmed, code);
+                values.add(trimmed);
+                keys.add(Tokenizer.normalize(trimmed));
+                slots.add(new RoaringBitmap());
+            }
+            return code;
+        }
+
+        RoaringBitmap slots(int code) {
+            return slots.get(code);
+        }
+
+        RoaringBitmap equalsIgnoreCase(String value) {
+            RoaringBitmap result = new RoaringBitmap();
+            for (int code = 0; code < values.size(); code++) {
+                if (values.get(code).equalsIgnoreCase(value)) {
+                    result.or(slots.get(code));
+                }
+            }
+            return result;
+        }
+
+        RoaringBitmap containing(String normalized) {
+            RoaringBitmap result = new RoaringBitmap();
+            for (int code = 0; code < keys.size(); code++) {
+                if (keys.get(code).contains(normalized)) {
+                    result.or(slots.get(code));
+                }
+            }
+            return result;
+        }
+
+        Map<String, Long> counts(RoaringBitmap within, int limit) {
+            Map<String, Long> counts = new HashMap<>();
+            for (int code = 0; code < values.size(); code++) {
+                long count = RoaringBitmap.andCardinality(within, slots.get(code));
+                if (count > 0) {
+                    counts.put(values.get(code), count);
+                }
+            }
+            return byCountDesc(counts, limit);
+        }
+
+        long heapBytes() {
+            long bytes = 0;
+            for (int code = 0; code < values.size(); code++) {
+                // two strings, a map entry with boxed code, three list references
+                bytes += 2 * (40 + values.get(code).length()) + 48 + 16 + 3 * 8;
+                bytes += slots.get(code).getLongSizeInBytes();
+            }
+            return bytes;
+        }
+    }
+
+    private long[] ids;
+    private int[] category;
+    private int[] type;
+    private int[] location;
+    private int[] maxSalary;
+    private int slotCount;
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+
+    private final LongIntMap slotById;
+    private final RoaringBitmap live = new RoaringBitmap();
+    private final Dictionary categories = new Dictionary();
+    private final Dictionary types = new Dictionary();
+    private final Dictionary locations = new Dictionary();
+    private final RoaringBitmap[] salaryBands = new RoaringBitmap[SalaryBand.values().length];
+
+    JobCatalog(int expectedJobs) {
+        int capacity = Math.max(16, expectedJobs);
+        ids = new long[capacity];
+        category = new int[capacity];
+        type = new int[capacity];
+        location = new int[capacity];
+        maxSalary = new int[capacity];
+        slotById = new LongIntMap(capacity);
+        for (int i = 0; i < salaryBands.length; i++) {
+            salaryBands[i] = new RoaringBitmap();
+        }
+    }
+
+    int size() {
+        return live.getCardinality();
+    }
+
+    long idAt(int slot) {
+        return ids[slot];
+    }
+
+    RoaringBitmap live() {
+        return live;
+    }
+
+    void put(IndexedJob doc) {
+        remove(doc.id());
+        int slot = freeCount > 0 ? freeSlots[--freeCount] : nextSlot();
+        ids[slot] = doc.id();
+        category[slot] = mark(categories, doc.category(), slot);
+        type[slot] = mark(types, doc.type(), slot);
+        location[slot] = mark(locations, doc.location(), slot);
+        maxSalary[slot] = doc.maxSalary() != null ? doc.maxSalary() : NO_SALARY;
+        SalaryBand band = SalaryBand.of(doc.maxSalary());
+        if (band != null) {
+            salaryBands[band.ordinal()].add(slot);
+        }
+        slotById.put(doc.id(), slot);
+        live.add(slot);
+    }
+
+    void remove(long id) {
+        int slot = slotById.remove(id);
+        if (slot < 0) return;
+        live.remove(slot);
+        unmark(categories, category[slot], slot);
+        unmark(types, type[slot], slot);
+        unmark(locations, location[slot], slot);
+        for (RoaringBitmap band : salaryBands) {
+            band.remove(slot);
+        }
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    /**
+     * Slots of the given jobs; ids unknown to the catalog are skipped.
+     */
+    RoaringBitmap slotsOf(Iterable<Long> jobIds) {
+        RoaringBitmap result = new RoaringBitmap();
+        for (long id : jobIds) {
+            int slot = slotById.get(id);
+            if (slot >= 0) result.add(slot);
+        }
+        return result;
+    }
+
+    RoaringBitmap slotsOf(long[] jobIds) {
+        RoaringBitmap result = new RoaringBitmap();
+        for (long id : jobIds) {
+            int slot = slotById.get(id);
+            if (slot >= 0) result.add(slot);
+        }
+        return result;
+    }
+
+    /**
+     * The slots in {@code base} that pass every filter of the query.
+     */
+    RoaringBitmap select(RoaringBitmap base, JobQuery query) {
+        return and(base, locationFilter(query), categoryFilter(query), typeFilter(query), salaryFilter(query));
+    }
+
+    /**
+     * Facet counts over {@code base}; each dimension is intersected with every filter except its own.
+     */
+    JobFacets facets(RoaringBitmap base, JobQuery query) {
+        RoaringBitmap byLocation = locationFilter(query);
+        RoaringBitmap byCategory = categoryFilter(query);
+        RoaringBitmap byType = typeFilter(query);
+        RoaringBitmap bySalary = salaryFilter(query);
+
+        Map<String, Long> bands = new LinkedHashMap<>();
+        RoaringBitmap bandBase = and(base, byLocation, byCategory, byType);
+        for (SalaryBand band : SalaryBand.values()) {
+            bands.put(band.label(), (long) RoaringBitmap.andCardinality(bandBase, salaryBands[band.ordinal()]));
+        }
+        return new JobFacets(
+                and(base, byLocation, byCategory, byType, bySalary).getLongCardinality(),
+                categories.counts(and(base, byLocation, byType, bySalary), Integer.MAX_VALUE),
+                types.counts(and(base, byLocation, byCategory, bySalary), Integer.MAX_VALUE),
+                locations.counts(and(base, byCategory, byType, bySalary), MAX_LOCATIONS),
+                bands
+        );
+    }
+
+    CatalogFootprint footprint() {
+        long bytes = 16L + ids.length * 8L
+                + 4 * (16L + category.length * 4L)
+                + 16L + freeSlots.length * 4L
+                + slotById.heapBytes()
+                + live.getLongSizeInBytes()
+                + categories.heapBytes() + types.heapBytes() + locations.heapBytes();
+        for (RoaringBitmap band : salaryBands) {
+            bytes += band.getLongSizeInBytes();
+        }
+        int jobs = size();
+        long per100k = jobs > 0 ? bytes * 100_000 / jobs : 0;
+        return new CatalogFootprint(jobs, bytes, per100k, categories.values.size(), types.values.size(), locations.values.size());
+    }
+
+    private RoaringBitmap locationFilter(JobQuery query) {
+        return query.location() != null ? locations.containing(query.location()) : null;
+    }
+
+    private RoaringBitmap categoryFilter(JobQuery query) {
+        return query.category() != null ? categories.equalsIgnoreCase(query.category()) : null;
+    }
+
+    private RoaringBitmap typeFilter(JobQuery query) {
+        return query.type() != null ? types.equalsIgnoreCase(query.type()) : null;
+    }
+
+    // Bands entirely above the minimum are taken whole; only the band containing it is checked salary by salary.
+    private RoaringBitmap salaryFilter(JobQuery query) {
+        Integer min = query.minSalary();
+        if (min == null) return null;
+        RoaringBitmap result = new RoaringBitmap();
+        for (SalaryBand band : SalaryBand.values()) {
+            RoaringBitmap slots = salaryBands[band.ordinal()];
+            if (band.lowerBound() >= min) {
+                result.or(slots);
+            } else if (isLast(band) || nextBand(band).lowerBound() > min) {
+                slots.forEach((int slot) -> {
+                    if (maxSalary[slot] >= min) result.add(slot);
+                });
+            }
+        }
+        return result;
+    }
+
+    private static boolean isLast(SalaryBand band) {
+        return band.ordinal() == SalaryBand.values().length - 1;
+    }
+
+    private static SalaryBand nextBand(SalaryBand band) {
+        return SalaryBand.values()[band.ordinal() + 1];
+    }
+
+    private int nextSlot() {
+        if (slotCount == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            category = Arrays.copyOf(category, capacity);
+            type = Arrays.copyOf(type, capacity);
+            location = Arrays.copyOf(location, capacity);
+            maxSalary = Arrays.copyOf(maxSalary, capacity);
+        }
+        return slotCount++;
+    }
+
+    private static int mark(Dictionary dictionary, String value, int slot) {
+        int code = dictionary.codeOf(value);
+        if (code != NO_VALUE) {
+            dictionary.slots(code).add(slot);
+        }
+        return code;
+    }
+
+    private static void unmark(Dictionary dictionary, int code, int slot) {
+        if (code != NO_VALUE) {
+            dictionary.slots(code).remove(slot);
+        }
+    }
+
+    private static RoaringBitmap and(RoaringBitmap base, RoaringBitmap... filters) {
+        RoaringBitmap result = base;
+        for (RoaringBitmap filter : filters) {
+            if (filter != null) {
+                result = RoaringBitmap.and(result, filter);
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, Long> byCountDesc(Map<String, Long> counts, int limit) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .forEach(e -> sorted.put(e.getKey(), e.getValue()));
+        return sorted;
+    }
+}
@@ -0,0 +1,42 @@
+package com.waildevil.job_board_api.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * LRU cache of facet counts per filter combination. Entries remember the index version they were computed
+ * against and are recomputed once the index has changed.
+ */
+@Component
+public class JobFacetCache {
+
+    private static final int MAX_ENTRIES = 512;
+
+    private record Entry(long version, JobFacets facets) {
+    }
+
+    private final Map<JobQuery, Entry> entries = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<JobQuery, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public JobFacets get(JobQuery query, long version, Supplier<JobFacets> compute) {
+        synchronized (entries) {
+            Entry entry = entries.get(query);
+            if (entry != null && entry.version() == version) {
+                return entry.facets();
+            }
+        }
+
+        JobFacets facets = compute.get();
+        synchronized (entries) {
+            entries.put(query, new Entry(version, facets));
+        }
+        return facets;
+    }
+}
@@ -0,0 +1,16 @@
+package com.waildevil.job_board_api.search;
+
+import java.util.Map;
+
+/**
+ * Facet counts for one filter combination. Each dimension is counted with every filter applied except its own,
+ * so the sidebar shows how many jobs selecting another value would return.
+ */
+public record JobFacets(
+        long total,
+        Map<String, Long> categories,
+        Map<String, Long> types,
+        Map<String, Long> locations,
+        Map<String, Long> salaryBands
+) {
+}
@@ -0,0 +1,17 @@
+package com.waildevil.job_board_api.search;
+
+import com.waildevil.job_board_api.entity.Job;
+
+import java.util.Collection;
+
+/**
+ * An in-memory read model over the jobs table, kept in sync by {@link JobIndexSynchronizer}.
+ */
+public interface JobIndex {
+
+    void rebuild(Collection<Job> jobs);
+
+    void index(Job job);
+
+    void remove(Long jobId);
+}
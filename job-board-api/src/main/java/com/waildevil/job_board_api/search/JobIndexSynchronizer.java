@@ -0,0 +1,92 @@
+package com.waildevil.job_board_api.search;
+
+import com.waildevil.job_board_api.entity.Job;
+import com.waildevil.job_board_api.repository.JobRepository;
+import com.waildevil.job_board_api.util.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Loads every {@link JobIndex} at startup and forwards job writes to them once they are committed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobIndexSynchronizer {
+
+    private final JobRepository jobRepository;
+    private final List<JobIndex> indexes;
+
+    private final Set<Long> touchedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAll() {
+        rebuilding = true;
+        touchedDuringRebuild.clear();
+        try {
+            List<Job> jobs = jobRepository.findAll();
+            for (JobIndex index : indexes) {
+                index.rebuild(jobs);
+            }
+            log.info("Indexed {} jobs into {} job indexes", jobs.size(), indexes.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to build job indexes, searches will fall back to the database", e);
+        } finally {
+            rebuilding = false;
+        }
+        resync(new ArrayList<>(touchedDuringRebuild));
+    }
+
+    public void onJobSaved(Job job) {
+        TransactionHooks.afterCommit(() -> {
+            touch(job.getId());
+            for (JobIndex index : indexes) {
+                index.index(job);
+            }
+        });
+    }
+
+    public void onJobDeleted(Long jobId) {
+        TransactionHooks.afterCommit(() -> {
+            touch(jobId);
+            for (JobIndex index : indexes) {
+                index.remove(jobId);
+            }
+        });
+    }
+
+    private void touch(Long jobId) {
+        if (rebuilding) {
+            touchedDuringRebuild.add(jobId);
+        }
+    }
+
+    // Writes that raced with the initial load may have been applied to the structures that rebuild() replaced.
+    private void resync(List<Long> jobIds) {
+        if (jobIds.isEmpty()) return;
+        Map<Long, Job> current = jobRepository.findAllById(jobIds).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        for (Long id : jobIds) {
+            Job job = current.get(id);
+            for (JobIndex index : indexes) {
+                if (job != null) {
+                    index.index(job);
+                } else {
+                    index.remove(id);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.waildevil.job_board_api.search;
+
+import java.util.List;
+
+/**
+ * A normalized keyword + filter combination as accepted by {@code GET /api/jobs/search}.
+ */
+public record JobQuery(
+        List<String> terms,
+        String location,
+        String category,
+        String type,
+        Integer minSalary
+) {
+
+    public static JobQuery of(String keyword, String location, String category, String type, Integer minSalary) {
+        return new JobQuery(
+                Tokenizer.tokenize(keyword).stream().distinct().toList(),
+                blankToNull(Tokenizer.normalize(location)),
+                blankToNull(category),
+                blankToNull(type),
+                minSalary
+        );
+    }
+
+    public boolean hasTerms() {
+        return !terms.isEmpty();
+    }
+
+    /**
+     * Whether the job would be returned for this query; keyword terms of three or more characters also match as
+     * prefixes, like in {@link JobSearchIndex}.
+     */
+    boolean matches(IndexedJob job) {
+        return matchesTerms(job) && matchesFilters(job);
+    }
+
+    boolean matchesTerms(IndexedJob job) {
+        for (String term : terms) {
+            if (job.termWeights().containsKey(term)) continue;
+            if (term.length() < JobSearchIndex.MIN_PREFIX_LENGTH
+                    || job.termWeights().keySet().stream().noneMatch(t -> t.startsWith(term))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean matchesFilters(IndexedJob job) {
+        return matchesLocation(job) && matchesCategory(job) && matchesType(job) && matchesSalary(job);
+    }
+
+    boolean matchesLocation(IndexedJob job) {
+        return location == null || job.locationKey().contains(location);
+    }
+
+    boolean matchesCategory(IndexedJob job) {
+        return category == null || category.equalsIgnoreCase(job.category());
+    }
+
+    boolean matchesType(IndexedJob job) {
+        return type == null || type.equalsIgnoreCase(job.type());
+    }
+
+    boolean matchesSalary(IndexedJob job) {
+        return minSalary == null || (job.maxSalary() != null && job.maxSalary() >= minSalary);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,131 @@
+package com.waildevil.job_board_api.search;
+
+import com.waildevil.job_board_api.entity.Job;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * LRU cache of the ordered top results (ids and sort keys) per query and sort, bounded by entry count and by the
+ * total number of cached ids. Writes only drop the entries the written job could belong to: those that contain it
+ * already, or whose query matches its new state. Relevance keys are not refreshed when unrelated writes shift the
+ * BM25 statistics; the drift is small and ends with the next invalidation of the entry.
+ * <p>
+ * Runs after {@link JobSearchIndex} in the synchronizer; together with the version check in {@link #get} this keeps
+ * a search that raced with a write from caching the pre-write result.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class JobResultCache implements JobIndex {
+
+    public record Key(JobQuery query, JobSearchSort sort) {
+    }
+
+    public record Stats(int entries, long weight, long hits, long misses, long invalidations, long evictions) {
+
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+
+    @Value("${search.result-cache.max-entries:1000}")
+    private int maxEntries;
+
+    /** Upper bound for the ids held by all entries together. */
+    @Value("${search.result-cache.max-weight:200000}")
+    private long maxWeight;
+
+    /** Ids kept per entry; pages further down than this are answered by the index. */
+    @Value("${search.result-cache.max-entry-weight:2000}")
+    private int maxEntryWeight;
+
+    private final Map<Key, RankedIds> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long weight;
+    private long hits;
+    private long misses;
+    private long invalidations;
+    private long evictions;
+
+    public int maxEntryWeight() {
+        return maxEntryWeight;
+    }
+
+    /**
+     * Returns the cached result for {@code key}, or computes and caches it. {@code version} supplies the search
+     * index version; a result is only cached if no write happened while it was computed.
+     */
+    public RankedIds get(Key key, LongSupplier version, Supplier<RankedIds> compute) {
+        synchronized (this) {
+            RankedIds cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+
+        long before = version.getAsLong();
+        RankedIds result = compute.get();
+        synchronized (this) {
+            if (version.getAsLong() == before) {
+                RankedIds previous = entries.put(key, result);
+                weight += result.size() - (previous != null ? previous.size() : 0);
+                evictIfNeeded();
+            }
+        }
+        return result;
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(entries.size(), weight, hits, misses, invalidations, evictions);
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<Job> jobs) {
+        invalidations += entries.size();
+        entries.clear();
+        weight = 0;
+    }
+
+    @Override
+    public void index(Job job) {
+        IndexedJob doc = IndexedJob.of(job);
+        invalidateWhere(key -> key.query().matches(doc), doc.id());
+    }
+
+    @Override
+    public void remove(Long jobId) {
+        invalidateWhere(key -> false, jobId);
+    }
+
+    private synchronized void invalidateWhere(Predicate<Key> matchesNewState, long jobId) {
+        Iterator<Map.Entry<Key, RankedIds>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Key, RankedIds> entry = it.next();
+            if (entry.getValue().contains(jobId) || matchesNewState.test(entry.getKey())) {
+                weight -= entry.getValue().size();
+                invalidations++;
+                it.remove();
+            }
+        }
+    }
+
+    private void evictIfNeeded() {
+        Iterator<RankedIds> it = entries.values().iterator();
+        while ((entries.size() > maxEntries || weight > maxWeight) && it.hasNext()) {
+            weight -= it.next().size();
+            evictions++;
+            it.remove();
+        }
+    }
+}
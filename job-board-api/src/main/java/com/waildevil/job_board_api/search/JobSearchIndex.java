@@ -0,0 +1,255 @@
+package com.waildevil.job_board_api.search;
+
+import com.waildevil.job_board_api.entity.Job;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Inverted index over job title, description, company name and category.
+ * Keyword queries are answered by intersecting posting lists; filters are bitmap intersections in the
+ * {@link JobCatalog}, so only the final page of ids has to be loaded from the database.
+ */
+@Component
+@Order(0) // ahead of JobResultCache, whose entries are derived from this index
+public class JobSearchIndex implements JobIndex {
+
+    /** Query terms at least this long also match indexed terms they are a prefix of ("dev" -> "developer"). */
+    static final int MIN_PREFIX_LENGTH = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private NavigableMap<String, PostingList> postings = new TreeMap<>();
+    private Map<Long, IndexedJob> docs = new HashMap<>();
+    private JobCatalog catalog = new JobCatalog(0);
+    private double totalLength;
+    private final AtomicLong version = new AtomicLong();
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Incremented on every change, so derived results can tell whether they are stale.
+     */
+    public long version() {
+        return version.get();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public CatalogFootprint catalogFootprint() {
+        lock.readLock().lock();
+        try {
+            return catalog.footprint();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void rebuild(Collection<Job> jobs) {
+        NavigableMap<String, PostingList> newPostings = new TreeMap<>();
+        Map<Long, IndexedJob> newDocs = new HashMap<>(jobs.size() * 2);
+        JobCatalog newCatalog = new JobCatalog(jobs.size());
+        double newTotalLength = 0;
+        for (Job job : jobs) {
+            IndexedJob doc = IndexedJob.of(job);
+            newDocs.put(doc.id(), doc);
+            newCatalog.put(doc);
+            newTotalLength += doc.length();
+            for (String term : doc.termWeights().keySet()) {
+                newPostings.computeIfAbsent(term, t -> new PostingList()).add(doc.id());
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            docs = newDocs;
+            catalog = newCatalog;
+            totalLength = newTotalLength;
+            version.incrementAndGet();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Job job) {
+        IndexedJob doc = IndexedJob.of(job);
+        lock.writeLock().lock();
+        try {
+            removeLocked(doc.id());
+            docs.put(doc.id(), doc);
+            catalog.put(doc);
+            totalLength += doc.length();
+            for (String term : doc.termWeights().keySet()) {
+                postings.computeIfAbsent(term, t -> new PostingList()).add(doc.id());
+            }
+            version.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+            version.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long jobId) {
+        IndexedJob previous = docs.remove(jobId);
+        if (previous == null) return;
+        catalog.remove(jobId);
+        totalLength -= previous.length();
+        for (String term : previous.termWeights().keySet()) {
+            PostingList list = postings.get(term);
+            if (list == null) continue;
+            list.remove(jobId);
+            if (list.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    /**
+     * Returns one page of matching job ids in the given sort order, starting after {@code after}.
+     */
+    public SearchPage search(JobQuery query, JobSearchSort sort, PageCursor after, int size) {
+        return search(query, sort, after, size, null);
+    }
+
+    /**
+     * Like {@link #search(JobQuery, JobSearchSort, PageCursor, int)}, restricted to the jobs in {@code distancesKm}
+     * (e.g. the result of {@link GeoIndex#withinRadius}) when it is not null. {@link JobSearchSort#DISTANCE} orders
+     * by those distances, nearest first; {@link JobSearchSort#RELEVANCE} by BM25 score, best first.
+     */
+    public SearchPage search(JobQuery query, JobSearchSort sort, PageCursor after, int size,
+                             Map<Long, Double> distancesKm) {
+        lock.readLock().lock();
+        try {
+            TermMatches matches = query.hasTerms() ? matchTerms(query.terms()) : null;
+            PageCollector page = new PageCollector(sort, keyFunction(sort, distancesKm, matches), after, size);
+            forEachMatch(query, matches, distancesKm, page::offer);
+            return page.toPage();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the best {@code limit} matches in sort order, with their sort keys.
+     */
+    public RankedIds rank(JobQuery query, JobSearchSort sort, int limit) {
+        lock.readLock().lock();
+        try {
+            TermMatches matches = query.hasTerms() ? matchTerms(query.terms()) : null;
+            PageCollector top = new PageCollector(sort, keyFunction(sort, null, matches), null, limit);
+            forEachMatch(query, matches, null, top::offer);
+            return top.toRanked();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void forEachMatch(JobQuery query, TermMatches matches, Map<Long, Double> distancesKm,
+                              Consumer<IndexedJob> visitor) {
+        RoaringBitmap base = matches != null ? catalog.slotsOf(matches.ids()) : catalog.live();
+        if (distancesKm != null) {
+            base = RoaringBitmap.and(base, catalog.slotsOf(distancesKm.keySet()));
+        }
+        catalog.select(base, query).forEach((int slot) -> visitor.accept(docs.get(catalog.idAt(slot))));
+    }
+
+    private ToLongFunction<IndexedJob> keyFunction(JobSearchSort sort, Map<Long, Double> distancesKm,
+                                                   TermMatches matches) {
+        return switch (sort) {
+            case DISTANCE -> {
+                if (distancesKm == null) {
+                    throw new IllegalArgumentException("Distance needs a search origin");
+                }
+                yield doc -> -Math.round(distancesKm.get(doc.id()) * 1000);
+            }
+            case RELEVANCE -> {
+                if (matches == null) {
+                    throw new IllegalArgumentException("Relevance needs query terms");
+                }
+                Bm25Scorer scorer = new Bm25Scorer(matches.terms(), matches.documentFrequencies(), matches.prefix(),
+                        docs.size(), totalLength);
+                yield doc -> Bm25Scorer.key(scorer.score(doc));
+            }
+            default -> sort::keyOf;
+        };
+    }
+
+    /**
+     * Counts matching jobs per category, type, location and salary band with bitmap intersections over the
+     * keyword matches.
+     */
+    public JobFacets facets(JobQuery query) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap base = query.hasTerms() ? catalog.slotsOf(matchTerms(query.terms()).ids()) : catalog.live();
+            return catalog.facets(base, query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record TermMatches(List<String> terms, long[] documentFrequencies, boolean[] prefix, long[] ids) {
+    }
+
+    private TermMatches matchTerms(List<String> terms) {
+        long[] documentFrequencies = new long[terms.size()];
+        boolean[] prefix = new boolean[terms.size()];
+        List<long[]> lists = new ArrayList<>(terms.size());
+        for (int i = 0; i < terms.size(); i++) {
+            long[] ids = postingsFor(terms.get(i));
+            documentFrequencies[i] = ids.length;
+            prefix[i] = terms.get(i).length() >= MIN_PREFIX_LENGTH;
+            if (ids.length == 0) {
+                return new TermMatches(terms, documentFrequencies, prefix, ids);
+            }
+            lists.add(ids);
+        }
+        return new TermMatches(terms, documentFrequencies, prefix, PostingList.intersect(lists));
+    }
+
+    private long[] postingsFor(String term) {
+        if (term.length() < MIN_PREFIX_LENGTH) {
+            PostingList exact = postings.get(term);
+            return exact != null ? exact.toArray() : new long[0];
+        }
+        List<PostingList> lists = new ArrayList<>(
+                postings.subMap(term, true, term + Character.MAX_VALUE, false).values());
+        return lists.isEmpty() ? new long[0] : PostingList.union(lists);
+    }
+}
@@ -0,0 +1,13 @@
+package com.waildevil.job_board_api.search;
+
+import com.waildevil.job_board_api.entity.Job;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of search results; {@code distancesKm} holds each job's distance from the search origin, or is empty
+ * when the search was not geographic.
+ */
+public record JobSearchResult(List<Job> jobs, Map<Long, Double> distancesKm, String nextCursor, boolean hasMore) {
+}
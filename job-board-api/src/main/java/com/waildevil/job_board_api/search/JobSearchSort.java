@@ -0,0 +1,41 @@
+package com.waildevil.job_board_api.search;
+
+import com.waildevil.job_board_api.exception.ApiException;
+import org.springframework.http.HttpStatus;
+
+public enum JobSearchSort {
+
+    CREATED_AT("createdAt"),
+    SALARY("salary"),
+    /** Nearest first; only valid together with a radius, see {@link JobSearchIndex#search}. */
+    DISTANCE("distance"),
+    /** Best BM25 match first; only valid together with a keyword. */
+    RELEVANCE("relevance");
+
+    private final String param;
+
+    JobSearchSort(String param) {
+        this.param = param;
+    }
+
+    public String param() {
+        return param;
+    }
+
+    public static JobSearchSort fromParam(String value) {
+        if (value == null || value.isBlank()) return CREATED_AT;
+        for (JobSearchSort sort : values()) {
+            if (sort.param.equalsIgnoreCase(value)) return sort;
+        }
+        throw new ApiException(HttpStatus.BAD_REQUEST, "Unsupported sort: " + value);
+    }
+
+    long keyOf(IndexedJob job) {
+        return switch (this) {
+            case CREATED_AT -> job.createdAt();
+            case SALARY -> job.maxSalary() != null ? job.maxSalary() : Long.MIN_VALUE;
+            case DISTANCE -> throw new IllegalStateException("Distance depends on the search origin");
+            case RELEVANCE -> throw new IllegalStateException("Relevance depends on the query");
+        };
+    }
+}
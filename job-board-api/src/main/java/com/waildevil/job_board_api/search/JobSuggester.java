@@ -0,0 +1,147 @@
+package com.waildevil.job_board_api.search;
+
+import com.waildevil.job_board_api.entity.Job;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Autocomplete over job titles, locations and company names, ranked by how many jobs use each value.
+ * Every value is reachable from the start of each of its first few words, so "dev" also completes "Java Developer".
+ */
+@Component
+public class JobSuggester implements JobIndex {
+
+    private static final int MAX_WORD_STARTS = 4;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private SuggestionTrie trie = new SuggestionTrie();
+    private Map<String, Suggestion> suggestions = new HashMap<>();
+    private Map<Long, List<Suggestion>> byJob = new HashMap<>();
+
+    @Override
+    public void rebuild(Collection<Job> jobs) {
+        SuggestionTrie newTrie = new SuggestionTrie();
+        Map<String, Suggestion> newSuggestions = new HashMap<>();
+        Map<Long, List<Suggestion>> newByJob = new HashMap<>(jobs.size() * 2);
+        for (Job job : jobs) {
+            newByJob.put(job.getId(), addAll(job, newTrie, newSuggestions));
+        }
+
+        lock.writeLock().lock();
+        try {
+            trie = newTrie;
+            suggestions = newSuggestions;
+            byJob = newByJob;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Job job) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(job.getId());
+            byJob.put(job.getId(), addAll(job, trie, suggestions));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) return List.of();
+
+        lock.readLock().lock();
+        try {
+            return trie.top(key, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<Suggestion> addAll(Job job, SuggestionTrie trie, Map<String, Suggestion> suggestions) {
+        List<Suggestion> added = new ArrayList<>(3);
+        add(Suggestion.Type.TITLE, job.getTitle(), trie, suggestions, added);
+        add(Suggestion.Type.LOCATION, job.getLocation(), trie, suggestions, added);
+        if (job.getCompany() != null) {
+            add(Suggestion.Type.COMPANY, job.getCompany().getName(), trie, suggestions, added);
+        }
+        return added;
+    }
+
+    private static void add(Suggestion.Type type, String text, SuggestionTrie trie,
+                            Map<String, Suggestion> suggestions, List<Suggestion> added) {
+        String key = normalize(text);
+        if (key.isEmpty()) return;
+
+        Suggestion suggestion = suggestions.get(type + ":" + key);
+        boolean isNew = suggestion == null;
+        if (isNew) {
+            suggestion = new Suggestion(type, text.trim(), wordStarts(key));
+            suggestions.put(type + ":" + key, suggestion);
+        }
+        suggestion.increment();
+        for (String k : suggestion.keys()) {
+            if (isNew) {
+                trie.add(k, suggestion);
+            } else {
+                trie.refresh(k);
+            }
+        }
+        added.add(suggestion);
+    }
+
+    private void removeLocked(Long jobId) {
+        List<Suggestion> previous = byJob.remove(jobId);
+        if (previous == null) return;
+
+        for (Suggestion suggestion : previous) {
+            suggestion.decrement();
+            for (String k : suggestion.keys()) {
+                if (suggestion.count() == 0) {
+                    trie.remove(k, suggestion);
+                } else {
+                    trie.refresh(k);
+                }
+            }
+            if (suggestion.count() == 0) {
+                suggestions.remove(suggestion.type() + ":" + normalize(suggestion.text()));
+            }
+        }
+    }
+
+    private static List<String> wordStarts(String key) {
+        List<String> keys = new ArrayList<>();
+        keys.add(key);
+        int from = 0;
+        while (keys.size() < MAX_WORD_STARTS) {
+            int space = key.indexOf(' ', from);
+            if (space < 0 || space == key.length() - 1) break;
+            keys.add(key.substring(space + 1));
+            from = space + 1;
+        }
+        return keys;
+    }
+
+    private static String normalize(String text) {
+        return Tokenizer.normalize(text).replaceAll("\\s+", " ").trim();
+    }
+}
@@ -0,0 +1,87 @@
+package com.waildevil.job_board_api.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToLongFunction;
+
+/**
+ * Keeps the best {@code size + 1} rows after a cursor in a bounded heap, so memory per request does not depend on
+ * how many jobs match. The extra row only tells whether another page exists.
+ */
+final class PageCollector {
+
+    private record Row(long key, long id) {
+    }
+
+    private static final Comparator<Row> ASCENDING = Comparator.comparingLong(Row::key).thenComparingLong(Row::id);
+
+    private final JobSearchSort sort;
+    private final ToLongFunction<IndexedJob> key;
+    private final PageCursor after;
+    private final int size;
+    private final PriorityQueue<Row> heap;
+
+    PageCollector(JobSearchSort sort, PageCursor after, int size) {
+        this(sort, sort::keyOf, after, size);
+    }
+
+    /**
+     * Orders rows by {@code key} descending instead of the sort's own key, for keys that depend on the request.
+     * The key is computed once per offered row.
+     */
+    PageCollector(JobSearchSort sort, ToLongFunction<IndexedJob> key, PageCursor after, int size) {
+        this.sort = sort;
+        this.key = key;
+        this.after = after;
+        this.size = size;
+        this.heap = new PriorityQueue<>(size + 1, ASCENDING);
+    }
+
+    void offer(IndexedJob doc) {
+        Row row = new Row(key.applyAsLong(doc), doc.id());
+        if (after != null && !after.isBefore(row.key(), row.id())) return;
+
+        if (heap.size() <= size) {
+            heap.add(row);
+        } else if (ASCENDING.compare(row, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(row);
+        }
+    }
+
+    SearchPage toPage() {
+        List<Row> rows = new ArrayList<>(heap);
+        rows.sort(ASCENDING.reversed());
+
+        boolean hasMore = rows.size() > size;
+        if (hasMore) {
+            rows = rows.subList(0, size);
+        }
+        PageCursor next = null;
+        if (hasMore) {
+            Row last = rows.get(rows.size() - 1);
+            next = new PageCursor(sort.param(), last.key(), last.id());
+        }
+        return new SearchPage(rows.stream().map(Row::id).toList(), next, hasMore);
+    }
+
+    /**
+     * The collected rows with their keys; complete if no row had to be dropped.
+     */
+    RankedIds toRanked() {
+        List<Row> rows = new ArrayList<>(heap);
+        rows.sort(ASCENDING.reversed());
+
+        boolean complete = rows.size() <= size;
+        int n = Math.min(rows.size(), size);
+        long[] keys = new long[n];
+        long[] ids = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = rows.get(i).key();
+            ids[i] = rows.get(i).id();
+        }
+        return new RankedIds(keys, ids, complete);
+    }
+}
@@ -0,0 +1,40 @@
+package com.waildevil.job_board_api.search;
+
+import com.waildevil.job_board_api.exception.ApiException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a page: the sort it belongs to, that row's sort key and its id as tie-breaker.
+ * Clients only ever see the opaque {@link #encode()} form.
+ */
+public record PageCursor(String sort, long key, long id) {
+
+    public String encode() {
+        String raw = sort + ":" + key + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String cursor, String expectedSort) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 3 || !parts[0].equals(expectedSort)) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new PageCursor(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    /**
+     * Whether a row with this key and id comes after the cursor in descending (key, id) order.
+     */
+    public boolean isBefore(long rowKey, long rowId) {
+        return rowKey < key || (rowKey == key && rowId < id);
+    }
+}
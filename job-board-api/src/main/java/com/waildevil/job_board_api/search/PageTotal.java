@@ -0,0 +1,28 @@
+package com.waildevil.job_board_api.search;
+
+import com.waildevil.job_board_api.exception.ApiException;
+import org.springframework.http.HttpStatus;
+
+/**
+ * How a paged job listing reports its total: an exact {@code COUNT(*)}, the size of the search index (free, but only
+ * eventually consistent with the database), or not at all.
+ */
+public enum PageTotal {
+
+    EXACT("exact"),
+    ESTIMATE("estimate"),
+    NONE("none");
+
+    private final String param;
+
+    PageTotal(String param) {
+        this.param = param;
+    }
+
+    public static PageTotal fromParam(String value) {
+        for (PageTotal total : values()) {
+            if (total.param.equalsIgnoreCase(value)) return total;
+        }
+        throw new ApiException(HttpStatus.BAD_REQUEST, "Unsupported total: " + value);
+    }
+}
@@ -0,0 +1,106 @@
+package com.waildevil.job_board_api.search;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Sorted, de-duplicated list of job ids for one term.
+ */
+final class PostingList {
+
+    private long[] ids = new long[4];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long get(int index) {
+        return ids[index];
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    void add(long id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos >= 0) return;
+        pos = -pos - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, pos, ids, pos + 1, size - pos);
+        ids[pos] = id;
+        size++;
+    }
+
+    void remove(long id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos < 0) return;
+        System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+        size--;
+    }
+
+    long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * Intersects the lists starting from the shortest one, so the cost is bounded by the rarest term.
+     */
+    static long[] intersect(List<long[]> lists) {
+        if (lists.isEmpty()) return new long[0];
+        lists.sort(Comparator.comparingInt(a -> a.length));
+
+        long[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private static long[] intersect(long[] small, long[] large) {
+        long[] out = new long[small.length];
+        int n = 0;
+        int from = 0;
+        for (long id : small) {
+            int pos = Arrays.binarySearch(large, from, large.length, id);
+            if (pos >= 0) {
+                out[n++] = id;
+                from = pos + 1;
+            } else {
+                from = -pos - 1;
+            }
+            if (from >= large.length) break;
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    static long[] union(List<PostingList> lists) {
+        if (lists.size() == 1) return lists.get(0).toArray();
+
+        int total = 0;
+        for (PostingList list : lists) total += list.size;
+        long[] all = new long[total];
+        int n = 0;
+        for (PostingList list : lists) {
+            System.arraycopy(list.ids, 0, all, n, list.size);
+            n += list.size;
+        }
+        Arrays.sort(all);
+
+        int unique = 0;
+        for (int i = 0; i < all.length; i++) {
+            if (i == 0 || all[i] != all[i - 1]) {
+                all[unique++] = all[i];
+            }
+        }
+        return Arrays.copyOf(all, unique);
+    }
+}
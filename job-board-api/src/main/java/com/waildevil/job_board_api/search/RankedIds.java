@@ -0,0 +1,70 @@
+package com.waildevil.job_board_api.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The best matches of a query in sort order (descending key, then id), stored in primitive arrays so a cached
+ * result costs 24 bytes per job. When the query had more matches than were kept, {@link #isComplete()} is false
+ * and pages reaching past the kept rows have to come from the index. A sorted copy of the ids answers
+ * {@link #contains(long)} by binary search.
+ */
+public final class RankedIds {
+
+    private final long[] keys;
+    private final long[] ids;
+    private final long[] sortedIds;
+    private final boolean complete;
+
+    RankedIds(long[] keys, long[] ids, boolean complete) {
+        this.keys = keys;
+        this.ids = ids;
+        this.complete = complete;
+        this.sortedIds = ids.clone();
+        Arrays.sort(sortedIds);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(sortedIds, id) >= 0;
+    }
+
+    /**
+     * Cuts the page after {@code after}, or returns null if it is not fully covered by the kept rows.
+     */
+    public SearchPage page(JobSearchSort sort, PageCursor after, int size) {
+        int from = after != null ? firstAfter(after) : 0;
+        if (!complete && from + size >= ids.length) return null;
+
+        int to = Math.min(ids.length, from + size);
+        List<Long> page = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            page.add(ids[i]);
+        }
+        boolean hasMore = to < ids.length;
+        PageCursor next = hasMore ? new PageCursor(sort.param(), keys[to - 1], ids[to - 1]) : null;
+        return new SearchPage(page, next, hasMore);
+    }
+
+    private int firstAfter(PageCursor after) {
+        int low = 0;
+        int high = ids.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (after.isBefore(keys[mid], ids[mid])) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,35 @@
+package com.waildevil.job_board_api.search;
+
+public enum SalaryBand {
+
+    UNDER_30K("< €30,000", Integer.MIN_VALUE),
+    FROM_30K("€30,000 - €50,000", 30_000),
+    FROM_50K("€50,000 - €70,000", 50_000),
+    FROM_70K("€70,000 - €100,000", 70_000),
+    FROM_100K("€100,000+", 100_000);
+
+    private final String label;
+    private final int lowerBound;
+
+    SalaryBand(String label, int lowerBound) {
+        this.label = label;
+        this.lowerBound = lowerBound;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    int lowerBound() {
+        return lowerBound;
+    }
+
+    static SalaryBand of(Integer maxSalary) {
+        if (maxSalary == null) return null;
+        SalaryBand[] bands = values();
+        for (int i = bands.length - 1; i >= 0; i--) {
+            if (maxSalary >= bands[i].lowerBound) return bands[i];
+        }
+        return UNDER_30K;
+    }
+}
@@ -0,0 +1,163 @@
+package com.waildevil.job_board_api.search;
+
+import com.waildevil.job_board_api.entity.Job;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Reverse index of saved searches: instead of running every saved query against a new job, each query is filed
+ * under one thing a job must have to match it, and a new job only looks at the buckets its own terms, category and
+ * type point to. Queries with keywords are filed under their longest (usually rarest) term, queries without
+ * keywords under their category, then their type; only queries with neither land in the bucket every job checks.
+ * Candidates from the buckets are then verified against the full query.
+ */
+@Component
+public class SavedSearchPercolator {
+
+    private record Registered(long id, JobQuery query, String anchor) {
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Registered> byId = new HashMap<>();
+    private final Map<String, Map<Long, JobQuery>> byTerm = new HashMap<>();
+    private final Map<String, Map<Long, JobQuery>> byCategory = new HashMap<>();
+    private final Map<String, Map<Long, JobQuery>> byType = new HashMap<>();
+    private final Map<Long, JobQuery> matchAll = new HashMap<>();
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void rebuild(Map<Long, JobQuery> queries) {
+        lock.writeLock().lock();
+        try {
+            byId.clear();
+            byTerm.clear();
+            byCategory.clear();
+            byType.clear();
+            matchAll.clear();
+            queries.forEach(this::addLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void add(long id, JobQuery query) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            addLocked(id, query);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of all saved searches the job matches.
+     */
+    public List<Long> match(Job job) {
+        IndexedJob doc = IndexedJob.of(job);
+        Set<String> keys = new HashSet<>();
+        for (String term : doc.termWeights().keySet()) {
+            keys.add(term);
+            for (int end = JobSearchIndex.MIN_PREFIX_LENGTH; end < term.length(); end++) {
+                keys.add(term.substring(0, end));
+            }
+        }
+
+        List<Long> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (String key : keys) {
+                collect(byTerm.get(key), doc, matches);
+            }
+            if (doc.category() != null) {
+                collect(byCategory.get(doc.category().toLowerCase(Locale.ROOT)), doc, matches);
+            }
+            if (doc.type() != null) {
+                collect(byType.get(doc.type().toLowerCase(Locale.ROOT)), doc, matches);
+            }
+            collect(matchAll, doc, matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return matches;
+    }
+
+    private static void collect(Map<Long, JobQuery> bucket, IndexedJob doc, List<Long> matches) {
+        if (bucket == null) return;
+        bucket.forEach((id, query) -> {
+            if (query.matches(doc)) {
+                matches.add(id);
+            }
+        });
+    }
+
+    private void addLocked(long id, JobQuery query) {
+        String anchor;
+        Map<Long, JobQuery> bucket;
+        if (query.hasTerms()) {
+            anchor = query.terms().stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+            bucket = byTerm.computeIfAbsent(anchor, k -> new HashMap<>());
+        } else if (query.category() != null) {
+            anchor = query.category().toLowerCase(Locale.ROOT);
+            bucket = byCategory.computeIfAbsent(anchor, k -> new HashMap<>());
+        } else if (query.type() != null) {
+            anchor = query.type().toLowerCase(Locale.ROOT);
+            bucket = byType.computeIfAbsent(anchor, k -> new HashMap<>());
+        } else {
+            anchor = null;
+            bucket = matchAll;
+        }
+        bucket.put(id, query);
+        byId.put(id, new Registered(id, query, anchor));
+    }
+
+    private void removeLocked(long id) {
+        Registered previous = byId.remove(id);
+        if (previous == null) return;
+        JobQuery query = previous.query();
+        if (query.hasTerms()) {
+            removeFrom(byTerm, previous.anchor(), id);
+        } else if (query.category() != null) {
+            removeFrom(byCategory, previous.anchor(), id);
+        } else if (query.type() != null) {
+            removeFrom(byType, previous.anchor(), id);
+        } else {
+            matchAll.remove(id);
+        }
+    }
+
+    private static void removeFrom(Map<String, Map<Long, JobQuery>> buckets, String anchor, long id) {
+        Map<Long, JobQuery> bucket = buckets.get(anchor);
+        if (bucket == null) return;
+        bucket.remove(id);
+        if (bucket.isEmpty()) {
+            buckets.remove(anchor);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.waildevil.job_board_api.search;
+
+import java.util.List;
+
+public record SearchPage(List<Long> ids, PageCursor next, boolean hasMore) {
+}
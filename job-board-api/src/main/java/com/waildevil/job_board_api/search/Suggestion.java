@@ -0,0 +1,48 @@
+package com.waildevil.job_board_api.search;
+
+import java.util.List;
+
+/**
+ * One distinct title, location or company name, weighted by how many jobs currently use it.
+ */
+public final class Suggestion {
+
+    public enum Type {
+        TITLE, LOCATION, COMPANY
+    }
+
+    private final Type type;
+    private final String text;
+    private final List<String> keys;
+    private int count;
+
+    Suggestion(Type type, String text, List<String> keys) {
+        this.type = type;
+        this.text = text;
+        this.keys = keys;
+    }
+
+    public Type type() {
+        return type;
+    }
+
+    public String text() {
+        return text;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    List<String> keys() {
+        return keys;
+    }
+
+    void increment() {
+        count++;
+    }
+
+    void decrement() {
+        count--;
+    }
+}
@@ -0,0 +1,205 @@
+package com.waildevil.job_board_api.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Compressed (radix) trie of suggestion keys. Every node caches the highest weight in its subtree, so the top-k
+ * completions of a prefix are found best-first without walking the whole subtree. Not thread-safe.
+ */
+final class SuggestionTrie {
+
+    static final class Node {
+        private String edge;
+        private Map<Character, Node> children;
+        private Set<Suggestion> values;
+        private int maxWeight;
+
+        private Node(String edge) {
+            this.edge = edge;
+        }
+    }
+
+    private final Node root = new Node("");
+
+    void add(String key, Suggestion suggestion) {
+        List<Node> path = new ArrayList<>();
+        Node node = insertPath(key, path);
+        if (node.values == null) {
+            node.values = new LinkedHashSet<>();
+        }
+        node.values.add(suggestion);
+        updateWeights(path);
+    }
+
+    void remove(String key, Suggestion suggestion) {
+        List<Node> path = new ArrayList<>();
+        Node node = findExact(key, path);
+        if (node == null || node.values == null) return;
+
+        node.values.remove(suggestion);
+        if (node.values.isEmpty()) {
+            node.values = null;
+        }
+        prune(path);
+        updateWeights(path);
+    }
+
+    /**
+     * Recomputes the cached subtree weights above {@code key} after a suggestion's weight changed.
+     */
+    void refresh(String key) {
+        List<Node> path = new ArrayList<>();
+        if (findExact(key, path) != null) {
+            updateWeights(path);
+        }
+    }
+
+    List<Suggestion> top(String prefix, int limit) {
+        Node start = findPrefix(prefix);
+        if (start == null) return List.of();
+
+        record Candidate(int weight, Node node, Suggestion suggestion) {
+        }
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(
+                Comparator.comparingInt(Candidate::weight).reversed());
+        queue.add(new Candidate(start.maxWeight, start, null));
+
+        Set<Suggestion> result = new LinkedHashSet<>();
+        while (!queue.isEmpty() && result.size() < limit) {
+            Candidate next = queue.poll();
+            if (next.suggestion() != null) {
+                result.add(next.suggestion());
+                continue;
+            }
+            Node node = next.node();
+            if (node.values != null) {
+                for (Suggestion value : node.values) {
+                    queue.add(new Candidate(value.count(), null, value));
+                }
+            }
+            if (node.children != null) {
+                for (Node child : node.children.values()) {
+                    queue.add(new Candidate(child.maxWeight, child, null));
+                }
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
+    private Node insertPath(String key, List<Node> path) {
+        Node node = root;
+        path.add(node);
+        int pos = 0;
+        while (pos < key.length()) {
+            Node child = node.children != null ? node.children.get(key.charAt(pos)) : null;
+            if (child == null) {
+                Node leaf = new Node(key.substring(pos));
+                addChild(node, leaf);
+                path.add(leaf);
+                return leaf;
+            }
+
+            int common = commonPrefix(child.edge, key, pos);
+            if (common < child.edge.length()) {
+                Node split = new Node(child.edge.substring(0, common));
+                node.children.put(split.edge.charAt(0), split);
+                child.edge = child.edge.substring(common);
+                addChild(split, child);
+                split.maxWeight = child.maxWeight;
+                child = split;
+            }
+            node = child;
+            path.add(node);
+            pos += common;
+        }
+        return node;
+    }
+
+    private Node findExact(String key, List<Node> path) {
+        Node node = root;
+        path.add(node);
+        int pos = 0;
+        while (pos < key.length()) {
+            Node child = node.children != null ? node.children.get(key.charAt(pos)) : null;
+            if (child == null || !key.startsWith(child.edge, pos)) return null;
+            node = child;
+            path.add(node);
+            pos += child.edge.length();
+        }
+        return node;
+    }
+
+    private Node findPrefix(String prefix) {
+        Node node = root;
+        int pos = 0;
+        while (pos < prefix.length()) {
+            Node child = node.children != null ? node.children.get(prefix.charAt(pos)) : null;
+            if (child == null) return null;
+
+            int common = commonPrefix(child.edge, prefix, pos);
+            if (pos + common == prefix.length()) return child;
+            if (common < child.edge.length()) return null;
+            node = child;
+            pos += common;
+        }
+        return node;
+    }
+
+    // Drops empty leaves and merges value-less nodes that are left with a single child, bottom-up.
+    private void prune(List<Node> path) {
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node node = path.get(i);
+            Node parent = path.get(i - 1);
+            int childCount = node.children != null ? node.children.size() : 0;
+            if (node.values != null) return;
+
+            if (childCount == 0) {
+                parent.children.remove(node.edge.charAt(0));
+                path.remove(i);
+            } else if (childCount == 1) {
+                Node only = node.children.values().iterator().next();
+                only.edge = node.edge + only.edge;
+                parent.children.put(only.edge.charAt(0), only);
+                path.set(i, only);
+                return;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static void updateWeights(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+            int max = 0;
+            if (node.values != null) {
+                for (Suggestion value : node.values) max = Math.max(max, value.count());
+            }
+            if (node.children != null) {
+                for (Node child : node.children.values()) max = Math.max(max, child.maxWeight);
+            }
+            node.maxWeight = max;
+        }
+    }
+
+    private static void addChild(Node parent, Node child) {
+        if (parent.children == null) {
+            parent.children = new HashMap<>(4);
+        }
+        parent.children.put(child.edge.charAt(0), child);
+    }
+
+    private static int commonPrefix(String edge, String key, int offset) {
+        int max = Math.min(edge.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && edge.charAt(i) == key.charAt(offset + i)) i++;
+        return i;
+    }
+}
@@ -0,0 +1,227 @@
+package com.waildevil.job_board_api.service;
+
+import com.waildevil.job_board_api.dto.ActivityBucketDto;
+import com.waildevil.job_board_api.dto.ActivityTimeseriesDto;
+import com.waildevil.job_board_api.entity.ActivityMetric;
+import com.waildevil.job_board_api.entity.ActivityRollup;
+import com.waildevil.job_board_api.entity.ApplicationStatus;
+import com.waildevil.job_board_api.entity.RollupGranularity;
+import com.waildevil.job_board_api.entity.RollupWatermark;
+import com.waildevil.job_board_api.exception.ApiException;
+import com.waildevil.job_board_api.repository.ActivityRollupRepository;
+import com.waildevil.job_board_api.repository.ApplicationRepository;
+import com.waildevil.job_board_api.repository.JobRepository;
+import com.waildevil.job_board_api.repository.RollupWatermarkRepository;
+import com.waildevil.job_board_api.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Signups, job postings, applications and acceptances per hour, day and week, kept in {@code activity_rollups}.
+ * A scheduled run adds the hours between the watermark and the last settled hour. The database counts the source
+ * rows of that range per hour, and the day and week buckets are summed from those hours, so neither the run nor the
+ * timeseries endpoint loads the source rows themselves.
+ * <p>
+ * The rollups record when things happened: a job or application deleted after its hour was rolled up stays
+ * counted, one deleted before that never is. Acceptances are read from the applications that are accepted when their
+ * hour is rolled up, since no history of status changes is kept. An acceptance whose application is deleted, or
+ * changed to another status by a write that bypasses {@link ApplicationService#updateApplicationStatus}, before then
+ * is therefore missing. Accounts created before {@code users.created_at} existed are not counted as signups, and
+ * applications accepted before {@code applications.status_changed_at} existed are not counted as acceptances.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityRollupService {
+
+    static final String WATERMARK = "activity";
+    // One transaction per window keeps the first backfill over years of data in small steps
+    static final Duration WINDOW = Duration.ofDays(1);
+    static final int MAX_BUCKETS = 1000;
+
+    private final ActivityRollupRepository rollupRepository;
+    private final RollupWatermarkRepository watermarkRepository;
+    private final UserRepository userRepository;
+    private final JobRepository jobRepository;
+    private final ApplicationRepository applicationRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // Writes are stamped before they commit; hours are only rolled up once transactions that started in them are done
+    @Value("${activity-rollups.settle-minutes:5}")
+    private long settleMinutes;
+
+    @Scheduled(cron = "${activity-rollups.cron:0 10 * * * *}")
+    public void rollUp() {
+        rollUp(Instant.now());
+    }
+
+    /**
+     * Rolls up every complete hour that ended at least the settle time before {@code now}.
+     *
+     * @return the number of hours added
+     */
+    long rollUp(Instant now) {
+        Instant end = RollupGranularity.HOUR.bucketStart(now.minus(Duration.ofMinutes(settleMinutes)));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long hours = 0;
+        Long added;
+        while ((added = transaction.execute(status -> rollUpNextWindow(end))) != null && added > 0) {
+            hours += added;
+        }
+        if (hours > 0) {
+            log.info("Rolled up {} hours of platform activity, up to {}", hours, end);
+        }
+        return hours;
+    }
+
+    private long rollUpNextWindow(Instant end) {
+        RollupWatermark watermark = watermarkRepository.findForUpdate(WATERMARK).orElseGet(() -> start(end));
+        Instant from = watermark.getRolledUpTo();
+        if (!from.isBefore(end)) return 0;
+        Instant to = from.plus(WINDOW).isBefore(end) ? from.plus(WINDOW) : end;
+
+        for (ActivityMetric metric : ActivityMetric.values()) {
+            Map<Instant, Long> hours = hourlyCounts(metric, from, to);
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                add(metric, granularity, hours);
+            }
+        }
+        watermark.setRolledUpTo(to);
+        watermarkRepository.save(watermark);
+        return Duration.between(from, to).toHours();
+    }
+
+    // First run: start at the hour of the oldest activity, or now on an empty database
+    private RollupWatermark start(Instant end) {
+        Instant first = Stream.of(userRepository.findFirstCreatedAt(), jobRepository.findFirstCreatedAt(),
+                        applicationRepository.findFirstAppliedAt().map(ActivityRollupService::toInstant))
+                .flatMap(Optional::stream)
+                .min(Instant::compareTo)
+                .map(RollupGranularity.HOUR::bucketStart)
+                .orElse(end);
+        watermarkRepository.saveAndFlush(RollupWatermark.builder().name(WATERMARK).rolledUpTo(first).build());
+        return watermarkRepository.findForUpdate(WATERMARK).orElseThrow();
+    }
+
+    private Map<Instant, Long> hourlyCounts(ActivityMetric metric, Instant from, Instant to) {
+        Map<Instant, Long> hours = new HashMap<>();
+        switch (metric) {
+            case SIGNUPS -> userRepository.countCreatedPerHour(from, to)
+                    .forEach(hour -> hours.put(hour.getHour(), hour.getCount()));
+            case JOBS_POSTED -> jobRepository.countCreatedPerHour(from, to)
+                    .forEach(hour -> hours.put(hour.getHour(), hour.getCount()));
+            case APPLICATIONS -> addLocal(hours, applicationRepository.countAppliedPerHour(toLocal(from), toLocal(to)));
+            // updateApplicationStatus never changes an accepted application, so its statusChangedAt is the time it
+            // was accepted; see the class comment for the acceptances this misses
+            case ACCEPTANCES -> addLocal(hours, applicationRepository.countStatusChangedPerHour(
+                    ApplicationStatus.ACCEPTED, toLocal(from), toLocal(to)));
+        }
+        return hours;
+    }
+
+    // Local hours are UTC hours too unless the server's zone is offset by a fraction of an hour
+    private static void addLocal(Map<Instant, Long> hours, List<ApplicationRepository.LocalHourCount> counts) {
+        for (ApplicationRepository.LocalHourCount count : counts) {
+            hours.merge(RollupGranularity.HOUR.bucketStart(toInstant(count.getHour())), count.getCount(), Long::sum);
+        }
+    }
+
+    private void add(ActivityMetric metric, RollupGranularity granularity, Map<Instant, Long> hours) {
+        if (hours.isEmpty()) return;
+        Map<Instant, Long> counts = new HashMap<>();
+        hours.forEach((hour, count) -> counts.merge(granularity.bucketStart(hour), count, Long::sum));
+        List<ActivityRollup> rows = new ArrayList<>(counts.size());
+        // A day or week bucket is usually already there from earlier hours
+        for (ActivityRollup row : rollupRepository.findBuckets(granularity, counts.keySet(), metric)) {
+            row.setCount(row.getCount() + counts.remove(row.getBucketStart()));
+            rows.add(row);
+        }
+        counts.forEach((start, count) -> rows.add(ActivityRollup.builder()
+                .granularity(granularity).bucketStart(start).metric(metric).count(count).build()));
+        rollupRepository.saveAll(rows);
+    }
+
+    /**
+     * Returns one bucket per {@code granularity} step from the bucket containing {@code from} up to {@code to},
+     * read from the rollups with zeros where nothing happened.
+     */
+    public ActivityTimeseriesDto timeseries(String granularity, Instant from, Instant to) {
+        RollupGranularity size = parseGranularity(granularity);
+        Instant end = to != null ? to : Instant.now();
+        Instant start = size.bucketStart(from != null ? from : end.minus(size.length().multipliedBy(30)));
+        if (!start.isBefore(end)) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "from must be before to");
+        }
+        if (bucketCount(Duration.between(start, end), size.length()) > MAX_BUCKETS) {
+            throw new ApiException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_BUCKETS + " buckets can be requested at once, use a larger granularity");
+        }
+
+        Map<Instant, Map<ActivityMetric, Long>> stored = new HashMap<>();
+        for (ActivityRollup row : rollupRepository.findInRange(size, start, end)) {
+            stored.computeIfAbsent(row.getBucketStart(), s -> new EnumMap<>(ActivityMetric.class))
+                    .put(row.getMetric(), row.getCount());
+        }
+        List<ActivityBucketDto> buckets = new ArrayList<>();
+        for (Instant bucket = start; bucket.isBefore(end); bucket = bucket.plus(size.length())) {
+            Map<ActivityMetric, Long> counts = stored.getOrDefault(bucket, Map.of());
+            buckets.add(ActivityBucketDto.builder()
+                    .start(bucket)
+                    .signups(counts.getOrDefault(ActivityMetric.SIGNUPS, 0L))
+                    .jobsPosted(counts.getOrDefault(ActivityMetric.JOBS_POSTED, 0L))
+                    .applications(counts.getOrDefault(ActivityMetric.APPLICATIONS, 0L))
+                    .acceptances(counts.getOrDefault(ActivityMetric.ACCEPTANCES, 0L))
+                    .build());
+        }
+        return ActivityTimeseriesDto.builder()
+                .granularity(size)
+                .from(start)
+                .to(end)
+                .rolledUpTo(watermarkRepository.findById(WATERMARK).map(RollupWatermark::getRolledUpTo).orElse(null))
+                .buckets(buckets)
+                .build();
+    }
+
+    private static RollupGranularity parseGranularity(String granularity) {
+        if (granularity == null) return RollupGranularity.DAY;
+        try {
+            return RollupGranularity.valueOf(granularity.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "granularity must be one of hour, day or week");
+        }
+    }
+
+    // A partial last bucket is still returned, so it counts
+    private static long bucketCount(Duration span, Duration length) {
+        long whole = span.dividedBy(length);
+        return length.multipliedBy(whole).equals(span) ? whole : whole + 1;
+    }
+
+    // appliedAt and statusChangedAt are LocalDateTime.now() in the server's zone
+    private static Instant toInstant(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private static LocalDateTime toLocal(Instant time) {
+        return LocalDateTime.ofInstant(time, ZoneId.systemDefault());
+    }
+}
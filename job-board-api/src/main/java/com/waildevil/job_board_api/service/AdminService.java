@@ -1,25 +1,83 @@
 package com.waildevil.job_board_api.service;
 
+import com.waildevil.job_board_api.dto.ActivityTimeseriesDto;
 import com.waildevil.job_board_api.dto.AdminStatsResponse;
-import com.waildevil.job_board_api.repository.ApplicationRepository;
-import com.waildevil.job_board_api.repository.JobRepository;
-import com.waildevil.job_board_api.repository.UserRepository;
+import com.waildevil.job_board_api.dto.MailOutboxStatsDto;
+import com.waildevil.job_board_api.dto.SearchCacheStatsDto;
+import com.waildevil.job_board_api.dto.SearchIndexStatsDto;
+import com.waildevil.job_board_api.search.CatalogFootprint;
+import com.waildevil.job_board_api.search.JobResultCache;
+import com.waildevil.job_board_api.search.JobSearchIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+
 @Service
 @RequiredArgsConstructor
 public class AdminService {
 
-    private final UserRepository userRepository;
-    private final JobRepository jobRepository;
-    private final ApplicationRepository applicationRepository;
+    private final PlatformCounters platformCounters;
+    private final JobResultCache jobResultCache;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobApplicationStatsService jobApplicationStatsService;
+    private final ActivityRollupService activityRollupService;
+    private final MailOutboxDispatcher mailOutboxDispatcher;
 
     public AdminStatsResponse getStats() {
+        return toResponse(platformCounters.snapshot());
+    }
+
+    public AdminStatsResponse recomputeStats() {
+        return toResponse(platformCounters.recompute());
+    }
+
+    private static AdminStatsResponse toResponse(PlatformCounters.Snapshot counters) {
         return AdminStatsResponse.builder()
-                .totalUsers(userRepository.count())
-                .totalJobs(jobRepository.count())
-                .totalApplications(applicationRepository.count())
+                .totalUsers(counters.users())
+                .totalJobs(counters.jobs())
+                .totalApplications(counters.applications())
+                .usersByRole(counters.usersByRole())
+                .applicationsByStatus(counters.applicationsByStatus())
+                .checkpointedAt(counters.checkpointedAt())
                 .build();
     }
+
+    public ActivityTimeseriesDto getTimeseries(String granularity, Instant from, Instant to) {
+        return activityRollupService.timeseries(granularity, from, to);
+    }
+
+    public SearchCacheStatsDto getSearchCacheStats() {
+        JobResultCache.Stats stats = jobResultCache.stats();
+        return SearchCacheStatsDto.builder()
+                .entries(stats.entries())
+                .cachedIds(stats.weight())
+                .hits(stats.hits())
+                .misses(stats.misses())
+                .hitRate(stats.hitRate())
+                .invalidations(stats.invalidations())
+                .evictions(stats.evictions())
+                .build();
+    }
+
+    public SearchIndexStatsDto getSearchIndexStats() {
+        CatalogFootprint footprint = jobSearchIndex.catalogFootprint();
+        return SearchIndexStatsDto.builder()
+                .ready(jobSearchIndex.isReady())
+                .jobs(footprint.jobs())
+                .catalogBytes(footprint.bytes())
+                .catalogBytesPer100kJobs(footprint.bytesPer100kJobs())
+                .categories(footprint.categories())
+                .types(footprint.types())
+                .locations(footprint.locations())
+                .build();
+    }
+
+    public MailOutboxStatsDto getMailOutboxStats() {
+        return mailOutboxDispatcher.stats();
+    }
+
+    public int reconcileJobStats() {
+        return jobApplicationStatsService.reconcile();
+    }
 }
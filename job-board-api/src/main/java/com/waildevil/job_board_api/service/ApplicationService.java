@@ -11,6 +11,7 @@ import com.waildevil.job_board_api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -24,7 +25,10 @@ public class ApplicationService {
     private final ApplicationMapper applicationMapper;
     private final UserRepository userRepository;
     private final JobRepository jobRepository;
-    private final EmailService emailService;
+    private final StatusChangeNotifier statusChangeNotifier;
+    private final JobApplicationStatsService jobApplicationStatsService;
+    private final RecruiterDashboardCache recruiterDashboardCache;
+    private final PlatformCounters platformCounters;
 
     public List<Application> getAllApplications() {
         return applicationRepository.findAll();
@@ -34,6 +38,7 @@ public class ApplicationService {
         return applicationRepository.findById(id);
     }
 
+    @Transactional
     public Application createApplication(ApplicationResponseDto dto, String userEmail) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "User not found"));
@@ -48,11 +53,22 @@ public class ApplicationService {
         application.setAppliedAt(LocalDateTime.now());
         application.setStatus(ApplicationStatus.PENDING);
 
-        return applicationRepository.save(application);
+        jobApplicationStatsService.onApplicationCreated(job.getId());
+        Application saved = applicationRepository.save(application);
+        platformCounters.onApplicationCreated();
+        recruiterDashboardCache.invalidate(job.getRecruiter() != null ? job.getRecruiter().getId() : null);
+        return saved;
     }
 
+    @Transactional
     public void deleteApplication(Long id) {
-        applicationRepository.deleteById(id);
+        applicationRepository.findById(id).ifPresent(application -> {
+            jobApplicationStatsService.onApplicationDeleted(application.getJob().getId(), application.getStatus());
+            applicationRepository.delete(application);
+            platformCounters.onApplicationDeleted(application.getStatus());
+            User recruiter = application.getJob().getRecruiter();
+            recruiterDashboardCache.invalidate(recruiter != null ? recruiter.getId() : null);
+        });
     }
 
     public List<Application> getApplicationsForEmployer(String email) {
@@ -73,6 +89,11 @@ public class ApplicationService {
         return applicationRepository.findByJobId(jobId);
     }
 
+    /**
+     * Changes an application's status. Accepting the last open position also rejects every pending application
+     * for the job; all status mails are queued in the mail outbox in the same transaction.
+     */
+    @Transactional
     public Application updateApplicationStatus(Long applicationId, ApplicationStatus newStatus, String requesterEmail) {
         Application application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Application not found"));
@@ -96,42 +117,52 @@ public class ApplicationService {
             throw new ApiException(HttpStatus.BAD_REQUEST, "This application is already accepted.");
         }
 
+        // The job's stats row is always locked before application rows, so concurrent changes cannot deadlock.
+        // Accepting reserves a position with a conditional decrement instead of checking a count first.
+        ApplicationStatus previousStatus = application.getStatus();
+        int remaining = 0;
         if (newStatus == ApplicationStatus.ACCEPTED) {
-            long acceptedCount = applicationRepository.countAcceptedApplications(job, ApplicationStatus.ACCEPTED);
-            if (acceptedCount >= job.getAvailablePositions()) {
+            remaining = jobApplicationStatsService.reservePosition(job.getId(), previousStatus);
+            if (remaining < 0) {
                 throw new ApiException(HttpStatus.BAD_REQUEST, "No available positions left for this job.");
             }
+        } else {
+            jobApplicationStatsService.onStatusChanged(job.getId(), previousStatus, newStatus, 1);
+        }
+        LocalDateTime changedAt = LocalDateTime.now();
+        if (applicationRepository.updateStatus(List.of(applicationId), previousStatus, newStatus, changedAt) == 0) {
+            throw new ApiException(HttpStatus.CONFLICT, "This application was changed in the meantime, please reload it.");
         }
-
         application.setStatus(newStatus);
-        Application updated = applicationRepository.save(application);
-
-        emailService.sendStatusChangeEmail(
-                application.getUser().getEmail(),
-                job.getTitle(),
-                newStatus.name()
-        );
-
-
-        if (newStatus == ApplicationStatus.ACCEPTED) {
-            long acceptedCount = applicationRepository.countAcceptedApplications(job, ApplicationStatus.ACCEPTED);
-            if (acceptedCount >= job.getAvailablePositions()) {
-                List<Application> pendingApps = applicationRepository.findByJobAndStatus(job, ApplicationStatus.PENDING);
-                for (Application pending : pendingApps) {
-                    pending.setStatus(ApplicationStatus.REJECTED);
-
-
-                    emailService.sendStatusChangeEmail(
-                            pending.getUser().getEmail(),
-                            job.getTitle(),
-                            "REJECTED"
-                    );
-                }
-                applicationRepository.saveAll(pendingApps);
+        application.setStatusChangedAt(changedAt);
+        platformCounters.onStatusChanged(previousStatus, newStatus, 1);
+        recruiterDashboardCache.invalidate(recruiter != null ? recruiter.getId() : null);
+        String jobTitle = job.getTitle();
+        User applicant = application.getUser();
+        statusChangeNotifier.onStatusChanged(List.of(new StatusChangeNotifier.Recipient(applicant.getId(),
+                applicant.getEmail(), applicant.getNotificationDelivery(), applicant.getLocale())), jobTitle, newStatus);
+
+        // That was the last open position: reject everyone still pending in one statement
+        if (newStatus == ApplicationStatus.ACCEPTED && remaining == 0) {
+            List<ApplicationRepository.Applicant> pending =
+                    applicationRepository.findApplicantsByJobAndStatus(job, ApplicationStatus.PENDING);
+            if (!pending.isEmpty()) {
+                int rejected = applicationRepository.updateStatus(
+                        pending.stream().map(ApplicationRepository.Applicant::getId).toList(),
+                        ApplicationStatus.PENDING, ApplicationStatus.REJECTED, changedAt);
+                // Reported after the update for its row count; the stats row exists since the position was reserved
+                jobApplicationStatsService.onStatusChanged(job.getId(), ApplicationStatus.PENDING,
+                        ApplicationStatus.REJECTED, rejected);
+                platformCounters.onStatusChanged(ApplicationStatus.PENDING, ApplicationStatus.REJECTED, rejected);
+                List<StatusChangeNotifier.Recipient> recipients = pending.stream()
+                        .map(a -> new StatusChangeNotifier.Recipient(a.getUserId(), a.getEmail(),
+                                a.getNotificationDelivery(), a.getLocale()))
+                        .toList();
+                statusChangeNotifier.onStatusChanged(recipients, jobTitle, ApplicationStatus.REJECTED);
             }
         }
 
-        return updated;
+        return application;
     }
 
 
@@ -139,15 +170,16 @@ public class ApplicationService {
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Job not found"));
 
-        long accepted = applicationRepository.countAcceptedApplications(job, ApplicationStatus.ACCEPTED);
-        int remaining = job.getAvailablePositions() - (int) accepted;
+        JobApplicationStats stats = jobApplicationStatsService.get(jobId);
 
         return JobWithStatsDto.builder()
                 .id(job.getId())
                 .title(job.getTitle())
                 .availablePositions(job.getAvailablePositions())
-                .acceptedCount(accepted)
-                .remainingPositions(Math.max(remaining, 0))
+                .pendingCount(stats.getPendingCount())
+                .acceptedCount(stats.getAcceptedCount())
+                .rejectedCount(stats.getRejectedCount())
+                .remainingPositions(Math.max(stats.getRemainingPositions(), 0))
                 .build();
     }
 
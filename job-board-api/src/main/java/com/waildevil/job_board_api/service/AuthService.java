@@ -23,6 +23,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final JwtService jwtService;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final PlatformCounters platformCounters;
     private final AuthenticationManager authenticationManager;
 
     public AuthenticationResponse register(RegisterRequest request) {
@@ -41,6 +42,7 @@ public class AuthService {
                 .build();
 
         userRepository.save(user);
+        platformCounters.onUserCreated(user.getRole());
 
         String token = jwtService.generateToken(user);
 
@@ -6,6 +6,7 @@ import com.waildevil.job_board_api.mapper.CompanyMapper;
 import com.waildevil.job_board_api.repository.CompanyRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,6 +17,7 @@ public class CompanyService {
 
     private final CompanyRepository companyRepository;
     private final CompanyMapper companyMapper;
+    private final PlatformCounters platformCounters;
 
     public List<Company> getAllCompanies() {
         return companyRepository.findAll();
@@ -35,7 +37,14 @@ public class CompanyService {
         return companyRepository.save(company);
     }
 
+    // Employees are removed with the company
+    @Transactional
     public void deleteCompany(Long id) {
-        companyRepository.deleteById(id);
+        companyRepository.findById(id).ifPresent(company -> {
+            if (company.getEmployees() != null) {
+                company.getEmployees().forEach(employee -> platformCounters.onUserDeleted(employee.getRole()));
+            }
+            companyRepository.delete(company);
+        });
     }
 }
@@ -1,28 +1,94 @@
 package com.waildevil.job_board_api.service;
 
+import com.waildevil.job_board_api.entity.ApplicationStatus;
+import com.waildevil.job_board_api.entity.OutboxMail;
+import com.waildevil.job_board_api.entity.PendingNotification;
+import com.waildevil.job_board_api.mail.MailTemplates;
+import com.waildevil.job_board_api.mail.MailType;
+import com.waildevil.job_board_api.mail.RenderedMail;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Renders the platform's mails from the {@link MailTemplates} in the recipient's locale and queues them in the
+ * {@link MailOutbox}; they are sent by the {@link MailOutboxDispatcher} after the calling transaction commits.
+ */
 @Service
 @RequiredArgsConstructor
 public class EmailService {
 
-    private final JavaMailSender mailSender;
+    private static final int PASSWORD_RESET_MINUTES = 30;
+
+    private final MailOutbox mailOutbox;
+    private final MailTemplates mailTemplates;
 
-    public void sendStatusChangeEmail(String to, String jobTitle, String status) {
-        String subject = "Update on your job application";
-        String text = switch (status.toUpperCase()) {
-            case "ACCEPTED" -> "Congratulations! You have been accepted for the job: " + jobTitle;
-            case "REJECTED" -> "Leider, we regret to inform you that your application for the job '" + jobTitle + "' has been rejected.";
-            default -> "Your application status for '" + jobTitle + "' has been updated to: " + status;
+    @Value("${app.frontend-url:http://localhost:3000}")
+    private String frontendUrl;
+
+    /**
+     * Queues the same status mail to every recipient; they share the locale, so it is rendered once.
+     */
+    public void queueStatusChangeEmails(List<String> recipients, String locale, String jobTitle,
+                                        ApplicationStatus status) {
+        MailType type = switch (status) {
+            case ACCEPTED -> MailType.STATUS_ACCEPTED;
+            case REJECTED -> MailType.STATUS_REJECTED;
+            case PENDING -> MailType.STATUS_PENDING;
         };
+        mailOutbox.enqueue(recipients, mailTemplates.render(type, locale,
+                model("jobTitle", jobTitle, "applicationsUrl", applicationsUrl())));
+    }
+
+    /**
+     * Queues one mail listing several status changes of the same candidate, oldest first.
+     */
+    public void queueStatusDigestEmail(String to, String locale, List<PendingNotification> changes) {
+        List<Map<String, Object>> items = new ArrayList<>(changes.size());
+        for (PendingNotification change : changes) {
+            items.add(model("jobTitle", change.getJobTitle(), change.getStatus().name().toLowerCase(Locale.ROOT), true));
+        }
+        mailOutbox.enqueue(to, mailTemplates.render(MailType.STATUS_DIGEST, locale,
+                model("changes", items, "count", changes.size(), "several", changes.size() > 1,
+                        "applicationsUrl", applicationsUrl())));
+    }
+
+    public OutboxMail jobAlertEmail(String to, String locale, String searchName, String jobTitle, String companyName,
+                                    String location, Long jobId) {
+        RenderedMail mail = mailTemplates.render(MailType.JOB_ALERT, locale,
+                model("searchName", searchName, "jobTitle", jobTitle, "companyName", companyName,
+                        "location", location, "jobUrl", frontendUrl + "/jobs/" + jobId));
+        return MailOutbox.mail(to, mail, Instant.now());
+    }
+
+    public void queueJobAlertEmails(List<OutboxMail> mails) {
+        mailOutbox.enqueueAll(mails);
+    }
+
+    public void queuePasswordResetEmail(String to, String locale, String resetLink) {
+        mailOutbox.enqueue(to, mailTemplates.render(MailType.PASSWORD_RESET, locale,
+                model("resetLink", resetLink, "expiresInMinutes", PASSWORD_RESET_MINUTES)));
+    }
+
+    private String applicationsUrl() {
+        return frontendUrl + "/my-applications";
+    }
 
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject(subject);
-        message.setText(text);
-        mailSender.send(message);
+    // Key-value pairs; null values are left out, so the templates see them as missing
+    private static Map<String, Object> model(Object... keysAndValues) {
+        Map<String, Object> model = new HashMap<>(keysAndValues.length);
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            if (keysAndValues[i + 1] != null) {
+                model.put((String) keysAndValues[i], keysAndValues[i + 1]);
+            }
+        }
+        return model;
     }
 }
@@ -0,0 +1,115 @@
+package com.waildevil.job_board_api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waildevil.job_board_api.dto.ApplicationResponseDto;
+import com.waildevil.job_board_api.dto.UserResponseDto;
+import com.waildevil.job_board_api.export.ExportColumn;
+import com.waildevil.job_board_api.export.ExportFormat;
+import com.waildevil.job_board_api.export.RowWriter;
+import com.waildevil.job_board_api.mapper.ApplicationMapper;
+import com.waildevil.job_board_api.mapper.UserMapper;
+import com.waildevil.job_board_api.repository.ApplicationRepository;
+import com.waildevil.job_board_api.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Streams applications and users straight from a database cursor to the response, one row at a time, so memory
+ * use does not depend on how many rows are exported.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    // Same as the fetch size of the streaming queries: the persistence context never holds more than one batch
+    private static final int CLEAR_EVERY = 500;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final List<ExportColumn<ApplicationResponseDto>> APPLICATION_COLUMNS = List.of(
+            new ExportColumn<>("id", ApplicationResponseDto::getId),
+            new ExportColumn<>("jobId", ApplicationResponseDto::getJobId),
+            new ExportColumn<>("jobTitle", ApplicationResponseDto::getJobTitle),
+            new ExportColumn<>("companyName", ApplicationResponseDto::getCompanyName),
+            new ExportColumn<>("userId", ApplicationResponseDto::getUserId),
+            new ExportColumn<>("candidateName", ApplicationResponseDto::getCandidateName),
+            new ExportColumn<>("phoneNumber", ApplicationResponseDto::getPhoneNumber),
+            new ExportColumn<>("status", ApplicationResponseDto::getStatus),
+            new ExportColumn<>("appliedAt", ApplicationResponseDto::getAppliedAt),
+            new ExportColumn<>("resume", ApplicationResponseDto::getResume),
+            new ExportColumn<>("coverLetter", ApplicationResponseDto::getCoverLetter));
+
+    private static final List<ExportColumn<UserResponseDto>> USER_COLUMNS = List.of(
+            new ExportColumn<>("id", UserResponseDto::getId),
+            new ExportColumn<>("name", UserResponseDto::getName),
+            new ExportColumn<>("email", UserResponseDto::getEmail),
+            new ExportColumn<>("role", UserResponseDto::getRole),
+            new ExportColumn<>("phoneNumber", UserResponseDto::getPhoneNumber),
+            new ExportColumn<>("address", UserResponseDto::getAddress),
+            new ExportColumn<>("companyId", UserResponseDto::getCompanyId),
+            new ExportColumn<>("companyName", UserResponseDto::getCompanyName),
+            new ExportColumn<>("provider", UserResponseDto::getProvider));
+
+    private final ApplicationRepository applicationRepository;
+    private final UserRepository userRepository;
+    private final ApplicationMapper applicationMapper;
+    private final UserMapper userMapper;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Writes every application, or only those for jobs of {@code recruiterEmail} when it is not null.
+     */
+    public void exportApplications(String recruiterEmail, ExportFormat format, OutputStream out) {
+        export(() -> recruiterEmail != null
+                        ? applicationRepository.streamByRecruiterEmail(recruiterEmail)
+                        : applicationRepository.streamAll(),
+                applicationMapper::toDto, APPLICATION_COLUMNS, format, out);
+    }
+
+    public void exportUsers(ExportFormat format, OutputStream out) {
+        export(userRepository::streamAll, userMapper::toResponseDto, USER_COLUMNS, format, out);
+    }
+
+    private <E, D> void export(Supplier<Stream<E>> rows, Function<E, D> mapper, List<ExportColumn<D>> columns,
+                               ExportFormat format, OutputStream out) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.executeWithoutResult(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            long count = 0;
+            try (Stream<E> stream = rows.get()) {
+                RowWriter<D> rowWriter = format.open(writer, columns, objectMapper);
+                Iterator<E> it = stream.iterator();
+                while (it.hasNext()) {
+                    rowWriter.write(mapper.apply(it.next()));
+                    if (++count % CLEAR_EVERY == 0) {
+                        entityManager.clear();
+                    }
+                }
+                rowWriter.finish();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            log.info("Exported {} rows as {}", count, format.param());
+        });
+    }
+}
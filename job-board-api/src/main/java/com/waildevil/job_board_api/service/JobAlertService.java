@@ -0,0 +1,110 @@
+package com.waildevil.job_board_api.service;
+
+import com.waildevil.job_board_api.dto.SavedSearchRequestDto;
+import com.waildevil.job_board_api.entity.Job;
+import com.waildevil.job_board_api.entity.SavedSearch;
+import com.waildevil.job_board_api.entity.User;
+import com.waildevil.job_board_api.exception.ApiException;
+import com.waildevil.job_board_api.repository.SavedSearchRepository;
+import com.waildevil.job_board_api.search.JobQuery;
+import com.waildevil.job_board_api.search.SavedSearchPercolator;
+import com.waildevil.job_board_api.util.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Saved searches and the alerts sent when a newly created job matches one of them.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobAlertService {
+
+    private static final int MAX_SAVED_SEARCHES_PER_USER = 50;
+    private static final int DISPATCH_BATCH_SIZE = 200;
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SavedSearchPercolator percolator;
+    private final NotificationDispatcher notificationDispatcher;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSavedSearches() {
+        Map<Long, JobQuery> queries = savedSearchRepository.findAll().stream()
+                .collect(Collectors.toMap(SavedSearch::getId, JobAlertService::toQuery));
+        percolator.rebuild(queries);
+        log.info("Registered {} saved searches for job alerts", queries.size());
+    }
+
+    public List<SavedSearch> getSavedSearches(User user) {
+        return savedSearchRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
+    }
+
+    public SavedSearch createSavedSearch(SavedSearchRequestDto dto, User user) {
+        SavedSearch search = SavedSearch.builder()
+                .user(user)
+                .name(blankToNull(dto.getName()))
+                .keyword(blankToNull(dto.getKeyword()))
+                .location(blankToNull(dto.getLocation()))
+                .category(blankToNull(dto.getCategory()))
+                .type(blankToNull(dto.getType()))
+                .minSalary(dto.getMinSalary())
+                .build();
+        if (search.getKeyword() == null && search.getLocation() == null && search.getCategory() == null
+                && search.getType() == null && search.getMinSalary() == null) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "A saved search needs at least one criterion");
+        }
+        if (savedSearchRepository.countByUserId(user.getId()) >= MAX_SAVED_SEARCHES_PER_USER) {
+            throw new ApiException(HttpStatus.BAD_REQUEST,
+                    "You can keep at most " + MAX_SAVED_SEARCHES_PER_USER + " saved searches");
+        }
+
+        SavedSearch saved = savedSearchRepository.save(search);
+        TransactionHooks.afterCommit(() -> percolator.add(saved.getId(), toQuery(saved)));
+        return saved;
+    }
+
+    public void deleteSavedSearch(Long id, User user) {
+        SavedSearch search = savedSearchRepository.findById(id)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Saved search not found"));
+        if (!search.getUser().getId().equals(user.getId())) {
+            throw new ApiException(HttpStatus.FORBIDDEN, "You can only delete your own saved searches.");
+        }
+        savedSearchRepository.delete(search);
+        TransactionHooks.afterCommit(() -> percolator.remove(id));
+    }
+
+    /**
+     * Finds the saved searches matching a new job and queues their notifications once the job is committed.
+     */
+    public void onJobCreated(Job job) {
+        NotificationDispatcher.JobAlert alert = new NotificationDispatcher.JobAlert(job.getId(), job.getTitle(),
+                job.getCompany() != null ? job.getCompany().getName() : null, job.getLocation());
+        TransactionHooks.afterCommit(() -> {
+            List<Long> matches = percolator.match(job);
+            for (int from = 0; from < matches.size(); from += DISPATCH_BATCH_SIZE) {
+                List<Long> batch = List.copyOf(matches.subList(from, Math.min(matches.size(), from + DISPATCH_BATCH_SIZE)));
+                notificationDispatcher.dispatchJobAlerts(alert, batch);
+            }
+            if (!matches.isEmpty()) {
+                log.debug("Job {} matched {} saved searches", job.getId(), matches.size());
+            }
+        });
+    }
+
+    private static JobQuery toQuery(SavedSearch search) {
+        return JobQuery.of(search.getKeyword(), search.getLocation(), search.getCategory(), search.getType(),
+                search.getMinSalary());
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,200 @@
+package com.waildevil.job_board_api.service;
+
+import com.waildevil.job_board_api.entity.ApplicationStatus;
+import com.waildevil.job_board_api.entity.Job;
+import com.waildevil.job_board_api.entity.JobApplicationStats;
+import com.waildevil.job_board_api.repository.ApplicationRepository;
+import com.waildevil.job_board_api.repository.JobApplicationStatsInsertRepository;
+import com.waildevil.job_board_api.repository.JobApplicationStatsRepository;
+import com.waildevil.job_board_api.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Per-job application counts, so stats and capacity checks read one row instead of counting applications.
+ * Callers report every application insert, delete and status change inside their own transaction, before they
+ * write it to the applications table; the counters move by relative UPDATEs and commit or roll back together with
+ * the change. {@link #reconcile()} compares them
+ * with the applications table once a night and repairs any drift.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobApplicationStatsService {
+
+    private final JobApplicationStatsRepository statsRepository;
+    private final JobApplicationStatsInsertRepository statsInsertRepository;
+    private final ApplicationRepository applicationRepository;
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final RecruiterDashboardCache recruiterDashboardCache;
+
+    public void onJobCreated(Job job) {
+        statsRepository.insertEmpty(job.getId(), job.getAvailablePositions());
+    }
+
+    public void onPositionsChanged(Job job) {
+        if (statsRepository.updatePositions(job.getId(), job.getAvailablePositions()) == 0) {
+            recount(job.getId());
+        }
+    }
+
+    public void onJobDeleted(Long jobId) {
+        statsRepository.deleteById(jobId);
+    }
+
+    public void onApplicationCreated(Long jobId) {
+        add(jobId, ApplicationStatus.PENDING, 1);
+    }
+
+    public void onApplicationDeleted(Long jobId, ApplicationStatus status) {
+        add(jobId, status, -1);
+    }
+
+    public void onStatusChanged(Long jobId, ApplicationStatus from, ApplicationStatus to, long applications) {
+        if (from == to || applications == 0) return;
+        long[] delta = new long[ApplicationStatus.values().length];
+        delta[from.ordinal()] -= applications;
+        delta[to.ordinal()] += applications;
+        apply(jobId, delta);
+    }
+
+    /**
+     * Counts one application of the job as accepted, coming from {@code from}, if the job still has an open
+     * position.
+     *
+     * @return the positions left after this one, or -1 if there was none to take
+     */
+    public int reservePosition(Long jobId, ApplicationStatus from) {
+        if (!statsRepository.existsById(jobId)) {
+            recount(jobId);
+        }
+        int reserved = statsRepository.reservePosition(jobId, from == ApplicationStatus.PENDING ? 1 : 0,
+                from == ApplicationStatus.REJECTED ? 1 : 0);
+        if (reserved == 0) return -1;
+        return statsRepository.findById(jobId).orElseThrow().getRemainingPositions();
+    }
+
+    public JobApplicationStats get(Long jobId) {
+        return statsRepository.findById(jobId).orElseGet(() -> recount(jobId));
+    }
+
+    /**
+     * Recomputes the counters of every job whose row is missing or differs from the applications table and drops
+     * rows of deleted jobs. Each suspect job is recounted under its row lock, so writers in flight are not lost.
+     *
+     * @return the number of jobs whose counters were repaired
+     */
+    @Scheduled(cron = "${job-stats.reconcile-cron:0 30 3 * * *}")
+    public int reconcile() {
+        Map<Long, long[]> actual = new HashMap<>();
+        for (ApplicationRepository.StatusCount count : applicationRepository.countByJobAndStatus()) {
+            actual.computeIfAbsent(count.getJobId(), id -> new long[ApplicationStatus.values().length])
+                    [count.getStatus().ordinal()] = count.getCount();
+        }
+        Map<Long, JobApplicationStats> stored = new HashMap<>();
+        for (JobApplicationStats stats : statsRepository.findAll()) {
+            stored.put(stats.getJobId(), stats);
+        }
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int repaired = 0;
+        for (JobRepository.Positions job : jobRepository.findAllPositions()) {
+            long[] counts = actual.getOrDefault(job.getId(), new long[ApplicationStatus.values().length]);
+            JobApplicationStats stats = stored.remove(job.getId());
+            if (stats != null && sameCounts(stats, computed(job.getId(), counts, job.getAvailablePositions()))) continue;
+            if (Boolean.TRUE.equals(transaction.execute(status -> repair(job.getId())))) {
+                repaired++;
+            }
+        }
+        if (!stored.isEmpty()) {
+            statsRepository.deleteAllByIdInBatch(stored.keySet());
+        }
+        if (repaired > 0) {
+            recruiterDashboardCache.invalidateAll();
+        }
+        log.info("Reconciled job application stats: {} jobs repaired, {} orphaned rows removed", repaired, stored.size());
+        return repaired;
+    }
+
+    private boolean repair(Long jobId) {
+        Optional<JobApplicationStats> current = statsRepository.findForUpdate(jobId);
+        Optional<Integer> positions = jobRepository.findAvailablePositions(jobId);
+        if (positions.isEmpty()) return false;
+
+        JobApplicationStats expected = computed(jobId, countsOf(jobId), positions.get());
+        if (current.isPresent() && sameCounts(current.get(), expected)) return false;
+        log.warn("Application stats of job {} drifted, stored {} but counted {}",
+                jobId, current.map(JobApplicationStatsService::describe).orElse("nothing"), describe(expected));
+        if (current.isPresent()) {
+            statsRepository.save(expected);
+            return true;
+        }
+        return statsInsertRepository.insertIfAbsent(expected);
+    }
+
+    private void add(Long jobId, ApplicationStatus status, long applications) {
+        long[] delta = new long[ApplicationStatus.values().length];
+        delta[status.ordinal()] = applications;
+        apply(jobId, delta);
+    }
+
+    private void apply(Long jobId, long[] delta) {
+        if (addCounts(jobId, delta) == 0) {
+            // Job from before the stats table existed: count its applications, which do not include this change yet
+            recount(jobId);
+            addCounts(jobId, delta);
+        }
+    }
+
+    private int addCounts(Long jobId, long[] delta) {
+        return statsRepository.addCounts(jobId, delta[ApplicationStatus.PENDING.ordinal()],
+                (int) delta[ApplicationStatus.ACCEPTED.ordinal()], delta[ApplicationStatus.REJECTED.ordinal()]);
+    }
+
+    // Creates the missing row from the applications table; if a concurrent writer creates it first, that one is kept
+    private JobApplicationStats recount(Long jobId) {
+        int positions = jobRepository.findAvailablePositions(jobId).orElse(0);
+        statsInsertRepository.insertIfAbsent(computed(jobId, countsOf(jobId), positions));
+        return statsRepository.findById(jobId).orElseThrow();
+    }
+
+    private long[] countsOf(Long jobId) {
+        long[] counts = new long[ApplicationStatus.values().length];
+        List<ApplicationRepository.StatusCount> rows = applicationRepository.countByStatusForJob(jobId);
+        for (ApplicationRepository.StatusCount row : rows) {
+            counts[row.getStatus().ordinal()] = row.getCount();
+        }
+        return counts;
+    }
+
+    private static JobApplicationStats computed(Long jobId, long[] counts, int positions) {
+        long accepted = counts[ApplicationStatus.ACCEPTED.ordinal()];
+        return JobApplicationStats.builder()
+                .jobId(jobId)
+                .pendingCount(counts[ApplicationStatus.PENDING.ordinal()])
+                .acceptedCount(accepted)
+                .rejectedCount(counts[ApplicationStatus.REJECTED.ordinal()])
+                .remainingPositions(positions - (int) accepted)
+                .build();
+    }
+
+    private static boolean sameCounts(JobApplicationStats a, JobApplicationStats b) {
+        return a.getPendingCount() == b.getPendingCount() && a.getAcceptedCount() == b.getAcceptedCount()
+                && a.getRejectedCount() == b.getRejectedCount() && a.getRemainingPositions() == b.getRemainingPositions();
+    }
+
+    private static String describe(JobApplicationStats stats) {
+        return "pending=" + stats.getPendingCount() + " accepted=" + stats.getAcceptedCount()
+                + " rejected=" + stats.getRejectedCount() + " remaining=" + stats.getRemainingPositions();
+    }
+}
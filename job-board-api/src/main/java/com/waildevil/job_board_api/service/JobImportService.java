@@ -0,0 +1,213 @@
+package com.waildevil.job_board_api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waildevil.job_board_api.dto.JobImportEventDto;
+import com.waildevil.job_board_api.dto.JobRequestDto;
+import com.waildevil.job_board_api.entity.Category;
+import com.waildevil.job_board_api.entity.Company;
+import com.waildevil.job_board_api.entity.Job;
+import com.waildevil.job_board_api.entity.User;
+import com.waildevil.job_board_api.importer.JobImportFormat;
+import com.waildevil.job_board_api.importer.JobImportRow;
+import com.waildevil.job_board_api.mapper.JobMapper;
+import com.waildevil.job_board_api.repository.CategoryRepository;
+import com.waildevil.job_board_api.repository.CompanyRepository;
+import com.waildevil.job_board_api.repository.JobBatchInsertRepository;
+import com.waildevil.job_board_api.search.CityGazetteer;
+import com.waildevil.job_board_api.search.JobIndexSynchronizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Imports many jobs for one recruiter. Rows are validated and inserted in batches of {@value #BATCH_SIZE}, each in
+ * its own transaction, and the outcome is streamed back as NDJSON {@link JobImportEventDto} lines while the file is
+ * still being read. Batches that were committed stay committed if a later one fails.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobImportService {
+
+    static final int BATCH_SIZE = 500;
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    private final JobBatchInsertRepository jobBatchInsertRepository;
+    private final CategoryRepository categoryRepository;
+    private final CompanyRepository companyRepository;
+    private final JobMapper jobMapper;
+    private final CityGazetteer cityGazetteer;
+    private final JobIndexSynchronizer jobIndexSynchronizer;
+    private final JobAlertService jobAlertService;
+    private final RecruiterDashboardCache recruiterDashboardCache;
+    private final PlatformCounters platformCounters;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    public void importJobs(JobImportFormat format, InputStream in, User recruiter, OutputStream out) {
+        Run run = new Run(recruiter, new BufferedOutputStream(out));
+        try {
+            Iterator<JobImportRow> rows = format.read(in, objectMapper);
+            List<JobImportRow> batch = new ArrayList<>(BATCH_SIZE);
+            while (rows.hasNext()) {
+                batch.add(rows.next());
+                if (batch.size() == BATCH_SIZE) {
+                    run.importBatch(batch);
+                    batch.clear();
+                }
+            }
+            run.importBatch(batch);
+        } catch (IllegalArgumentException | IOException | UncheckedIOException e) {
+            // The file itself is unreadable past this point; report it and keep what was already imported
+            String message = e instanceof UncheckedIOException unchecked ? unchecked.getCause().getMessage() : e.getMessage();
+            run.emit(JobImportEventDto.builder().type("error").message("Import stopped: " + message).build(), false);
+        }
+        run.finish();
+    }
+
+    private final class Run {
+
+        private final User recruiter;
+        private final OutputStream out;
+        private final TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        // Resolved once per import; a null value marks an id that does not exist
+        private final Map<Long, Category> categories = new HashMap<>();
+        private final Map<Long, Company> companies = new HashMap<>();
+        private int processed;
+        private int imported;
+        private int failed;
+
+        private Run(User recruiter, OutputStream out) {
+            this.recruiter = recruiter;
+            this.out = out;
+        }
+
+        void importBatch(List<JobImportRow> batch) {
+            if (batch.isEmpty()) return;
+            resolve(batch, JobRequestDto::getCategoryId, categories, categoryRepository::findAllById, Category::getId);
+            resolve(batch, JobRequestDto::getCompanyId, companies, companyRepository::findAllById, Company::getId);
+
+            Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+            List<Job> jobs = new ArrayList<>(batch.size());
+            List<Integer> rowNumbers = new ArrayList<>(batch.size());
+            for (JobImportRow row : batch) {
+                processed++;
+                String error = row.error() != null ? row.error() : validate(row.job());
+                if (error != null) {
+                    reject(row.row(), error);
+                    continue;
+                }
+                JobRequestDto dto = row.job();
+                Job job = jobMapper.toEntity(dto, recruiter, categories.get(dto.getCategoryId()));
+                if (dto.getCompanyId() != null) {
+                    job.setCompany(companies.get(dto.getCompanyId()));
+                }
+                cityGazetteer.geocode(job);
+                job.setCreatedAt(now);
+                jobs.add(job);
+                rowNumbers.add(row.row());
+            }
+
+            try {
+                transaction.executeWithoutResult(status -> {
+                    jobBatchInsertRepository.insertAll(jobs);
+                    recruiterDashboardCache.invalidate(recruiter.getId());
+                    platformCounters.onJobsCreated(jobs.size());
+                    for (Job job : jobs) {
+                        jobIndexSynchronizer.onJobSaved(job);
+                        jobAlertService.onJobCreated(job);
+                    }
+                });
+                imported += jobs.size();
+            } catch (RuntimeException e) {
+                // Anything thrown in the transaction rolled the whole batch back, so each of its rows is reported
+                log.warn("Job import batch of {} rows failed", jobs.size(), e);
+                for (Integer row : rowNumbers) {
+                    reject(row, "Could not save the batch containing this row");
+                }
+            }
+            emit(JobImportEventDto.builder().type("progress")
+                    .processed(processed).imported(imported).failed(failed).build(), true);
+        }
+
+        void finish() {
+            emit(JobImportEventDto.builder().type("done")
+                    .processed(processed).imported(imported).failed(failed).build(), true);
+            log.info("Recruiter {} imported {} jobs, {} rows rejected", recruiter.getId(), imported, failed);
+        }
+
+        private String validate(JobRequestDto job) {
+            if (job.getTitle() == null || job.getTitle().isBlank()) return "title is required";
+            if (tooLong(job.getTitle()) || tooLong(job.getLocation()) || tooLong(job.getType())) {
+                return "title, location and type are limited to " + MAX_TEXT_LENGTH + " characters";
+            }
+            if (job.getCategoryId() == null) return "categoryId is required";
+            if (categories.get(job.getCategoryId()) == null) return "Category " + job.getCategoryId() + " not found";
+            if (job.getCompanyId() != null && companies.get(job.getCompanyId()) == null) {
+                return "Company " + job.getCompanyId() + " not found";
+            }
+            Integer min = job.getMinSalary();
+            Integer max = job.getMaxSalary();
+            if ((min != null && min < 0) || (max != null && max < 0)) return "Salaries cannot be negative";
+            if (min != null && max != null && min > max) return "minSalary is greater than maxSalary";
+            return null;
+        }
+
+        private static boolean tooLong(String value) {
+            return value != null && value.length() > MAX_TEXT_LENGTH;
+        }
+
+        private void reject(int row, String message) {
+            failed++;
+            emit(JobImportEventDto.builder().type("error").row(row).message(message).build(), false);
+        }
+
+        void emit(JobImportEventDto event, boolean flush) {
+            try {
+                out.write(objectMapper.writeValueAsBytes(event));
+                out.write('\n');
+                if (flush) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static <T> void resolve(List<JobImportRow> batch, Function<JobRequestDto, Long> idOf, Map<Long, T> known,
+                                    Function<Set<Long>, List<T>> load, Function<T, Long> idOfEntity) {
+        Set<Long> missing = new HashSet<>();
+        for (JobImportRow row : batch) {
+            Long id = row.job() != null ? idOf.apply(row.job()) : null;
+            if (id != null && !known.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+        if (missing.isEmpty()) return;
+        for (T entity : load.apply(missing)) {
+            known.put(idOfEntity.apply(entity), entity);
+        }
+        for (Long id : missing) {
+            known.putIfAbsent(id, null);
+        }
+    }
+}
@@ -12,24 +12,49 @@ import com.waildevil.job_board_api.mapper.JobMapper;
 import com.waildevil.job_board_api.repository.CategoryRepository;
 import com.waildevil.job_board_api.repository.CompanyRepository;
 import com.waildevil.job_board_api.repository.JobRepository;
+import com.waildevil.job_board_api.repository.JobSpecifications;
+import com.waildevil.job_board_api.search.CityGazetteer;
+import com.waildevil.job_board_api.search.GeoIndex;
+import com.waildevil.job_board_api.search.GeoPoint;
+import com.waildevil.job_board_api.search.JobFacetCache;
+import com.waildevil.job_board_api.search.JobFacets;
+import com.waildevil.job_board_api.search.JobIndexSynchronizer;
+import com.waildevil.job_board_api.search.JobQuery;
+import com.waildevil.job_board_api.search.JobResultCache;
+import com.waildevil.job_board_api.search.JobSearchIndex;
+import com.waildevil.job_board_api.search.JobSearchResult;
+import com.waildevil.job_board_api.search.JobSearchSort;
+import com.waildevil.job_board_api.search.PageCursor;
+import com.waildevil.job_board_api.search.PageTotal;
+import com.waildevil.job_board_api.search.RankedIds;
+import com.waildevil.job_board_api.search.JobSuggester;
+import com.waildevil.job_board_api.search.SearchPage;
+import com.waildevil.job_board_api.search.Suggestion;
 import com.waildevil.job_board_api.security.SecurityUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -39,6 +64,22 @@ public class JobService {
     private final JobMapper jobMapper;
     private final CompanyRepository companyRepository;
     private final CategoryRepository categoryRepository;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobIndexSynchronizer jobIndexSynchronizer;
+    private final JobFacetCache jobFacetCache;
+    private final JobSuggester jobSuggester;
+    private final GeoIndex geoIndex;
+    private final CityGazetteer cityGazetteer;
+    private final JobResultCache jobResultCache;
+    private final JobAlertService jobAlertService;
+    private final JobApplicationStatsService jobApplicationStatsService;
+    private final RecruiterDashboardCache recruiterDashboardCache;
+    private final PlatformCounters platformCounters;
+
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final double MAX_RADIUS_KM = 500;
+    private static final int MAX_SUGGESTIONS = 20;
+    private static final String FEED_CURSOR = "latest";
 
     public List<Job> getAllJobs() {
         return jobRepository.findAll();
@@ -49,6 +90,7 @@ public class JobService {
     }
 
 
+    @Transactional
     public Job createJob(JobRequestDto jobRequestDto, User recruiter) {
         SecurityUtils.requireRecruiter(recruiter);
 
@@ -62,11 +104,19 @@ public class JobService {
                     .orElseThrow(() -> new RuntimeException("Company not found"));
             job.setCompany(company);
         }
+        cityGazetteer.geocode(job);
         System.out.println("Job ID before save: " + job.getId());
         System.out.println("Saving job: " + job);
-        return jobRepository.save(job);
+        Job saved = jobRepository.save(job);
+        jobApplicationStatsService.onJobCreated(saved);
+        recruiterDashboardCache.invalidate(recruiter.getId());
+        platformCounters.onJobsCreated(1);
+        jobIndexSynchronizer.onJobSaved(saved);
+        jobAlertService.onJobCreated(saved);
+        return saved;
     }
 
+    @Transactional
     public Job updateJob(Long id, JobRequestDto dto, User authenticatedRecruiter) {
         SecurityUtils.requireRecruiter(authenticatedRecruiter);
         Job job = jobRepository.findById(id)
@@ -80,10 +130,16 @@ public class JobService {
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Category not found"));
 
         jobMapper.updateEntity(job, dto, category);
-        return jobRepository.save(job);
+        cityGazetteer.geocode(job);
+        Job saved = jobRepository.save(job);
+        jobApplicationStatsService.onPositionsChanged(saved);
+        recruiterDashboardCache.invalidate(authenticatedRecruiter.getId());
+        jobIndexSynchronizer.onJobSaved(saved);
+        return saved;
     }
 
 
+    @Transactional
     public void deleteJob(Long id, User authenticatedRecruiter) {
         SecurityUtils.requireRecruiter(authenticatedRecruiter);
         Job job = jobRepository.findById(id)
@@ -94,14 +150,112 @@ public class JobService {
         }
 
         jobRepository.delete(job);
+        jobApplicationStatsService.onJobDeleted(id);
+        platformCounters.onJobDeleted();
+        recruiterDashboardCache.invalidate(authenticatedRecruiter.getId());
+        jobIndexSynchronizer.onJobDeleted(id);
     }
 
     public List<Job> getJobsByRecruiter(User recruiter) {
         return jobRepository.findByRecruiter(recruiter);
     }
 
-    public List<Job> searchJobs(String keyword, String location, String category, String type, Integer minSalary) {
-        return jobRepository.searchJobs(keyword, location, type, category, minSalary);
+    /**
+     * Searches by keyword and filters; with {@code lat}, {@code lon} and {@code radiusKm} only jobs inside that circle
+     * are returned, nearest first unless another sort is given. {@link JobSearchSort#RELEVANCE} ranks keyword
+     * matches by BM25 with title matches boosted.
+     */
+    public JobSearchResult searchJobs(String keyword, String location, String category, String type, Integer minSalary,
+                                      Double lat, Double lon, Double radiusKm,
+                                      JobSearchSort requestedSort, String cursor, int size) {
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "Page size must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+        GeoPoint origin = searchOrigin(lat, lon, radiusKm);
+        JobQuery query = JobQuery.of(keyword, location, category, type, minSalary);
+        JobSearchSort sort = resolveSort(requestedSort, origin, query);
+        PageCursor after = PageCursor.decode(cursor, sort.param());
+
+        if (origin != null) {
+            if (!jobSearchIndex.isReady() || !geoIndex.isReady()) {
+                throw new ApiException(HttpStatus.SERVICE_UNAVAILABLE, "Search index is still loading, try again shortly");
+            }
+            Map<Long, Double> distances = geoIndex.withinRadius(origin, radiusKm);
+            SearchPage page = jobSearchIndex.search(query, sort, after, size, distances);
+            return toResult(page, findAllInOrder(page.ids()), distances);
+        }
+
+        if (!jobSearchIndex.isReady()) {
+            // Only the newest-first order can be paged in SQL without reading every match
+            if (sort != JobSearchSort.CREATED_AT) {
+                throw new ApiException(HttpStatus.SERVICE_UNAVAILABLE, "Search index is still loading, try again shortly");
+            }
+            List<Job> rows = jobRepository.findLatestMatching(
+                    JobSpecifications.matching(keyword, location, category, type, minSalary),
+                    after != null ? fromMicros(after.key()) : null, after != null ? after.id() : null, size + 1);
+            return newestFirstPage(rows, size, sort.param());
+        }
+
+        RankedIds top = jobResultCache.get(new JobResultCache.Key(query, sort), jobSearchIndex::version,
+                () -> jobSearchIndex.rank(query, sort, jobResultCache.maxEntryWeight()));
+        SearchPage page = top.page(sort, after, size);
+        if (page == null) {
+            page = jobSearchIndex.search(query, sort, after, size);
+        }
+        return toResult(page, findAllInOrder(page.ids()), Map.of());
+    }
+
+    private static JobSearchSort resolveSort(JobSearchSort requested, GeoPoint origin, JobQuery query) {
+        if (requested == null) {
+            return origin != null ? JobSearchSort.DISTANCE : JobSearchSort.CREATED_AT;
+        }
+        if (requested == JobSearchSort.DISTANCE && origin == null) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "Sorting by distance requires lat, lon and radiusKm");
+        }
+        if (requested == JobSearchSort.RELEVANCE && !query.hasTerms()) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "Sorting by relevance requires a keyword");
+        }
+        return requested;
+    }
+
+    private static GeoPoint searchOrigin(Double lat, Double lon, Double radiusKm) {
+        if (lat == null && lon == null && radiusKm == null) return null;
+        if (lat == null || lon == null || radiusKm == null) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "lat, lon and radiusKm must be given together");
+        }
+        if (lat < -90 || lat > 90 || lon < -180 || lon > 180) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "Invalid coordinates");
+        }
+        if (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "radiusKm must be between 0 and " + (int) MAX_RADIUS_KM);
+        }
+        return new GeoPoint(lat, lon);
+    }
+
+    public JobFacets getFacets(String keyword, String location, String category, String type, Integer minSalary) {
+        if (!jobSearchIndex.isReady()) {
+            throw new ApiException(HttpStatus.SERVICE_UNAVAILABLE, "Search index is still loading, try again shortly");
+        }
+        JobQuery query = JobQuery.of(keyword, location, category, type, minSalary);
+        return jobFacetCache.get(query, jobSearchIndex.version(), () -> jobSearchIndex.facets(query));
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        return jobSuggester.suggest(prefix, Math.min(Math.max(limit, 1), MAX_SUGGESTIONS));
+    }
+
+    private static JobSearchResult toResult(SearchPage page, List<Job> jobs, Map<Long, Double> distancesKm) {
+        return new JobSearchResult(jobs, distancesKm, page.next() != null ? page.next().encode() : null, page.hasMore());
+    }
+
+    private List<Job> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        Map<Long, Job> byId = jobRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
 
@@ -109,9 +263,52 @@ public class JobService {
         return jobRepository.findAll(pageable);
     }
 
-    public List<Job> getLatestJobs(int limit) {
-        Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
-        return jobRepository.findAll(pageable).getContent();
+    public Slice<Job> getJobsSlice(Pageable pageable) {
+        return jobRepository.findAllBy(pageable);
+    }
+
+    /**
+     * Newest jobs first, one page after {@code cursor}. Every page costs the same index seek, however deep the
+     * client has scrolled.
+     */
+    public JobSearchResult getJobFeed(String cursor, int size) {
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "Page size must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+        PageCursor after = PageCursor.decode(cursor, FEED_CURSOR);
+        Limit limit = Limit.of(size + 1);
+        List<Job> rows = after == null
+                ? jobRepository.findLatest(limit)
+                : jobRepository.findLatestBefore(fromMicros(after.key()), after.id(), limit);
+        return newestFirstPage(rows, size, FEED_CURSOR);
+    }
+
+    // rows holds one job more than the page when there is a next page
+    private static JobSearchResult newestFirstPage(List<Job> rows, int size, String cursorSort) {
+        boolean hasMore = rows.size() > size;
+        List<Job> jobs = hasMore ? rows.subList(0, size) : rows;
+        String next = null;
+        if (hasMore) {
+            Job last = jobs.get(jobs.size() - 1);
+            next = new PageCursor(cursorSort, ChronoUnit.MICROS.between(Instant.EPOCH, last.getCreatedAt()),
+                    last.getId()).encode();
+        }
+        return new JobSearchResult(jobs, Map.of(), next, hasMore);
+    }
+
+    private static Instant fromMicros(long micros) {
+        return Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+
+    /**
+     * Total number of jobs for a listing, or null for {@link PageTotal#NONE}.
+     */
+    public Long countJobs(PageTotal total) {
+        return switch (total) {
+            case EXACT -> jobRepository.count();
+            case ESTIMATE -> jobSearchIndex.isReady() ? (long) jobSearchIndex.size() : jobRepository.count();
+            case NONE -> null;
+        };
     }
 
     public long countByMinExpectedSalary(Integer salary) {
@@ -119,7 +316,7 @@ public class JobService {
     }
 
     public long countByFilters(String keyword, String location, String type, String category, Integer salary) {
-        return jobRepository.countByFilters(keyword, location, type, category, salary);
+        return jobRepository.count(JobSpecifications.matching(keyword, location, category, type, salary));
     }
 
 
@@ -0,0 +1,48 @@
+package com.waildevil.job_board_api.service;
+
+import com.waildevil.job_board_api.entity.OutboxMail;
+import com.waildevil.job_board_api.entity.OutboxMailStatus;
+import com.waildevil.job_board_api.mail.RenderedMail;
+import com.waildevil.job_board_api.repository.OutboxMailBatchInsertRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Queues mails in the {@code mail_outbox} table. Called inside a transaction, the mails commit or roll back with
+ * it; nothing talks to the SMTP server until {@link MailOutboxDispatcher} picks them up.
+ */
+@Service
+@RequiredArgsConstructor
+public class MailOutbox {
+
+    private final OutboxMailBatchInsertRepository batchInsertRepository;
+
+    public void enqueue(String recipient, RenderedMail mail) {
+        enqueue(List.of(recipient), mail);
+    }
+
+    public void enqueue(List<String> recipients, RenderedMail mail) {
+        Instant now = Instant.now();
+        batchInsertRepository.insertAll(recipients.stream()
+                .map(recipient -> mail(recipient, mail, now))
+                .toList());
+    }
+
+    public void enqueueAll(List<OutboxMail> mails) {
+        batchInsertRepository.insertAll(mails);
+    }
+
+    public static OutboxMail mail(String recipient, RenderedMail mail, Instant createdAt) {
+        return OutboxMail.builder()
+                .recipient(recipient)
+                .subject(mail.subject())
+                .body(mail.text())
+                .htmlBody(mail.html())
+                .status(OutboxMailStatus.PENDING)
+                .createdAt(createdAt)
+                .build();
+    }
+}
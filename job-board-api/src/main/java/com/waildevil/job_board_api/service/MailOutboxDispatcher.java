@@ -0,0 +1,215 @@
+package com.waildevil.job_board_api.service;
+
+import com.waildevil.job_board_api.dto.MailOutboxStatsDto;
+import com.waildevil.job_board_api.entity.OutboxMail;
+import com.waildevil.job_board_api.entity.OutboxMailStatus;
+import com.waildevil.job_board_api.repository.OutboxMailRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drains the mail outbox. A batch of due mails is claimed in a short transaction that pushes their next attempt
+ * out by a lease, sent over one SMTP connection with no transaction open, and then deleted or rescheduled with
+ * exponential backoff. Claims skip rows locked by other nodes, and a node that dies mid-batch only delays its
+ * mails until the lease runs out, so mails are sent at least once.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxMailRepository outboxMailRepository;
+    private final JavaMailSender mailSender;
+    private final PlatformTransactionManager transactionManager;
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failedAttempts = new LongAdder();
+    private final LongAdder givenUp = new LongAdder();
+
+    @Value("${mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${mail.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    // First retry delay, doubled for every further attempt up to max-backoff-seconds
+    @Value("${mail.outbox.backoff-seconds:30}")
+    private long backoffSeconds;
+
+    @Value("${mail.outbox.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    // Longer than sending one batch can take, or a slow node's mails are claimed a second time
+    @Value("${mail.outbox.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${spring.mail.username:}")
+    private String from;
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:2000}")
+    public void drain() {
+        drain(Instant.now());
+    }
+
+    /**
+     * Sends every mail that is due at {@code now}, batch by batch.
+     *
+     * @return the number of mails sent
+     */
+    int drain(Instant now) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int total = 0;
+        while (true) {
+            List<OutboxMail> batch = transaction.execute(status -> claim(now));
+            if (batch == null || batch.isEmpty()) break;
+
+            Map<Long, String> failures = send(batch);
+            transaction.executeWithoutResult(status -> complete(batch, failures, now));
+            total += batch.size() - failures.size();
+            // Failed mails are not due again right away, but stop anyway rather than hammer a struggling server
+            if (batch.size() < batchSize || !failures.isEmpty()) break;
+        }
+        return total;
+    }
+
+    private List<OutboxMail> claim(Instant now) {
+        List<OutboxMail> due = outboxMailRepository.findDueForUpdate(OutboxMailStatus.PENDING, now, Limit.of(batchSize));
+        Instant leaseExpiry = now.plusSeconds(leaseSeconds);
+        for (OutboxMail mail : due) {
+            mail.setAttempts(mail.getAttempts() + 1);
+            mail.setNextAttemptAt(leaseExpiry);
+        }
+        return due;
+    }
+
+    private Map<Long, String> send(List<OutboxMail> batch) {
+        Map<Long, String> failures = new HashMap<>();
+        Map<MimeMessage, Long> ids = new IdentityHashMap<>();
+        List<MimeMessage> messages = new ArrayList<>(batch.size());
+        for (OutboxMail mail : batch) {
+            try {
+                MimeMessage message = toMessage(mail);
+                messages.add(message);
+                ids.put(message, mail.getId());
+            } catch (MessagingException e) {
+                failures.put(mail.getId(), describe(e));
+            }
+        }
+        if (messages.isEmpty()) return failures;
+
+        try {
+            mailSender.send(messages.toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            // Lists every message that was not sent, including all of them when the server was unreachable
+            int before = failures.size();
+            e.getFailedMessages().forEach((message, cause) -> failures.put(ids.get(message), describe(cause)));
+            if (failures.size() == before) {
+                ids.values().forEach(id -> failures.put(id, describe(e)));
+            }
+        } catch (MailException e) {
+            ids.values().forEach(id -> failures.put(id, describe(e)));
+        }
+        return failures;
+    }
+
+    private MimeMessage toMessage(OutboxMail mail) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        boolean html = mail.getHtmlBody() != null;
+        MimeMessageHelper helper = new MimeMessageHelper(message, html, StandardCharsets.UTF_8.name());
+        if (!from.isBlank()) {
+            helper.setFrom(from);
+        }
+        helper.setTo(mail.getRecipient());
+        helper.setSubject(mail.getSubject());
+        if (html) {
+            helper.setText(mail.getBody(), mail.getHtmlBody());
+        } else {
+            helper.setText(mail.getBody());
+        }
+        return message;
+    }
+
+    private void complete(List<OutboxMail> batch, Map<Long, String> failures, Instant now) {
+        List<Long> sentIds = new ArrayList<>(batch.size());
+        for (OutboxMail mail : batch) {
+            if (!failures.containsKey(mail.getId())) {
+                sentIds.add(mail.getId());
+            }
+        }
+        outboxMailRepository.deleteAllByIdInBatch(sentIds);
+        sent.add(sentIds.size());
+
+        if (failures.isEmpty()) return;
+        for (OutboxMail mail : outboxMailRepository.findAllById(failures.keySet())) {
+            mail.setLastError(failures.get(mail.getId()));
+            failedAttempts.increment();
+            if (mail.getAttempts() >= maxAttempts) {
+                mail.setStatus(OutboxMailStatus.FAILED);
+                givenUp.increment();
+                log.error("Giving up on mail {} to {} after {} attempts: {}", mail.getId(), mail.getRecipient(),
+                        mail.getAttempts(), mail.getLastError());
+            } else {
+                mail.setNextAttemptAt(now.plus(backoff(mail.getAttempts())));
+            }
+        }
+        log.warn("Could not send {} of {} outbox mails, first error: {}", failures.size(), batch.size(),
+                failures.values().iterator().next());
+    }
+
+    Duration backoff(int attempts) {
+        long seconds = backoffSeconds << Math.min(attempts - 1, 30);
+        return Duration.ofSeconds(seconds > 0 ? Math.min(seconds, maxBackoffSeconds) : maxBackoffSeconds);
+    }
+
+    public MailOutboxStatsDto stats() {
+        return MailOutboxStatsDto.builder()
+                .pending(outboxMailRepository.countByStatus(OutboxMailStatus.PENDING))
+                .failed(outboxMailRepository.countByStatus(OutboxMailStatus.FAILED))
+                .oldestPendingAt(outboxMailRepository.findOldestCreatedAt(OutboxMailStatus.PENDING).orElse(null))
+                .sent(sent.sum())
+                .failedAttempts(failedAttempts.sum())
+                .givenUp(givenUp.sum())
+                .build();
+    }
+
+    long sentCount() {
+        return sent.sum();
+    }
+
+    long failedAttemptCount() {
+        return failedAttempts.sum();
+    }
+
+    long givenUpCount() {
+        return givenUp.sum();
+    }
+
+    private static String describe(Exception e) {
+        String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
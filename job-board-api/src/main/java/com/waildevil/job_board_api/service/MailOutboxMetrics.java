@@ -0,0 +1,52 @@
+package com.waildevil.job_board_api.service;
+
+import com.waildevil.job_board_api.entity.OutboxMailStatus;
+import com.waildevil.job_board_api.repository.OutboxMailRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Publishes the outbox queue depth and the dispatcher's send counts under {@code mail.outbox.*}. The gauges query
+ * the outbox when they are scraped, which the (status, next_attempt_at) index keeps cheap.
+ */
+@Component
+@RequiredArgsConstructor
+public class MailOutboxMetrics implements MeterBinder {
+
+    private final OutboxMailRepository outboxMailRepository;
+    private final MailOutboxDispatcher dispatcher;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("mail.outbox.depth", () -> outboxMailRepository.countByStatus(OutboxMailStatus.PENDING))
+                .description("Mails waiting to be sent, including retries")
+                .tag("status", "pending")
+                .register(registry);
+        Gauge.builder("mail.outbox.depth", () -> outboxMailRepository.countByStatus(OutboxMailStatus.FAILED))
+                .description("Mails given up on after too many attempts")
+                .tag("status", "failed")
+                .register(registry);
+        Gauge.builder("mail.outbox.oldest.age", () -> outboxMailRepository.findOldestCreatedAt(OutboxMailStatus.PENDING)
+                        .map(oldest -> Duration.between(oldest, Instant.now()).toSeconds())
+                        .orElse(0L))
+                .description("Age of the oldest pending mail")
+                .baseUnit("seconds")
+                .register(registry);
+        FunctionCounter.builder("mail.outbox.sent", dispatcher, MailOutboxDispatcher::sentCount)
+                .description("Mails sent")
+                .register(registry);
+        FunctionCounter.builder("mail.outbox.failures", dispatcher, MailOutboxDispatcher::failedAttemptCount)
+                .description("Failed send attempts")
+                .register(registry);
+        FunctionCounter.builder("mail.outbox.given.up", dispatcher, MailOutboxDispatcher::givenUpCount)
+                .description("Mails given up on")
+                .register(registry);
+    }
+}
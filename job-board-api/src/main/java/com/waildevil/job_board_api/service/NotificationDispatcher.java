@@ -0,0 +1,53 @@
+package com.waildevil.job_board_api.service;
+
+import com.waildevil.job_board_api.entity.OutboxMail;
+import com.waildevil.job_board_api.entity.SavedSearch;
+import com.waildevil.job_board_api.entity.User;
+import com.waildevil.job_board_api.repository.SavedSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves job alert recipients off the request thread and queues their mails in the outbox. Each call is one task
+ * on the bounded {@code notificationExecutor} queue, so a job matching many saved searches is fanned out over
+ * several workers.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+
+    public record JobAlert(Long jobId, String title, String companyName, String location) {
+    }
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final EmailService emailService;
+
+    @Async("notificationExecutor")
+    public void dispatchJobAlerts(JobAlert alert, List<Long> savedSearchIds) {
+        // One mail per user, even if several of their saved searches match
+        Map<Long, SavedSearch> byUser = new LinkedHashMap<>();
+        for (SavedSearch search : savedSearchRepository.findWithUserByIdIn(savedSearchIds)) {
+            byUser.putIfAbsent(search.getUser().getId(), search);
+        }
+
+        List<OutboxMail> mails = new ArrayList<>(byUser.size());
+        for (SavedSearch search : byUser.values()) {
+            User user = search.getUser();
+            mails.add(emailService.jobAlertEmail(user.getEmail(), user.getLocale(), search.getName(),
+                    alert.title(), alert.companyName(), alert.location(), alert.jobId()));
+        }
+        try {
+            emailService.queueJobAlertEmails(mails);
+        } catch (RuntimeException e) {
+            log.warn("Could not queue {} job alerts for job {}", mails.size(), alert.jobId(), e);
+        }
+    }
+}
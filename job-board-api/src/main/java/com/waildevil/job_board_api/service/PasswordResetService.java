@@ -6,8 +6,6 @@ import com.waildevil.job_board_api.repository.PasswordResetTokenRepository;
 import com.waildevil.job_board_api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,7 +20,7 @@ public class PasswordResetService {
     private final UserRepository userRepo;
     private final PasswordResetTokenRepository prtRepo;
     private final BCryptPasswordEncoder encoder;
-    private final JavaMailSender mail; // or your mail provider
+    private final EmailService emailService;
 
     @Transactional
     public void requestReset(String email, String baseUrl) {
@@ -37,12 +35,9 @@ public class PasswordResetService {
         prt.setExpiresAt(Instant.now().plus(30, ChronoUnit.MINUTES));
         prtRepo.save(prt);
 
+        // Queued in this transaction; the outbox sends it once the token is committed
         var resetLink = baseUrl + "/reset-password?token=" + prt.getToken();
-        var msg = new SimpleMailMessage();
-        msg.setTo(user.getEmail());
-        msg.setSubject("Reset your password");
-        msg.setText("Click this link to reset your password: " + resetLink + "\nThis link expires in 30 minutes.");
-        mail.send(msg);
+        emailService.queuePasswordResetEmail(user.getEmail(), user.getLocale(), resetLink);
     }
 
     @Transactional
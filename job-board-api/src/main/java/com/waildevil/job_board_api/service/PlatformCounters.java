@@ -0,0 +1,210 @@
+package com.waildevil.job_board_api.service;
+
+import com.waildevil.job_board_api.entity.ApplicationStatus;
+import com.waildevil.job_board_api.entity.PlatformCounter;
+import com.waildevil.job_board_api.entity.Role;
+import com.waildevil.job_board_api.repository.ApplicationRepository;
+import com.waildevil.job_board_api.repository.JobRepository;
+import com.waildevil.job_board_api.repository.PlatformCounterRepository;
+import com.waildevil.job_board_api.repository.UserRepository;
+import com.waildevil.job_board_api.util.TransactionHooks;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Platform-wide totals for the admin dashboard, kept in striped in-memory counters instead of counting the tables
+ * on every request. Services report their writes, which are applied once the transaction commits. The counters are
+ * checkpointed to {@code platform_counters} every minute and on shutdown, loaded from there at startup, and only
+ * counted from the tables again when there is no checkpoint yet or an admin asks for it with {@link #recompute()}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlatformCounters {
+
+    private static final String JOBS = "jobs";
+    private static final String USERS_PREFIX = "users.";
+    private static final String APPLICATIONS_PREFIX = "applications.";
+
+    public record Snapshot(Map<Role, Long> usersByRole, long jobs, Map<ApplicationStatus, Long> applicationsByStatus,
+                           Instant checkpointedAt) {
+
+        public long users() {
+            return usersByRole.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        public long applications() {
+            return applicationsByStatus.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    private final PlatformCounterRepository platformCounterRepository;
+    private final UserRepository userRepository;
+    private final JobRepository jobRepository;
+    private final ApplicationRepository applicationRepository;
+
+    private final Map<Role, LongAdder> usersByRole = adders(Role.class);
+    private final LongAdder jobs = new LongAdder();
+    private final Map<ApplicationStatus, LongAdder> applicationsByStatus = adders(ApplicationStatus.class);
+
+    private final AtomicLong changes = new AtomicLong();
+    private long checkpointedChanges;
+    private volatile Instant checkpointedAt;
+    private volatile boolean loaded;
+
+    // Writes committed before this runs are already counted as deltas, so the checkpoint is added on top of them
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        List<PlatformCounter> stored = platformCounterRepository.findAll();
+        if (stored.isEmpty()) {
+            recompute();
+            return;
+        }
+        for (PlatformCounter counter : stored) {
+            LongAdder adder = adderFor(counter.getName());
+            if (adder != null) {
+                adder.add(counter.getValue());
+            }
+            checkpointedAt = counter.getCheckpointedAt();
+        }
+        loaded = true;
+        log.info("Loaded platform counters checkpointed at {}", checkpointedAt);
+    }
+
+    /**
+     * Counts users, jobs and applications from their tables and replaces the counters. Writes that commit while the
+     * counting queries run may be counted twice or not at all; run it again if that matters.
+     */
+    public synchronized Snapshot recompute() {
+        Map<Role, Long> roles = new EnumMap<>(Role.class);
+        for (UserRepository.RoleCount count : userRepository.countByRole()) {
+            roles.put(count.getRole(), count.getCount());
+        }
+        Map<ApplicationStatus, Long> statuses = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationRepository.StatusTotal count : applicationRepository.countByStatus()) {
+            statuses.put(count.getStatus(), count.getCount());
+        }
+        long jobCount = jobRepository.count();
+
+        usersByRole.forEach((role, adder) -> reset(adder, roles.getOrDefault(role, 0L)));
+        applicationsByStatus.forEach((status, adder) -> reset(adder, statuses.getOrDefault(status, 0L)));
+        reset(jobs, jobCount);
+        changes.incrementAndGet();
+        loaded = true;
+        checkpoint();
+        log.info("Recomputed platform counters: {} users, {} jobs, {} applications",
+                roles.values().stream().mapToLong(Long::longValue).sum(), jobCount,
+                statuses.values().stream().mapToLong(Long::longValue).sum());
+        return snapshot();
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${platform-counters.checkpoint-interval-ms:60000}")
+    public synchronized void checkpoint() {
+        long seen = changes.get();
+        if (!loaded || seen == checkpointedChanges) return;
+
+        Instant now = Instant.now();
+        List<PlatformCounter> rows = new ArrayList<>();
+        usersByRole.forEach((role, adder) -> rows.add(row(USERS_PREFIX + role.name(), adder, now)));
+        rows.add(row(JOBS, jobs, now));
+        applicationsByStatus.forEach((status, adder) -> rows.add(row(APPLICATIONS_PREFIX + status.name(), adder, now)));
+        platformCounterRepository.saveAll(rows);
+        checkpointedChanges = seen;
+        checkpointedAt = now;
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(sums(Role.class, usersByRole), jobs.sum(), sums(ApplicationStatus.class, applicationsByStatus),
+                checkpointedAt);
+    }
+
+    public void onUserCreated(Role role) {
+        TransactionHooks.afterCommit(() -> add(usersByRole.get(role), 1));
+    }
+
+    public void onUserDeleted(Role role) {
+        TransactionHooks.afterCommit(() -> add(usersByRole.get(role), -1));
+    }
+
+    public void onJobsCreated(int count) {
+        TransactionHooks.afterCommit(() -> add(jobs, count));
+    }
+
+    public void onJobDeleted() {
+        TransactionHooks.afterCommit(() -> add(jobs, -1));
+    }
+
+    public void onApplicationCreated() {
+        TransactionHooks.afterCommit(() -> add(applicationsByStatus.get(ApplicationStatus.PENDING), 1));
+    }
+
+    public void onApplicationDeleted(ApplicationStatus status) {
+        TransactionHooks.afterCommit(() -> add(applicationsByStatus.get(status), -1));
+    }
+
+    public void onStatusChanged(ApplicationStatus from, ApplicationStatus to, long applications) {
+        if (from == to || applications == 0) return;
+        TransactionHooks.afterCommit(() -> {
+            applicationsByStatus.get(from).add(-applications);
+            add(applicationsByStatus.get(to), applications);
+        });
+    }
+
+    private void add(LongAdder adder, long delta) {
+        if (adder == null) return;
+        adder.add(delta);
+        changes.incrementAndGet();
+    }
+
+    private LongAdder adderFor(String name) {
+        if (name.equals(JOBS)) return jobs;
+        try {
+            if (name.startsWith(USERS_PREFIX)) {
+                return usersByRole.get(Role.valueOf(name.substring(USERS_PREFIX.length())));
+            }
+            if (name.startsWith(APPLICATIONS_PREFIX)) {
+                return applicationsByStatus.get(ApplicationStatus.valueOf(name.substring(APPLICATIONS_PREFIX.length())));
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring checkpoint of unknown platform counter {}", name);
+        }
+        return null;
+    }
+
+    private static void reset(LongAdder adder, long value) {
+        adder.reset();
+        adder.add(value);
+    }
+
+    private static PlatformCounter row(String name, LongAdder adder, Instant now) {
+        return PlatformCounter.builder().name(name).value(adder.sum()).checkpointedAt(now).build();
+    }
+
+    private static <E extends Enum<E>> Map<E, LongAdder> adders(Class<E> type) {
+        Map<E, LongAdder> adders = new EnumMap<>(type);
+        for (E key : type.getEnumConstants()) {
+            adders.put(key, new LongAdder());
+        }
+        return adders;
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> sums(Class<E> type, Map<E, LongAdder> adders) {
+        Map<E, Long> sums = new EnumMap<>(type);
+        adders.forEach((key, adder) -> sums.put(key, adder.sum()));
+        return sums;
+    }
+}
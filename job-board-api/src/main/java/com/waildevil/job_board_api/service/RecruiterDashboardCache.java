@@ -0,0 +1,78 @@
+package com.waildevil.job_board_api.service;
+
+import com.waildevil.job_board_api.dto.RecruiterDashboardDto;
+import com.waildevil.job_board_api.util.TransactionHooks;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * LRU cache of recruiter dashboards. Every write to a recruiter's jobs or their applications invalidates that
+ * recruiter's entry once it commits; a dashboard computed while an invalidation happened is returned but not stored.
+ */
+@Component
+public class RecruiterDashboardCache {
+
+    private static final int MAX_ENTRIES = 1024;
+
+    private record Entry(long generation, RecruiterDashboardDto dashboard) {
+    }
+
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final AtomicLong globalGeneration = new AtomicLong();
+
+    public RecruiterDashboardDto get(Long recruiterId, Supplier<RecruiterDashboardDto> compute) {
+        long generation = generation(recruiterId);
+        synchronized (entries) {
+            Entry entry = entries.get(recruiterId);
+            if (entry != null && entry.generation() == generation) {
+                return entry.dashboard();
+            }
+        }
+
+        RecruiterDashboardDto dashboard = compute.get();
+        synchronized (entries) {
+            if (generation(recruiterId) == generation) {
+                entries.put(recruiterId, new Entry(generation, dashboard));
+            }
+        }
+        return dashboard;
+    }
+
+    /**
+     * Drops the recruiter's dashboard when the current transaction commits, or right away outside of one.
+     */
+    public void invalidate(Long recruiterId) {
+        if (recruiterId == null) return;
+        TransactionHooks.afterCommit(() -> {
+            generations.computeIfAbsent(recruiterId, id -> new AtomicLong()).incrementAndGet();
+            synchronized (entries) {
+                entries.remove(recruiterId);
+            }
+        });
+    }
+
+    public void invalidateAll() {
+        TransactionHooks.afterCommit(() -> {
+            globalGeneration.incrementAndGet();
+            synchronized (entries) {
+                entries.clear();
+            }
+        });
+    }
+
+    private long generation(Long recruiterId) {
+        AtomicLong own = generations.get(recruiterId);
+        return globalGeneration.get() + (own != null ? own.get() : 0);
+    }
+}
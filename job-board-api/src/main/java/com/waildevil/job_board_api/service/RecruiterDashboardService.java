@@ -0,0 +1,72 @@
+package com.waildevil.job_board_api.service;
+
+import com.waildevil.job_board_api.dto.RecruiterDashboardDto;
+import com.waildevil.job_board_api.dto.RecruiterJobStatsDto;
+import com.waildevil.job_board_api.entity.JobApplicationStats;
+import com.waildevil.job_board_api.entity.User;
+import com.waildevil.job_board_api.repository.JobRepository;
+import com.waildevil.job_board_api.security.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Everything the recruiter home screen shows, from one grouped query per cache miss.
+ */
+@Service
+@RequiredArgsConstructor
+public class RecruiterDashboardService {
+
+    private final JobRepository jobRepository;
+    private final JobApplicationStatsService jobApplicationStatsService;
+    private final RecruiterDashboardCache recruiterDashboardCache;
+
+    public RecruiterDashboardDto getDashboard(User recruiter) {
+        SecurityUtils.requireRecruiter(recruiter);
+        return recruiterDashboardCache.get(recruiter.getId(), () -> load(recruiter.getId()));
+    }
+
+    private RecruiterDashboardDto load(Long recruiterId) {
+        List<RecruiterJobStatsDto> jobs = new ArrayList<>();
+        long totalApplications = 0;
+        long pendingApplications = 0;
+        for (JobRepository.RecruiterJobRow row : jobRepository.findDashboardRows(recruiterId)) {
+            RecruiterJobStatsDto job = toDto(row);
+            totalApplications += job.getPendingCount() + job.getAcceptedCount() + job.getRejectedCount();
+            pendingApplications += job.getPendingCount();
+            jobs.add(job);
+        }
+        return RecruiterDashboardDto.builder()
+                .totalJobs(jobs.size())
+                .totalApplications(totalApplications)
+                .pendingApplications(pendingApplications)
+                .jobs(jobs)
+                .build();
+    }
+
+    private RecruiterJobStatsDto toDto(JobRepository.RecruiterJobRow row) {
+        RecruiterJobStatsDto.RecruiterJobStatsDtoBuilder dto = RecruiterJobStatsDto.builder()
+                .jobId(row.getJobId())
+                .title(row.getTitle())
+                .location(row.getLocation())
+                .createdAt(row.getCreatedAt())
+                .availablePositions(row.getAvailablePositions())
+                .latestAppliedAt(row.getLatestAppliedAt());
+        if (row.getPendingCount() != null) {
+            return dto.pendingCount(row.getPendingCount())
+                    .acceptedCount(row.getAcceptedCount())
+                    .rejectedCount(row.getRejectedCount())
+                    .remainingPositions(Math.max(row.getRemainingPositions(), 0))
+                    .build();
+        }
+        // Job from before the stats table existed
+        JobApplicationStats stats = jobApplicationStatsService.get(row.getJobId());
+        return dto.pendingCount(stats.getPendingCount())
+                .acceptedCount(stats.getAcceptedCount())
+                .rejectedCount(stats.getRejectedCount())
+                .remainingPositions(Math.max(stats.getRemainingPositions(), 0))
+                .build();
+    }
+}
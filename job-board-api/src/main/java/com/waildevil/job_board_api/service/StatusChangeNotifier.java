@@ -0,0 +1,159 @@
+package com.waildevil.job_board_api.service;
+
+import com.waildevil.job_board_api.entity.ApplicationStatus;
+import com.waildevil.job_board_api.entity.NotificationDelivery;
+import com.waildevil.job_board_api.entity.PendingNotification;
+import com.waildevil.job_board_api.repository.PendingNotificationBatchInsertRepository;
+import com.waildevil.job_board_api.repository.PendingNotificationRepository;
+import com.waildevil.job_board_api.util.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Tells candidates about status changes of their applications, either with one mail per change or, for candidates
+ * who chose {@link NotificationDelivery#DIGEST}, with one mail per digest window listing all of them.
+ * <p>
+ * Digest changes are written to {@code pending_notifications} in the calling transaction, which is what makes them
+ * durable. Once committed, the user is added to an in-memory map of when each user's digest is due, so the flush
+ * only reads the rows of users whose window has closed. The window opens with a user's first change and later
+ * changes join it. The map is rebuilt from the table at startup and re-read periodically, which also picks up
+ * changes recorded by a node that stopped before it flushed them.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatusChangeNotifier {
+
+    public record Recipient(Long userId, String email, NotificationDelivery delivery, String locale) {
+    }
+
+    private final EmailService emailService;
+    private final PendingNotificationRepository pendingNotificationRepository;
+    private final PendingNotificationBatchInsertRepository batchInsertRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // User id -> when that user's digest is due
+    private final ConcurrentMap<Long, Instant> dueDigests = new ConcurrentHashMap<>();
+
+    @Value("${notifications.digest.window-minutes:60}")
+    private long windowMinutes;
+
+    /**
+     * Queues a mail to every immediate recipient and records the change for every digest recipient. Joins the
+     * caller's transaction, so nothing is sent for a change that rolls back.
+     */
+    public void onStatusChanged(List<Recipient> recipients, String jobTitle, ApplicationStatus status) {
+        Instant now = Instant.now();
+        // Recipients by locale, so each mail is rendered once per language
+        Map<String, List<String>> immediate = new LinkedHashMap<>();
+        List<PendingNotification> digest = new ArrayList<>();
+        for (Recipient recipient : recipients) {
+            if (recipient.delivery() == NotificationDelivery.DIGEST) {
+                digest.add(PendingNotification.builder()
+                        .userId(recipient.userId())
+                        .recipient(recipient.email())
+                        .locale(recipient.locale())
+                        .jobTitle(jobTitle)
+                        .status(status)
+                        .createdAt(now)
+                        .build());
+            } else {
+                immediate.computeIfAbsent(recipient.locale(), locale -> new ArrayList<>()).add(recipient.email());
+            }
+        }
+
+        immediate.forEach((locale, emails) -> emailService.queueStatusChangeEmails(emails, locale, jobTitle, status));
+        if (!digest.isEmpty()) {
+            batchInsertRepository.insertAll(digest);
+            Instant due = now.plus(window());
+            TransactionHooks.afterCommit(() -> digest.forEach(notification -> schedule(notification.getUserId(), due)));
+        }
+    }
+
+    public int pendingDigests() {
+        return dueDigests.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Duration window = window();
+        List<PendingNotificationRepository.PendingUser> users = pendingNotificationRepository.findPendingUsers();
+        for (PendingNotificationRepository.PendingUser user : users) {
+            schedule(user.getUserId(), user.getOldestCreatedAt().plus(window));
+        }
+        log.debug("{} users have notification digests pending", users.size());
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.digest.resync-interval-ms:600000}",
+            initialDelayString = "${notifications.digest.resync-interval-ms:600000}")
+    public void resync() {
+        load();
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.digest.flush-interval-ms:30000}")
+    public void flush() {
+        flush(Instant.now());
+    }
+
+    /**
+     * Queues the digest of every user whose window closed by {@code now}, each in its own transaction.
+     *
+     * @return the number of digests queued
+     */
+    int flush(Instant now) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int queued = 0;
+        for (Map.Entry<Long, Instant> entry : dueDigests.entrySet()) {
+            Long userId = entry.getKey();
+            Instant due = entry.getValue();
+            // Removed before the rows are read: a change committed from here on schedules another digest instead
+            // of being dropped with this entry. At worst that digest finds its change already sent and is skipped.
+            if (due.isAfter(now) || !dueDigests.remove(userId, due)) continue;
+            try {
+                if (Boolean.TRUE.equals(transaction.execute(status -> queueDigest(userId)))) {
+                    queued++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not queue the notification digest of user {}", userId, e);
+                schedule(userId, due);
+            }
+        }
+        return queued;
+    }
+
+    private boolean queueDigest(Long userId) {
+        List<PendingNotification> changes = pendingNotificationRepository.findByUserIdForUpdate(userId);
+        // Already sent by another node, or by an earlier flush of this one
+        if (changes.isEmpty()) return false;
+
+        // The address and locale the latest change was recorded for, in case the user changed them in between
+        PendingNotification latest = changes.get(changes.size() - 1);
+        emailService.queueStatusDigestEmail(latest.getRecipient(), latest.getLocale(), changes);
+        pendingNotificationRepository.deleteAllInBatch(changes);
+        return true;
+    }
+
+    private void schedule(Long userId, Instant due) {
+        dueDigests.merge(userId, due, (current, added) -> current.isBefore(added) ? current : added);
+    }
+
+    private Duration window() {
+        return Duration.ofMinutes(windowMinutes);
+    }
+}
@@ -4,10 +4,12 @@ import com.waildevil.job_board_api.dto.UserDto;
 import com.waildevil.job_board_api.dto.UserRegistrationDto;
 import com.waildevil.job_board_api.dto.UserUpdateDto;
 import com.waildevil.job_board_api.entity.Company;
+import com.waildevil.job_board_api.entity.NotificationDelivery;
 import com.waildevil.job_board_api.entity.Role;
 import com.waildevil.job_board_api.entity.User;
 import com.waildevil.job_board_api.exception.ApiException;
 import com.waildevil.job_board_api.exception.InvalidOldPasswordException;
+import com.waildevil.job_board_api.mail.MailTemplates;
 import com.waildevil.job_board_api.mapper.UserMapper;
 import com.waildevil.job_board_api.repository.CompanyRepository;
 import com.waildevil.job_board_api.repository.UserRepository;
@@ -21,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @Service
@@ -31,6 +34,8 @@ public class UserService {
     private final UserMapper userMapper;
     private final CompanyRepository companyRepository;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final PlatformCounters platformCounters;
+    private final MailTemplates mailTemplates;
 
     public List<User> getAllUsers() {
         User admin = SecurityUtils.getAuthenticatedUser();
@@ -66,7 +71,9 @@ public class UserService {
             user.setCompany(company);
         }
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        platformCounters.onUserCreated(saved.getRole());
+        return saved;
     }
 
     //❌❌
@@ -91,7 +98,9 @@ public class UserService {
         employee.setPassword(passwordEncoder.encode(dto.getPassword()));
         employee.setCompany(company);
 
-        return userRepository.save(employee);
+        User saved = userRepository.save(employee);
+        platformCounters.onUserCreated(saved.getRole());
+        return saved;
     }
 
     public User updateEmployee(User manager, Long employeeId, UserUpdateDto dto) {
@@ -119,6 +128,7 @@ public class UserService {
         }
 
         userRepository.delete(employee);
+        platformCounters.onUserDeleted(employee.getRole());
     }
 
     public User updateOwnProfile(User authenticatedUser, UserUpdateDto dto) {
@@ -128,7 +138,10 @@ public class UserService {
 
 
     public void deleteUser(Long id) {
-        userRepository.deleteById(id);
+        userRepository.findById(id).ifPresent(user -> {
+            userRepository.delete(user);
+            platformCounters.onUserDeleted(user.getRole());
+        });
     }
 
 
@@ -153,6 +166,24 @@ public class UserService {
         return userRepository.save(u);
     }
 
+    @Transactional
+    public User updateOwnLocale(String email, String locale) {
+        if (!mailTemplates.supports(locale)) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "Mails are not available in " + locale);
+        }
+        User u = userRepository.findByEmail(email).orElseThrow();
+        u.setLocale(Locale.forLanguageTag(locale.replace('_', '-')).toLanguageTag());
+        return userRepository.save(u);
+    }
+
+    // Changes already collected for a digest are still sent with it
+    @Transactional
+    public User updateOwnNotificationDelivery(String email, NotificationDelivery delivery) {
+        User u = userRepository.findByEmail(email).orElseThrow();
+        u.setNotificationDelivery(delivery);
+        return userRepository.save(u);
+    }
+
     @Transactional
     public void updatePassword(String email, String oldPassword, String newPassword) {
         User user = userRepository.findByEmail(email).orElseThrow();
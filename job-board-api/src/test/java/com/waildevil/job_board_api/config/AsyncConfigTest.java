@@ -0,0 +1,28 @@
+package com.waildevil.job_board_api.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+            .withUserConfiguration(AsyncConfig.class)
+            .withPropertyValues("spring.task.execution.pool.core-size=3");
+
+    @Test
+    void testContext_shouldKeepTheApplicationTaskExecutorNextToTheNotificationExecutor() {
+        contextRunner.run(context -> {
+            assertTrue(context.containsBean("notificationExecutor"));
+            ThreadPoolTaskExecutor executor = context.getBean("applicationTaskExecutor", ThreadPoolTaskExecutor.class);
+            assertEquals(3, executor.getCorePoolSize());
+            assertTrue(context.containsBean("taskExecutor"));
+        });
+    }
+}
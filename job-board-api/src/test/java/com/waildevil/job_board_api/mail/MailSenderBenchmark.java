@@ -0,0 +1,102 @@
+package com.waildevil.job_board_api.mail;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH throughput of sending a dispatcher batch of {@value #BATCH} mails to a local GreenMail server: one connection
+ * per message (how status mails used to be sent), one connection per batch (plain {@link JavaMailSenderImpl}) and
+ * the {@link PooledJavaMailSender}. Reports messages per second. A local server without TLS understates what a
+ * connection costs against a real one, so the gap in production is larger. Run with:
+ * {@code mvn test -Dtest=MailSenderBenchmark -Djobboard.benchmark=true}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MailSenderBenchmark {
+
+    static final int BATCH = 50;
+
+    private GreenMail greenMail;
+    private JavaMailSenderImpl plain;
+    private PooledJavaMailSender pooled;
+    private SimpleMailMessage[] messages;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        greenMail = new GreenMail(ServerSetupTest.SMTP);
+        greenMail.start();
+        plain = new JavaMailSenderImpl();
+        plain.setHost("localhost");
+        plain.setPort(ServerSetupTest.SMTP.getPort());
+        pooled = new PooledJavaMailSender(4, 100, Duration.ofMinutes(1));
+        pooled.setHost("localhost");
+        pooled.setPort(ServerSetupTest.SMTP.getPort());
+        messages = PooledJavaMailSenderTest.messages(BATCH);
+    }
+
+    // GreenMail keeps every message in memory
+    @TearDown(Level.Iteration)
+    public void purge() throws Exception {
+        greenMail.purgeEmailFromAllMailboxes();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pooled.destroy();
+        greenMail.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void connectionPerMessage() {
+        for (SimpleMailMessage message : messages) {
+            plain.send(message);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void connectionPerBatch() {
+        plain.send(messages);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void pooledSessions() {
+        pooled.send(messages);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "jobboard.benchmark", matches = "true")
+    void run() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(MailSenderBenchmark.class.getName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,112 @@
+package com.waildevil.job_board_api.mail;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH cost of rendering one mail (subject, text and HTML body) from the compiled templates, against parsing the
+ * template for every mail and against the string concatenation the text-only status mails used to be built with.
+ * Reports ns per mail and, through the GC profiler, bytes allocated per mail ({@code gc.alloc.rate.norm}). Run with:
+ * {@code mvn test -Dtest=MailTemplateBenchmark -Djobboard.benchmark=true}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MailTemplateBenchmark {
+
+    static final int DIGEST_CHANGES = 10;
+
+    private MailTemplates templates;
+    private Map<String, Object> statusModel;
+    private Map<String, Object> digestModel;
+    private Map<String, Object> jobAlertModel;
+    private String statusText;
+    private String statusHtml;
+    private String jobTitle;
+
+    @Setup
+    public void setUp() throws IOException {
+        templates = new MailTemplates(List.of("en", "de"), "en");
+        jobTitle = "Senior Backend Developer (Java, Spring)";
+        statusModel = Map.of("jobTitle", jobTitle, "applicationsUrl", "http://localhost:3000/my-applications");
+
+        List<Map<String, Object>> changes = new ArrayList<>();
+        for (int i = 0; i < DIGEST_CHANGES; i++) {
+            changes.add(Map.of("jobTitle", "Backend Developer " + i, i % 3 == 0 ? "accepted" : "rejected", true));
+        }
+        digestModel = Map.of("changes", changes, "count", DIGEST_CHANGES, "several", true,
+                "applicationsUrl", "http://localhost:3000/my-applications");
+
+        jobAlertModel = Map.of("searchName", "Java in Berlin", "jobTitle", jobTitle, "companyName", "Acme & Co",
+                "location", "Berlin", "jobUrl", "http://localhost:3000/jobs/4711");
+
+        statusText = read("en/status-rejected.txt");
+        statusHtml = read("en/status-rejected.html");
+    }
+
+    @Benchmark
+    public RenderedMail statusMail() {
+        return templates.render(MailType.STATUS_REJECTED, "en", statusModel);
+    }
+
+    @Benchmark
+    public RenderedMail statusMailParsedEveryTime() {
+        return MailTemplate.compile("en/status-rejected", statusText, statusHtml).render(statusModel);
+    }
+
+    @Benchmark
+    public String statusMailConcatenatedTextOnly() {
+        return "Leider, we regret to inform you that your application for the job '" + jobTitle
+                + "' has been rejected.";
+    }
+
+    @Benchmark
+    public RenderedMail digestOfTenChanges() {
+        return templates.render(MailType.STATUS_DIGEST, "de", digestModel);
+    }
+
+    @Benchmark
+    public RenderedMail jobAlert() {
+        return templates.render(MailType.JOB_ALERT, "en", jobAlertModel);
+    }
+
+    private static String read(String path) throws IOException {
+        try (InputStream in = new ClassPathResource(MailTemplates.LOCATION + path).getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "jobboard.benchmark", matches = "true")
+    void run() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(MailTemplateBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,123 @@
+package com.waildevil.job_board_api.mail;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MailTemplatesTest {
+
+    private final MailTemplates templates = new MailTemplates(List.of("en", "de"), "en");
+
+    @Test
+    void testRender_shouldRenderEveryMailInEveryLocale() {
+        for (String locale : List.of("en", "de")) {
+            for (MailType type : MailType.values()) {
+                RenderedMail mail = templates.render(type, locale, sampleModel());
+                String name = locale + "/" + type.file();
+                assertFalse(mail.subject().isBlank(), name);
+                assertFalse(mail.text().contains("{{"), name);
+                assertNotNull(mail.html(), name);
+                assertFalse(mail.html().contains("{{"), name);
+            }
+        }
+    }
+
+    @Test
+    void testRender_shouldEscapeValuesInHtmlButNotInText() {
+        RenderedMail mail = templates.render(MailType.STATUS_REJECTED, "en",
+                Map.of("jobTitle", "R&D <Lead>", "applicationsUrl", "http://localhost:3000/my-applications"));
+
+        assertTrue(mail.text().contains("'R&D <Lead>'"), mail.text());
+        assertTrue(mail.html().contains("R&amp;D &lt;Lead&gt;"), mail.html());
+        assertFalse(mail.html().contains("<Lead>"), mail.html());
+    }
+
+    @Test
+    void testRender_shouldKeepSubjectsOnOneLine() {
+        RenderedMail mail = templates.render(MailType.JOB_ALERT, "en", Map.of("jobTitle", "Dev\r\nBcc: x@example.com"));
+
+        assertEquals("New job matching your search: Dev  Bcc: x@example.com", mail.subject());
+    }
+
+    @Test
+    void testRender_whenDigest_shouldListEveryChangeOnItsOwnLine() {
+        RenderedMail mail = templates.render(MailType.STATUS_DIGEST, "en", Map.of(
+                "count", 2, "several", true, "applicationsUrl", "http://localhost:3000/my-applications",
+                "changes", List.of(Map.of("jobTitle", "Backend Developer", "rejected", true),
+                        Map.of("jobTitle", "Frontend Developer", "accepted", true))));
+
+        assertEquals("2 updates on your job applications", mail.subject());
+        assertEquals("""
+                Here is what changed in your job applications:
+
+                - Backend Developer: rejected
+                - Frontend Developer: accepted, congratulations!
+
+                All your applications: http://localhost:3000/my-applications
+                """, mail.text());
+    }
+
+    @Test
+    void testRender_whenLocaleUnknown_shouldFallBackToTheLanguageThenTheDefault() {
+        Map<String, Object> model = Map.of("resetLink", "https://example.com/reset", "expiresInMinutes", 30);
+
+        assertEquals("Passwort zurücksetzen", templates.render(MailType.PASSWORD_RESET, "de-AT", model).subject());
+        assertEquals("Passwort zurücksetzen", templates.render(MailType.PASSWORD_RESET, "DE", model).subject());
+        assertEquals("Reset your password", templates.render(MailType.PASSWORD_RESET, "fr", model).subject());
+        assertEquals("Reset your password", templates.render(MailType.PASSWORD_RESET, null, model).subject());
+        assertTrue(templates.supports("de-CH"));
+        assertFalse(templates.supports("fr"));
+    }
+
+    @Test
+    void testRender_shouldRenderSectionsForPresentValuesAndInvertedSectionsForMissingOnes() {
+        CompiledTemplate template = CompiledTemplate.compile("test", """
+                Hello{{#name}} {{name}}{{/name}}{{^name}} there{{/name}}!
+                  {{#items}}
+                * {{label}} by {{name}}
+                  {{/items}}
+                {{^items}}
+                Nothing new.
+                {{/items}}
+                """, false);
+
+        assertEquals("Hello there!\nNothing new.\n", template.render(Map.of()));
+        assertEquals("Hello there!\nNothing new.\n", template.render(Map.of("name", "", "items", List.of())));
+        assertEquals("Hello Ada!\n* a by Ada\n* b by Bob\n", template.render(Map.of("name", "Ada",
+                "items", List.of(Map.of("label", "a"), Map.of("label", "b", "name", "Bob")))));
+    }
+
+    @Test
+    void testCompile_whenTemplateMalformed_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("t", "Hi {{name", false));
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("t", "{{#a}}x", false));
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("t", "{{#a}}x{{/b}}", false));
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("t", "{{ user.name }}", false));
+        assertThrows(IllegalArgumentException.class, () -> MailTemplate.compile("t", "No subject line", null));
+    }
+
+    static Map<String, Object> sampleModel() {
+        return Map.ofEntries(
+                Map.entry("jobTitle", "Backend Developer"),
+                Map.entry("companyName", "Acme"),
+                Map.entry("location", "Berlin"),
+                Map.entry("searchName", "Java in Berlin"),
+                Map.entry("jobUrl", "http://localhost:3000/jobs/42"),
+                Map.entry("applicationsUrl", "http://localhost:3000/my-applications"),
+                Map.entry("resetLink", "http://localhost:3000/reset-password?token=abc"),
+                Map.entry("expiresInMinutes", 30),
+                Map.entry("count", 3),
+                Map.entry("several", true),
+                Map.entry("changes", List.of(
+                        Map.of("jobTitle", "Backend Developer", "rejected", true),
+                        Map.of("jobTitle", "Frontend Developer", "accepted", true),
+                        Map.of("jobTitle", "Data Engineer", "pending", true))));
+    }
+}
@@ -0,0 +1,109 @@
+package com.waildevil.job_board_api.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PooledJavaMailSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private PooledJavaMailSender sender;
+
+    @AfterEach
+    void tearDown() {
+        if (sender != null) {
+            sender.destroy();
+        }
+    }
+
+    @Test
+    void testSend_shouldKeepSessionsOpenAcrossBatches() {
+        sender = sender(4, 100);
+
+        for (int batch = 0; batch < 3; batch++) {
+            sender.send(messages(40));
+        }
+
+        assertEquals(120, greenMail.getReceivedMessages().length);
+        assertTrue(sender.connectionsOpened() <= 4, "opened " + sender.connectionsOpened());
+        assertEquals(sender.connectionsOpened(), sender.idleSessions());
+    }
+
+    @Test
+    void testSend_whenBatchIsSmall_shouldUseOneSession() {
+        sender = sender(4, 100);
+
+        sender.send(messages(PooledJavaMailSender.MIN_MESSAGES_PER_SLICE - 1));
+        sender.send(messages(PooledJavaMailSender.MIN_MESSAGES_PER_SLICE - 1));
+
+        assertEquals(1, sender.connectionsOpened());
+    }
+
+    @Test
+    void testSend_whenMessageLimitReached_shouldReplaceTheSession() {
+        sender = sender(1, 3);
+
+        sender.send(messages(7));
+
+        assertEquals(7, greenMail.getReceivedMessages().length);
+        assertEquals(3, sender.connectionsOpened());
+    }
+
+    @Test
+    void testSend_whenConnectionDropped_shouldReconnect() {
+        sender = sender(1, 100);
+        sender.send(messages(5));
+
+        greenMail.stop();
+        greenMail.start();
+        sender.send(messages(5));
+
+        assertEquals(5, greenMail.getReceivedMessages().length);
+        assertEquals(2, sender.connectionsOpened());
+    }
+
+    @Test
+    void testSend_whenServerUnreachable_shouldReportEveryMessage() {
+        sender = sender(2, 100);
+        greenMail.stop();
+
+        MailSendException e = assertThrows(MailSendException.class, () -> sender.send(messages(30)));
+
+        assertEquals(30, e.getFailedMessages().size());
+        greenMail.start();
+        sender.send(messages(3));
+        assertEquals(3, greenMail.getReceivedMessages().length);
+    }
+
+    private static PooledJavaMailSender sender(int maxSessions, int maxMessagesPerSession) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(maxSessions, maxMessagesPerSession, Duration.ofMinutes(1));
+        sender.setHost("localhost");
+        sender.setPort(ServerSetupTest.SMTP.getPort());
+        return sender;
+    }
+
+    static SimpleMailMessage[] messages(int count) {
+        SimpleMailMessage[] messages = new SimpleMailMessage[count];
+        for (int i = 0; i < count; i++) {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setFrom("jobs@example.com");
+            message.setTo("candidate" + i + "@example.com");
+            message.setSubject("Update on your job application");
+            message.setText("Leider, we regret to inform you that your application has been rejected.");
+            messages[i] = message;
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,76 @@
+package com.waildevil.job_board_api.mapper;
+
+import com.waildevil.job_board_api.dto.ApplicationResponseDto;
+import com.waildevil.job_board_api.dto.ApplicationSummaryDto;
+import com.waildevil.job_board_api.dto.MyApplicationDto;
+import com.waildevil.job_board_api.entity.Application;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of the application mappers against the ModelMapper mapping they replaced. Reports ns per call and,
+ * through the GC profiler, bytes allocated per call ({@code gc.alloc.rate.norm}). Run with:
+ * {@code mvn test -Dtest=ApplicationMapperBenchmark -Djobboard.benchmark=true}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApplicationMapperBenchmark {
+
+    private final ApplicationMapper mapper = new ApplicationMapper();
+    private final MapperFixtures.ReflectiveMapper reflective = new MapperFixtures.ReflectiveMapper();
+    private Application application;
+
+    @Setup
+    public void setUp() {
+        application = MapperFixtures.application();
+        reflective.toDto(application);
+    }
+
+    @Benchmark
+    public ApplicationResponseDto toDtoModelMapper() {
+        return reflective.toDto(application);
+    }
+
+    @Benchmark
+    public ApplicationResponseDto toDto() {
+        return mapper.toDto(application);
+    }
+
+    @Benchmark
+    public MyApplicationDto toMyDto() {
+        return mapper.toMyDto(application);
+    }
+
+    @Benchmark
+    public ApplicationSummaryDto toSummaryDto() {
+        return mapper.toSummaryDto(application);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "jobboard.benchmark", matches = "true")
+    void run() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ApplicationMapperBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,61 @@
+package com.waildevil.job_board_api.mapper;
+
+import com.waildevil.job_board_api.dto.ApplicationResponseDto;
+import com.waildevil.job_board_api.dto.CompanyDto;
+import com.waildevil.job_board_api.entity.Application;
+import com.waildevil.job_board_api.entity.Company;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ApplicationMapperTest {
+
+    private final MapperFixtures.ReflectiveMapper reflective = new MapperFixtures.ReflectiveMapper();
+
+    @Test
+    void testToDto_shouldMatchTheReflectiveMapping() {
+        Application application = MapperFixtures.application();
+
+        ApplicationResponseDto expected = reflective.toDto(application);
+        ApplicationResponseDto actual = new ApplicationMapper().toDto(application);
+
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getResume(), actual.getResume());
+        assertEquals(expected.getCoverLetter(), actual.getCoverLetter());
+        assertEquals(expected.getPhoneNumber(), actual.getPhoneNumber());
+        assertEquals(expected.getCandidateName(), actual.getCandidateName());
+        assertEquals(expected.getJobTitle(), actual.getJobTitle());
+        assertEquals(expected.getCompanyName(), actual.getCompanyName());
+        assertEquals(expected.getAppliedAt(), actual.getAppliedAt());
+        assertEquals(expected.getJobId(), actual.getJobId());
+        assertEquals(expected.getUserId(), actual.getUserId());
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals("Backend Developer", actual.getJobTitle());
+    }
+
+    @Test
+    void testCompanyMapping_shouldMatchTheReflectiveMappingBothWays() {
+        CompanyMapper mapper = new CompanyMapper();
+        Company company = MapperFixtures.company();
+
+        CompanyDto expectedDto = reflective.map(company, CompanyDto.class);
+        CompanyDto dto = mapper.toDto(company);
+        assertEquals(expectedDto.getId(), dto.getId());
+        assertEquals(expectedDto.getName(), dto.getName());
+        assertEquals(expectedDto.getIndustry(), dto.getIndustry());
+        assertEquals(expectedDto.getWebsite(), dto.getWebsite());
+        assertEquals(expectedDto.getDescription(), dto.getDescription());
+        assertEquals(expectedDto.getLocation(), dto.getLocation());
+
+        Company expectedEntity = reflective.map(dto, Company.class);
+        Company entity = mapper.toEntity(dto);
+        assertEquals(expectedEntity.getId(), entity.getId());
+        assertEquals(expectedEntity.getName(), entity.getName());
+        assertEquals(expectedEntity.getIndustry(), entity.getIndustry());
+        assertEquals(expectedEntity.getWebsite(), entity.getWebsite());
+        assertEquals(expectedEntity.getDescription(), entity.getDescription());
+        assertEquals(expectedEntity.getLocation(), entity.getLocation());
+        assertEquals(expectedEntity.getCity(), entity.getCity());
+        assertEquals(expectedEntity.getEmployees(), entity.getEmployees());
+    }
+}
@@ -0,0 +1,90 @@
+package com.waildevil.job_board_api.repository;
+
+import com.waildevil.job_board_api.entity.Category;
+import com.waildevil.job_board_api.entity.Job;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+class JobFeedQueryTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    private final List<Job> jobs = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Category category = em.persist(Category.builder().name("IT").build());
+        Instant base = Instant.parse("2025-01-01T12:00:00.123456Z");
+        for (int i = 0; i < 11; i++) {
+            Job job = em.persist(Job.builder().title("Job " + i).availablePositions(1).category(category).build());
+            // groups of three share a timestamp, so pages have to break ties on the id
+            Instant createdAt = base.plus(i / 3, ChronoUnit.MINUTES);
+            em.getEntityManager().createQuery("UPDATE Job j SET j.createdAt = :createdAt WHERE j.id = :id")
+                    .setParameter("createdAt", createdAt)
+                    .setParameter("id", job.getId())
+                    .executeUpdate();
+            job.setCreatedAt(createdAt);
+            jobs.add(job);
+        }
+        em.clear();
+    }
+
+    @Test
+    void testSeekPages_shouldVisitEveryJobOnceNewestFirst() {
+        List<Long> expected = jobs.stream()
+                .sorted(Comparator.comparing(Job::getCreatedAt).thenComparing(Job::getId).reversed())
+                .map(Job::getId)
+                .toList();
+
+        List<Long> visited = new ArrayList<>();
+        List<Job> page = jobRepository.findLatest(Limit.of(4));
+        while (!page.isEmpty()) {
+            page.forEach(job -> visited.add(job.getId()));
+            Job last = page.get(page.size() - 1);
+            page = jobRepository.findLatestBefore(last.getCreatedAt(), last.getId(), Limit.of(4));
+        }
+
+        assertEquals(expected, visited);
+    }
+
+    @Test
+    void testFindLatestMatching_shouldSeekFilteredPagesNewestFirst() {
+        List<Long> expected = jobs.stream()
+                .filter(job -> job.getTitle().contains("1"))
+                .sorted(Comparator.comparing(Job::getCreatedAt).thenComparing(Job::getId).reversed())
+                .map(Job::getId)
+                .toList();
+
+        List<Long> visited = new ArrayList<>();
+        List<Job> page = jobRepository.findLatestMatching(JobSpecifications.matching("1", null, "IT", null, null),
+                null, null, 1);
+        while (!page.isEmpty()) {
+            page.forEach(job -> visited.add(job.getId()));
+            Job last = page.get(page.size() - 1);
+            assertTrue(Hibernate.isInitialized(last.getCategory()));
+            page = jobRepository.findLatestMatching(JobSpecifications.matching("1", null, "IT", null, null),
+                    last.getCreatedAt(), last.getId(), 1);
+        }
+
+        assertEquals(expected, visited);
+    }
+}
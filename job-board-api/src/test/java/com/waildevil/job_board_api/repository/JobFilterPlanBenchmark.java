@@ -0,0 +1,123 @@
+package com.waildevil.job_board_api.repository;
+
+import com.waildevil.job_board_api.entity.Job;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Prints the MySQL plan and average latency of the job filter query for every combination of filters.
+ * Needs a configured MySQL datasource, run with:
+ * {@code mvn test -Dtest=JobFilterPlanBenchmark -Djobboard.benchmark=true}
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.waildevil.job_board_api.repository.JobFilterPlanBenchmark$LastStatement")
+@EnabledIfSystemProperty(named = "jobboard.benchmark", matches = "true")
+class JobFilterPlanBenchmark {
+
+    private static final String[] FILTERS = {"keyword", "location", "category", "type", "minSalary"};
+    private static final int RUNS = 20;
+
+    private final String keyword = System.getProperty("jobboard.benchmark.keyword", "developer");
+    private final String location = System.getProperty("jobboard.benchmark.location", "berlin");
+    private final String category = System.getProperty("jobboard.benchmark.category", "IT");
+    private final String type = System.getProperty("jobboard.benchmark.type", "Full-Time");
+    private final int minSalary = Integer.getInteger("jobboard.benchmark.minSalary", 50000);
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void explainEveryFilterCombination() throws Exception {
+        System.out.printf("%-45s %-8s %-32s %10s %10s%n", "filters", "type", "key", "rows", "avg ms");
+
+        for (int mask = 0; mask < 1 << FILTERS.length; mask++) {
+            Specification<Job> spec = JobSpecifications.matching(
+                    has(mask, 0) ? keyword : null,
+                    has(mask, 1) ? location : null,
+                    has(mask, 2) ? category : null,
+                    has(mask, 3) ? type : null,
+                    has(mask, 4) ? minSalary : null);
+
+            jobRepository.count(spec);
+            String sql = LastStatement.last.get();
+            assertNotNull(sql);
+
+            long start = System.nanoTime();
+            for (int i = 0; i < RUNS; i++) {
+                jobRepository.count(spec);
+            }
+            double avgMillis = (System.nanoTime() - start) / 1_000_000.0 / RUNS;
+
+            String[] plan = explain(sql, parameters(mask));
+            System.out.printf("%-45s %-8s %-32s %10s %10.2f%n", describe(mask), plan[0], plan[1], plan[2], avgMillis);
+        }
+    }
+
+    private String[] explain(String sql, List<Object> parameters) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    if (rs.getString("table").startsWith("j")) {
+                        return new String[]{rs.getString("type"), String.valueOf(rs.getString("key")), rs.getString("rows")};
+                    }
+                }
+            }
+        }
+        return new String[]{"?", "?", "?"};
+    }
+
+    // Same order as the predicates in JobSpecifications.matching
+    private List<Object> parameters(int mask) {
+        List<Object> parameters = new ArrayList<>();
+        if (has(mask, 0)) parameters.add("%" + keyword.toLowerCase(Locale.ROOT) + "%");
+        if (has(mask, 1)) parameters.add("%" + location.toLowerCase(Locale.ROOT) + "%");
+        if (has(mask, 2)) parameters.add(category);
+        if (has(mask, 3)) parameters.add(type);
+        if (has(mask, 4)) parameters.add(minSalary);
+        return parameters;
+    }
+
+    private static String describe(int mask) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < FILTERS.length; i++) {
+            if (has(mask, i)) names.add(FILTERS[i]);
+        }
+        return names.isEmpty() ? "(none)" : String.join("+", names);
+    }
+
+    private static boolean has(int mask, int bit) {
+        return (mask & (1 << bit)) != 0;
+    }
+
+    public static class LastStatement implements StatementInspector {
+
+        static final ThreadLocal<String> last = new ThreadLocal<>();
+
+        @Override
+        public String inspect(String sql) {
+            last.set(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.waildevil.job_board_api.repository;
+
+import com.waildevil.job_board_api.dto.ApplicationResponseDto;
+import com.waildevil.job_board_api.entity.Application;
+import com.waildevil.job_board_api.entity.ApplicationStatus;
+import com.waildevil.job_board_api.entity.Category;
+import com.waildevil.job_board_api.entity.Company;
+import com.waildevil.job_board_api.entity.Job;
+import com.waildevil.job_board_api.entity.Role;
+import com.waildevil.job_board_api.entity.User;
+import com.waildevil.job_board_api.mapper.ApplicationMapper;
+import com.waildevil.job_board_api.mapper.JobMapper;
+import com.waildevil.job_board_api.mapper.UserMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the reads behind each list endpoint together with the mapping its controller does, and checks that the
+ * number of SQL statements does not grow with the number of rows.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JobMapper.class, ApplicationMapper.class, UserMapper.class})
+class ReadQueryStatementCountTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobMapper jobMapper;
+
+    @Autowired
+    private ApplicationMapper applicationMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    private final List<Long> jobIds = new ArrayList<>();
+    private User recruiter;
+    private User candidate;
+
+    @BeforeEach
+    void setUp() {
+        Category category = em.persist(Category.builder().name("IT").build());
+        List<Company> companies = new ArrayList<>();
+        List<User> recruiters = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Company company = em.persist(Company.builder().name("Company " + i).build());
+            companies.add(company);
+            recruiters.add(em.persist(User.builder().name("Recruiter " + i).email("recruiter" + i + "@example.com")
+                    .role(Role.RECRUITER).company(company).build()));
+        }
+        List<User> candidates = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            candidates.add(em.persist(User.builder().name("Candidate " + i).email("candidate" + i + "@example.com")
+                    .role(Role.CANDIDATE).build()));
+        }
+
+        // Every recruiter gets jobs and every job gets applications from different candidates, so lazy loading per
+        // row would show up as extra statements
+        for (int i = 0; i < 9; i++) {
+            Job job = em.persist(Job.builder().title("Job " + i).location("Berlin").type("Full-Time")
+                    .availablePositions(2).company(companies.get(i % 3)).recruiter(recruiters.get(i % 3))
+                    .category(category).build());
+            jobIds.add(job.getId());
+            for (User applicant : candidates) {
+                em.persist(Application.builder().job(job).user(applicant).phoneNumber("123")
+                        .appliedAt(LocalDateTime.now()).status(ApplicationStatus.PENDING).build());
+            }
+        }
+        recruiter = recruiters.get(0);
+        candidate = candidates.get(0);
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void testJobListPage_shouldLoadRowsInOneSelect() {
+        // a full page also needs the count query
+        assertEquals(2, statements(() -> jobRepository.findAll(PageRequest.of(0, 5)).map(jobMapper::toResponseDto)));
+        assertEquals(1, statements(() -> jobRepository.findAll(PageRequest.of(0, 20, Sort.by("createdAt")))
+                .map(jobMapper::toResponseDto)));
+    }
+
+    @Test
+    void testRecruiterJobs_shouldLoadInOneSelect() {
+        assertEquals(1, statements(() -> jobRepository.findByRecruiterId(recruiter.getId()).stream()
+                .map(jobMapper::toResponseDto).toList()));
+    }
+
+    @Test
+    void testSearchResultPage_shouldLoadInOneSelect() {
+        assertEquals(1, statements(() -> jobRepository.findAllById(jobIds).stream()
+                .map(jobMapper::toResponseDto).toList()));
+    }
+
+    @Test
+    void testEmployerApplications_shouldLoadInOneSelect() {
+        assertEquals(1, statements(() -> {
+            List<ApplicationResponseDto> dtos = applicationRepository.findByRecruiterEmail(recruiter.getEmail())
+                    .stream().map(applicationMapper::toDto).toList();
+            assertEquals(12, dtos.size());
+        }));
+    }
+
+    @Test
+    void testAllApplications_shouldLoadInOneSelect() {
+        assertEquals(1, statements(() -> applicationRepository.findAll().stream()
+                .map(applicationMapper::toDto).toList()));
+    }
+
+    @Test
+    void testCandidateApplications_shouldLoadInOneSelect() {
+        assertEquals(1, statements(() -> applicationRepository.findByUserEmail(candidate.getEmail()).stream()
+                .map(applicationMapper::toMyDto).toList()));
+    }
+
+    @Test
+    void testJobApplications_shouldLoadJobAndApplicationsInTwoSelects() {
+        assertEquals(2, statements(() -> {
+            Job job = jobRepository.findById(jobIds.get(0)).orElseThrow();
+            job.getRecruiter().getEmail();
+            applicationRepository.findByJobId(job.getId()).stream().map(applicationMapper::toSummaryDto).toList();
+        }));
+    }
+
+    @Test
+    void testUserList_shouldLoadInOneSelect() {
+        assertEquals(1, statements(() -> userRepository.findAll().stream().map(userMapper::toResponseDto).toList()));
+    }
+
+    private long statements(Runnable read) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        em.clear();
+        statistics.clear();
+        read.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,67 @@
+package com.waildevil.job_board_api.search;
+
+import com.waildevil.job_board_api.entity.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeoIndexTest {
+
+    private static final GeoPoint BERLIN = new GeoPoint(52.5200, 13.4050);
+
+    private final CityGazetteer gazetteer = new CityGazetteer();
+    private GeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new GeoIndex(gazetteer);
+        index.rebuild(List.of(
+                job(1L, "Berlin Mitte"),
+                job(2L, "Potsdam, Germany"),
+                job(3L, "Hamburg"),
+                job(4L, "Remote - Cologne"),
+                job(5L, "Somewhere unknown")
+        ));
+    }
+
+    @Test
+    void testGazetteer_shouldResolveAliasesAndCompoundLocations() {
+        assertEquals(gazetteer.lookup("Köln"), gazetteer.lookup("Remote - Cologne"));
+        assertTrue(gazetteer.lookup("Berlin Mitte").isPresent());
+        assertTrue(gazetteer.lookup("Atlantis").isEmpty());
+    }
+
+    @Test
+    void testWithinRadius_shouldIncludeNearbyCitiesWithDistance() {
+        Map<Long, Double> hits = index.withinRadius(BERLIN, 30);
+
+        assertEquals(Set.of(1L, 2L), hits.keySet());
+        assertEquals(0.0, hits.get(1L), 0.01);
+        assertEquals(27, hits.get(2L), 2);
+        assertEquals(Set.of(1L, 2L, 3L), index.withinRadius(BERLIN, 300).keySet());
+    }
+
+    @Test
+    void testWithinBox_andIncrementalUpdates() {
+        assertEquals(Set.of(4L), index.withinBox(50, 6, 51.5, 8));
+
+        Job moved = job(4L, "Somewhere unknown");
+        moved.setLatitude(52.40);
+        moved.setLongitude(13.06);
+        index.index(moved);
+        index.remove(2L);
+
+        assertTrue(index.withinBox(50, 6, 51.5, 8).isEmpty());
+        assertEquals(Set.of(1L, 4L), index.withinRadius(BERLIN, 30).keySet());
+    }
+
+    private static Job job(Long id, String location) {
+        return Job.builder().id(id).location(location).build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.waildevil.job_board_api.search;
+
+import com.waildevil.job_board_api.entity.Category;
+import com.waildevil.job_board_api.entity.Job;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobCatalogTest {
+
+    private static final String[] CATEGORIES = {"IT", "Health", "Finance", "Sales"};
+    private static final String[] TYPES = {"Full-time", "Part-time", "Internship"};
+    private static final String[] LOCATIONS = {"Berlin", "Berlin Mitte", "Munich", "Hamburg", "Köln", null};
+
+    @Test
+    void testSelect_shouldAgreeWithPerJobFilters() {
+        Random random = new Random(42);
+        List<IndexedJob> docs = new ArrayList<>();
+        JobCatalog catalog = new JobCatalog(0);
+        for (long id = 1; id <= 2_000; id++) {
+            IndexedJob doc = randomJob(id, random);
+            docs.add(doc);
+            catalog.put(doc);
+        }
+        // Replace and remove some jobs so freed slots get reused
+        for (long id = 1; id <= 2_000; id += 7) {
+            catalog.remove(id);
+            docs.set((int) id - 1, null);
+        }
+        for (long id = 1; id <= 2_000; id += 14) {
+            IndexedJob doc = randomJob(id, random);
+            docs.set((int) id - 1, doc);
+            catalog.put(doc);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            JobQuery query = JobQuery.of(null,
+                    random.nextBoolean() ? pick(LOCATIONS, random) : null,
+                    random.nextBoolean() ? pick(CATEGORIES, random).toLowerCase() : null,
+                    random.nextBoolean() ? pick(TYPES, random) : null,
+                    random.nextBoolean() ? 20_000 + random.nextInt(100_000) : null);
+
+            List<Long> expected = docs.stream()
+                    .filter(doc -> doc != null && query.matchesFilters(doc))
+                    .map(IndexedJob::id)
+                    .sorted()
+                    .toList();
+            RoaringBitmap selected = catalog.select(catalog.live(), query);
+            List<Long> actual = new ArrayList<>();
+            selected.forEach((int slot) -> actual.add(catalog.idAt(slot)));
+
+            assertEquals(expected, actual.stream().sorted().toList(), query.toString());
+        }
+    }
+
+    @Test
+    void testFootprint_shouldStaySmallPer100kJobs() {
+        Random random = new Random(7);
+        JobCatalog catalog = new JobCatalog(100_000);
+        for (long id = 1; id <= 100_000; id++) {
+            catalog.put(randomJob(id, random));
+        }
+
+        CatalogFootprint footprint = catalog.footprint();
+        assertEquals(100_000, footprint.jobs());
+        assertEquals(CATEGORIES.length, footprint.categories());
+        assertTrue(footprint.bytesPer100kJobs() < 8 * 1024 * 1024, "footprint: " + footprint);
+    }
+
+    private static IndexedJob randomJob(long id, Random random) {
+        Job job = Job.builder()
+                .id(id)
+                .title("Job " + id)
+                .location(pick(LOCATIONS, random))
+                .type(pick(TYPES, random))
+                .maxSalary(random.nextInt(10) == 0 ? null : 15_000 + random.nextInt(120_000))
+                .category(Category.builder().name(pick(CATEGORIES, random)).build())
+                .createdAt(Instant.ofEpochSecond(id))
+                .build();
+        return IndexedJob.of(job);
+    }
+
+    private static <T> T pick(T[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}
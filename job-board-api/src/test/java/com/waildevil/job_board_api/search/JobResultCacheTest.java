@@ -0,0 +1,102 @@
+package com.waildevil.job_board_api.search;
+
+import com.waildevil.job_board_api.entity.Category;
+import com.waildevil.job_board_api.entity.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class JobResultCacheTest {
+
+    private static final JobQuery BERLIN = JobQuery.of(null, "Berlin", null, null, null);
+    private static final JobQuery HEALTH = JobQuery.of(null, null, "Health", null, null);
+
+    private JobSearchIndex index;
+    private JobResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobSearchIndex();
+        index.rebuild(List.of(
+                job(1L, "Java Developer", "Berlin", "IT"),
+                job(2L, "Frontend Developer", "Munich", "IT"),
+                job(3L, "Nurse", "Berlin", "Health")
+        ));
+        cache = new JobResultCache();
+        ReflectionTestUtils.setField(cache, "maxEntries", 10);
+        ReflectionTestUtils.setField(cache, "maxWeight", 100L);
+        ReflectionTestUtils.setField(cache, "maxEntryWeight", 2);
+    }
+
+    @Test
+    void testGet_shouldCountHitsAndPageFromTheCachedPrefix() {
+        RankedIds first = get(BERLIN);
+        RankedIds again = get(BERLIN);
+
+        assertEquals(first, again);
+        assertEquals(List.of(3L, 1L), again.page(JobSearchSort.CREATED_AT, null, 2).ids());
+        assertEquals(1, cache.stats().hits());
+        assertEquals(1, cache.stats().misses());
+
+        RankedIds all = get(JobQuery.of(null, null, null, null, null));
+        assertEquals(List.of(3L), all.page(JobSearchSort.CREATED_AT, null, 1).ids());
+        assertNull(all.page(JobSearchSort.CREATED_AT, null, 2), "page past the kept prefix must go to the index");
+    }
+
+    @Test
+    void testWrites_shouldOnlyInvalidateQueriesTheJobCouldMatch() {
+        get(BERLIN);
+        get(HEALTH);
+
+        write(job(4L, "Backend Developer", "Berlin", "IT"));
+        assertEquals(1, cache.stats().entries());
+        assertEquals(List.of(4L), get(BERLIN).page(JobSearchSort.CREATED_AT, null, 1).ids());
+
+        // Job 3 moves out of Berlin: the Berlin entry contained it, the Health entry still matches it
+        write(job(3L, "Nurse", "Hamburg", "Health"));
+        assertEquals(0, cache.stats().entries());
+
+        get(BERLIN);
+        get(HEALTH);
+        index.remove(2L);
+        cache.remove(2L);
+        assertEquals(2, cache.stats().entries());
+    }
+
+    @Test
+    void testGet_shouldEvictLeastRecentlyUsedOverWeight() {
+        ReflectionTestUtils.setField(cache, "maxWeight", 3L);
+        get(BERLIN);
+        get(HEALTH);
+        get(JobQuery.of("developer", null, null, null, null));
+
+        assertEquals(2, cache.stats().entries());
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    private RankedIds get(JobQuery query) {
+        return cache.get(new JobResultCache.Key(query, JobSearchSort.CREATED_AT), index::version,
+                () -> index.rank(query, JobSearchSort.CREATED_AT, 2));
+    }
+
+    private void write(Job job) {
+        index.index(job);
+        cache.index(job);
+    }
+
+    private static Job job(Long id, String title, String location, String category) {
+        return Job.builder()
+                .id(id)
+                .title(title)
+                .location(location)
+                .category(Category.builder().name(category).build())
+                .createdAt(Instant.ofEpochSecond(id))
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.waildevil.job_board_api.search;
+
+import com.waildevil.job_board_api.entity.Category;
+import com.waildevil.job_board_api.entity.Company;
+import com.waildevil.job_board_api.entity.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobSearchIndexTest {
+
+    private JobSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobSearchIndex();
+        index.rebuild(List.of(
+                job(1L, "Java Developer", "Spring Boot backend", "Berlin", "IT", "Full-time", 70000, "Acme"),
+                job(2L, "Frontend Developer", "React and TypeScript", "Munich", "IT", "Part-time", 50000, "Globex"),
+                job(3L, "Nurse", "Night shifts", "Berlin", "Health", "Full-time", 40000, "Charité")
+        ));
+    }
+
+    @Test
+    void testSearch_withKeyword_shouldIntersectAllTerms() {
+        assertEquals(List.of(1L), search(JobQuery.of("java developer", null, null, null, null)));
+        assertEquals(List.of(2L, 1L), search(JobQuery.of("developer", null, null, null, null)));
+    }
+
+    @Test
+    void testSearch_shouldMatchPrefixesCompanyAndCategory() {
+        assertEquals(List.of(2L, 1L), search(JobQuery.of("dev", null, null, null, null)));
+        assertEquals(List.of(3L), search(JobQuery.of("charite", null, null, null, null)));
+        assertEquals(List.of(3L), search(JobQuery.of("health", null, null, null, null)));
+    }
+
+    @Test
+    void testSearch_withFiltersOnly_shouldApplyEveryFilter() {
+        assertEquals(List.of(3L, 1L), search(JobQuery.of(null, "berlin", null, null, null)));
+        assertEquals(List.of(1L), search(JobQuery.of(null, "Berlin", "IT", "Full-time", 60000)));
+    }
+
+    @Test
+    void testIndexAndRemove_shouldUpdatePostingsIncrementally() {
+        index.index(job(1L, "Kotlin Developer", "Android", "Berlin", "IT", "Full-time", 70000, "Acme"));
+        assertTrue(search(JobQuery.of("java", null, null, null, null)).isEmpty());
+        assertEquals(List.of(1L), search(JobQuery.of("kotlin", null, null, null, null)));
+
+        index.remove(2L);
+        assertEquals(List.of(1L), search(JobQuery.of("developer", null, null, null, null)));
+    }
+
+    @Test
+    void testSearch_withCursor_shouldReturnBoundedPages() {
+        SearchPage first = index.search(JobQuery.of(null, null, null, null, null), JobSearchSort.CREATED_AT, null, 2);
+        assertEquals(List.of(3L, 2L), first.ids());
+        assertTrue(first.hasMore());
+
+        SearchPage second = index.search(JobQuery.of(null, null, null, null, null), JobSearchSort.CREATED_AT, first.next(), 2);
+        assertEquals(List.of(1L), second.ids());
+        assertFalse(second.hasMore());
+
+        SearchPage bySalary = index.search(JobQuery.of(null, null, null, null, null), JobSearchSort.SALARY, null, 2);
+        assertEquals(List.of(1L, 2L), bySalary.ids());
+    }
+
+    @Test
+    void testSearch_byRelevance_shouldRankTitleMatchesFirstAndPage() {
+        index.index(job(4L, "React Engineer", "Component libraries", "Hamburg", "IT", "Full-time", 60000, "Initech"));
+        index.index(job(5L, "Office Manager", "Some React knowledge is a plus", "Berlin", "Admin", "Full-time", 45000, "Hooli"));
+        JobQuery query = JobQuery.of("react", null, null, null, null);
+
+        SearchPage first = index.search(query, JobSearchSort.RELEVANCE, null, 1);
+        assertEquals(List.of(4L), first.ids());
+
+        SearchPage rest = index.search(query, JobSearchSort.RELEVANCE, first.next(), 5);
+        assertEquals(List.of(2L, 5L), rest.ids());
+        assertFalse(rest.hasMore());
+    }
+
+    @Test
+    void testFacets_shouldCountEachDimensionWithoutItsOwnFilter() {
+        JobFacets facets = index.facets(JobQuery.of(null, null, "IT", "Full-time", null));
+
+        assertEquals(1, facets.total());
+        assertEquals(Map.of("IT", 1L, "Health", 1L), facets.categories());
+        assertEquals(Map.of("Full-time", 1L, "Part-time", 1L), facets.types());
+        assertEquals(Map.of("Berlin", 1L), facets.locations());
+        assertEquals(1L, facets.salaryBands().get(SalaryBand.FROM_70K.label()));
+    }
+
+    private List<Long> search(JobQuery query) {
+        return index.search(query, JobSearchSort.CREATED_AT, null, 20).ids();
+    }
+
+    private static Job job(Long id, String title, String description, String location, String category,
+                           String type, Integer maxSalary, String company) {
+        return Job.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .location(location)
+                .type(type)
+                .maxSalary(maxSalary)
+                .category(Category.builder().name(category).build())
+                .company(Company.builder().name(company).build())
+                .createdAt(Instant.ofEpochSecond(id))
+                .build();
+    }
+}
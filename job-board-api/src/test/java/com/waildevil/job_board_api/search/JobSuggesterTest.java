@@ -0,0 +1,65 @@
+package com.waildevil.job_board_api.search;
+
+import com.waildevil.job_board_api.entity.Company;
+import com.waildevil.job_board_api.entity.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobSuggesterTest {
+
+    private JobSuggester suggester;
+
+    @BeforeEach
+    void setUp() {
+        suggester = new JobSuggester();
+        suggester.rebuild(List.of(
+                job(1L, "Java Developer", "Berlin", "Bertelsmann"),
+                job(2L, "Java Developer", "Munich", "Acme"),
+                job(3L, "JavaScript Engineer", "Berlin", "Acme"),
+                job(4L, "Backend Developer", "Bern", "Acme")
+        ));
+    }
+
+    @Test
+    void testSuggest_shouldRankByFrequency() {
+        assertEquals(List.of("Java Developer", "JavaScript Engineer"), texts(suggester.suggest("jav", 10)));
+        assertEquals(List.of("Berlin", "Bern", "Bertelsmann"), texts(suggester.suggest("Ber", 10)));
+        assertEquals(2, suggester.suggest("berl", 1).get(0).count());
+    }
+
+    @Test
+    void testSuggest_shouldMatchLaterWordsAndRespectLimit() {
+        assertEquals(List.of("Java Developer", "Backend Developer"), texts(suggester.suggest("dev", 10)));
+        assertEquals(1, suggester.suggest("dev", 1).size());
+    }
+
+    @Test
+    void testIndexAndRemove_shouldUpdateCountsIncrementally() {
+        suggester.remove(1L);
+        suggester.remove(2L);
+        assertEquals(List.of("JavaScript Engineer"), texts(suggester.suggest("java", 10)));
+
+        suggester.index(job(3L, "Kotlin Engineer", "Hamburg", "Acme"));
+        assertTrue(suggester.suggest("java", 10).isEmpty());
+        assertEquals(List.of("Kotlin Engineer"), texts(suggester.suggest("engineer", 10)));
+        assertEquals(List.of("Bern"), texts(suggester.suggest("ber", 10)));
+    }
+
+    private static List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::text).toList();
+    }
+
+    private static Job job(Long id, String title, String location, String company) {
+        return Job.builder()
+                .id(id)
+                .title(title)
+                .location(location)
+                .company(Company.builder().name(company).build())
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.waildevil.job_board_api.search;
+
+import com.waildevil.job_board_api.entity.Category;
+import com.waildevil.job_board_api.entity.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SavedSearchPercolatorTest {
+
+    private SavedSearchPercolator percolator;
+
+    @BeforeEach
+    void setUp() {
+        percolator = new SavedSearchPercolator();
+        percolator.rebuild(Map.of(
+                1L, JobQuery.of("java developer", null, null, null, null),
+                2L, JobQuery.of("dev", "Berlin", null, null, null),
+                3L, JobQuery.of(null, null, "IT", "Full-time", 60000),
+                4L, JobQuery.of(null, null, null, "Part-time", null),
+                5L, JobQuery.of(null, "Munich", null, null, null)
+        ));
+    }
+
+    @Test
+    void testMatch_shouldVerifyCandidatesFromEveryBucket() {
+        Job javaInBerlin = job("Senior Java Developer", "Berlin", "IT", "Full-time", 70000);
+        assertEquals(List.of(1L, 2L, 3L), sorted(percolator.match(javaInBerlin)));
+
+        Job partTimeInMunich = job("Frontend Developer", "Munich", "IT", "Part-time", 40000);
+        assertEquals(List.of(4L, 5L), sorted(percolator.match(partTimeInMunich)));
+    }
+
+    @Test
+    void testAddAndRemove_shouldReplaceRegisteredQueries() {
+        percolator.add(5L, JobQuery.of("nurse", null, null, null, null));
+        percolator.remove(4L);
+
+        assertTrue(percolator.match(job("Frontend Developer", "Munich", "IT", "Part-time", 40000)).isEmpty());
+        assertEquals(List.of(5L), percolator.match(job("Nurse", "Hamburg", "Health", "Full-time", 40000)));
+        assertEquals(4, percolator.size());
+    }
+
+    private static List<Long> sorted(List<Long> ids) {
+        return ids.stream().sorted().toList();
+    }
+
+    private static Job job(String title, String location, String category, String type, Integer maxSalary) {
+        return Job.builder()
+                .id(100L)
+                .title(title)
+                .location(location)
+                .type(type)
+                .maxSalary(maxSalary)
+                .category(Category.builder().name(category).build())
+                .build();
+    }
+}
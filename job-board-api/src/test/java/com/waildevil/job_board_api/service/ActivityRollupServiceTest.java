@@ -0,0 +1,142 @@
+package com.waildevil.job_board_api.service;
+
+import com.waildevil.job_board_api.dto.ActivityBucketDto;
+import com.waildevil.job_board_api.dto.ActivityTimeseriesDto;
+import com.waildevil.job_board_api.entity.ActivityMetric;
+import com.waildevil.job_board_api.entity.ActivityRollup;
+import com.waildevil.job_board_api.entity.Application;
+import com.waildevil.job_board_api.entity.ApplicationStatus;
+import com.waildevil.job_board_api.entity.Job;
+import com.waildevil.job_board_api.entity.RollupGranularity;
+import com.waildevil.job_board_api.entity.User;
+import com.waildevil.job_board_api.exception.ApiException;
+import com.waildevil.job_board_api.repository.ActivityRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ActivityRollupServiceTest extends ServiceTestSupport {
+
+    private static final Instant TEN = Instant.parse("2025-03-05T10:00:00Z");
+
+    @Autowired
+    private ActivityRollupService activityRollupService;
+
+    @Autowired
+    private ActivityRollupRepository activityRollupRepository;
+
+    @BeforeEach
+    void setUp() {
+        User recruiter = fixtures.recruiter(fixtures.company("Acme"));
+        setCreatedAt("User", recruiter.getId(), "10:15");
+        User candidate = candidate("carl@example.com", "11:30");
+        Job job = fixtures.job("Job", 1, recruiter, fixtures.category());
+        setCreatedAt("Job", job.getId(), "10:20");
+        fixtures.persist(Application.builder().job(job).user(recruiter).phoneNumber("123")
+                .appliedAt(local("10:40")).status(ApplicationStatus.PENDING).build());
+        fixtures.persist(Application.builder().job(job).user(candidate).phoneNumber("123")
+                .appliedAt(local("11:05")).statusChangedAt(local("11:50")).status(ApplicationStatus.ACCEPTED).build());
+        em.flush();
+    }
+
+    @Test
+    void testRollUp_shouldAddSettledHoursToEveryGranularity() {
+        assertEquals(2, activityRollupService.rollUp(at("12:30")));
+
+        List<ActivityBucketDto> hours = activityRollupService.timeseries("hour", TEN, at("13:00")).getBuckets();
+        assertEquals(3, hours.size());
+        assertBucket(hours.get(0), at("10:00"), 1, 1, 1, 0);
+        assertBucket(hours.get(1), at("11:00"), 1, 0, 1, 1);
+        assertBucket(hours.get(2), at("12:00"), 0, 0, 0, 0);
+
+        ActivityTimeseriesDto days = activityRollupService.timeseries("day", TEN, at("12:00"));
+        assertEquals(1, days.getBuckets().size());
+        assertBucket(days.getBuckets().get(0), Instant.parse("2025-03-05T00:00:00Z"), 2, 1, 2, 1);
+        assertEquals(at("12:00"), days.getRolledUpTo());
+
+        List<ActivityBucketDto> weeks = activityRollupService.timeseries("WEEK", TEN, at("12:00")).getBuckets();
+        assertBucket(weeks.get(0), Instant.parse("2025-03-03T00:00:00Z"), 2, 1, 2, 1);
+    }
+
+    @Test
+    void testRollUp_shouldCountEveryRowOfAnHour() {
+        candidate("cleo@example.com", "10:00");
+        candidate("cora@example.com", "10:59");
+        em.flush();
+
+        activityRollupService.rollUp(at("12:30"));
+
+        List<ActivityBucketDto> hours = activityRollupService.timeseries("hour", TEN, at("12:00")).getBuckets();
+        assertEquals(3, hours.get(0).getSignups());
+        assertEquals(1, hours.get(1).getSignups());
+        assertEquals(4, activityRollupService.timeseries("day", TEN, at("12:00")).getBuckets().get(0).getSignups());
+    }
+
+    @Test
+    void testRollUp_whenRunAgain_shouldOnlyAddTheHoursAfterTheWatermark() {
+        activityRollupService.rollUp(at("12:30"));
+        // Stamped inside an hour that is already rolled up, so it is not picked up again
+        candidate("late@example.com", "11:59");
+        candidate("next@example.com", "12:10");
+        em.flush();
+
+        assertEquals(0, activityRollupService.rollUp(at("12:59")));
+        assertEquals(1, activityRollupService.rollUp(at("13:30")));
+
+        ActivityBucketDto day = activityRollupService.timeseries("day", TEN, at("14:00")).getBuckets().get(0);
+        assertEquals(3, day.getSignups());
+        List<ActivityRollup> dayRows = activityRollupRepository.findInRange(RollupGranularity.DAY, TEN.minusSeconds(86400),
+                at("14:00")).stream().filter(row -> row.getMetric() == ActivityMetric.SIGNUPS).toList();
+        assertEquals(1, dayRows.size());
+    }
+
+    @Test
+    void testTimeseries_shouldRejectUnknownGranularitiesAndTooManyBuckets() {
+        assertThrows(ApiException.class, () -> activityRollupService.timeseries("month", null, null));
+        assertThrows(ApiException.class, () -> activityRollupService.timeseries("hour", TEN, TEN));
+        Instant limit = TEN.plus(Duration.ofHours(ActivityRollupService.MAX_BUCKETS));
+        assertEquals(ActivityRollupService.MAX_BUCKETS,
+                activityRollupService.timeseries("hour", TEN, limit).getBuckets().size());
+        // The partial bucket after the limit would be one too many
+        assertThrows(ApiException.class, () -> activityRollupService.timeseries("hour", TEN, limit.plusSeconds(1)));
+    }
+
+    private User candidate(String email, String createdAt) {
+        User user = fixtures.candidate(email);
+        setCreatedAt("User", user.getId(), createdAt);
+        return user;
+    }
+
+    // createdAt is a @CreationTimestamp, so it can only be moved after the insert
+    private void setCreatedAt(String entity, Long id, String time) {
+        em.flush();
+        em.getEntityManager().createQuery("UPDATE " + entity + " e SET e.createdAt = :time WHERE e.id = :id")
+                .setParameter("time", at(time)).setParameter("id", id).executeUpdate();
+    }
+
+    private static Instant at(String time) {
+        return Instant.parse("2025-03-05T" + time + ":00Z");
+    }
+
+    private static LocalDateTime local(String time) {
+        return LocalDateTime.ofInstant(at(time), ZoneId.systemDefault());
+    }
+
+    private static void assertBucket(ActivityBucketDto bucket, Instant start, long signups, long jobsPosted,
+                                     long applications, long acceptances) {
+        assertEquals(start, bucket.getStart());
+        assertEquals(signups, bucket.getSignups());
+        assertEquals(jobsPosted, bucket.getJobsPosted());
+        assertEquals(applications, bucket.getApplications());
+        assertEquals(acceptances, bucket.getAcceptances());
+    }
+}
@@ -0,0 +1,192 @@
+package com.waildevil.job_board_api.service;
+
+import com.waildevil.job_board_api.entity.Application;
+import com.waildevil.job_board_api.entity.ApplicationStatus;
+import com.waildevil.job_board_api.entity.Category;
+import com.waildevil.job_board_api.entity.Job;
+import com.waildevil.job_board_api.entity.JobApplicationStats;
+import com.waildevil.job_board_api.entity.Role;
+import com.waildevil.job_board_api.entity.User;
+import com.waildevil.job_board_api.exception.ApiException;
+import com.waildevil.job_board_api.repository.ApplicationRepository;
+import com.waildevil.job_board_api.repository.JobApplicationStatsRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Many recruiters accepting applications of one job at the same time must never take more positions than the job has.
+ * Runs without the test transaction, so every call commits like a real request.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApplicationConcurrencyTest extends ServiceTestSupport {
+
+    private static final int THREADS = 16;
+    private static final int APPLICATIONS = 200;
+    private static final int POSITIONS = 5;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private JobApplicationStatsService statsService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JobApplicationStatsRepository statsRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private StatusChangeNotifier statusChangeNotifier;
+
+    private Long jobId;
+    private List<Long> applicationIds;
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Category category = fixtures.category();
+            User recruiter = fixtures.recruiter(fixtures.company("Acme"));
+            fixtures.persist(User.builder().name("Ralf").email("ralf@acme.example").role(Role.ADMIN)
+                    .company(recruiter.getCompany()).build());
+            Job job = fixtures.job("Hot job", POSITIONS, recruiter, category);
+            jobId = job.getId();
+
+            applicationIds = new ArrayList<>();
+            for (int i = 0; i < APPLICATIONS; i++) {
+                User candidate = fixtures.candidate("Candidate " + i, "c" + i + "@example.com");
+                applicationIds.add(fixtures.application(job, candidate, ApplicationStatus.PENDING).getId());
+            }
+            entityManager.flush();
+            statsService.get(jobId);
+        });
+    }
+
+    @AfterEach
+    void cleanUp() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    void testConcurrentAcceptances_shouldNeverExceedThePositions() throws Exception {
+        Map<String, AtomicInteger> outcomes = new ConcurrentHashMap<>();
+        run(applicationIds.size(), i -> {
+            // Two requesters race for every application, and every third attempt is a rejection instead
+            Long id = applicationIds.get(i / 2);
+            ApplicationStatus status = i % 3 == 0 ? ApplicationStatus.REJECTED : ApplicationStatus.ACCEPTED;
+            String requester = i % 2 == 0 ? "rita@acme.example" : "ralf@acme.example";
+            return applicationService.updateApplicationStatus(id, status, requester);
+        }, outcomes);
+
+        Map<ApplicationStatus, Long> byStatus = applicationRepository.findAll().stream()
+                .collect(Collectors.groupingBy(Application::getStatus, Collectors.counting()));
+        assertEquals(POSITIONS, byStatus.get(ApplicationStatus.ACCEPTED));
+        assertEquals(APPLICATIONS - POSITIONS, byStatus.get(ApplicationStatus.REJECTED));
+        assertNull(byStatus.get(ApplicationStatus.PENDING));
+
+        JobApplicationStats stats = statsRepository.findById(jobId).orElseThrow();
+        assertEquals(POSITIONS, stats.getAcceptedCount());
+        assertEquals(0, stats.getRemainingPositions());
+        assertEquals(0, stats.getPendingCount());
+        assertEquals(APPLICATIONS - POSITIONS, stats.getRejectedCount());
+        assertEquals(0, statsService.reconcile());
+        assertTrue(outcomes.get("ok").get() >= POSITIONS, outcomes.toString());
+        assertEquals(Map.of(), filter(outcomes, key -> key.startsWith("unexpected")));
+    }
+
+    @Test
+    void testRaceOnOneApplication_shouldTakeOnePosition() throws Exception {
+        Map<String, AtomicInteger> outcomes = new ConcurrentHashMap<>();
+        Long contested = applicationIds.get(0);
+        run(THREADS * 4, i -> applicationService.updateApplicationStatus(contested, ApplicationStatus.ACCEPTED,
+                "rita@acme.example"), outcomes);
+
+        assertEquals(1, outcomes.get("ok").get(), outcomes.toString());
+        JobApplicationStats stats = statsRepository.findById(jobId).orElseThrow();
+        assertEquals(1, stats.getAcceptedCount());
+        assertEquals(POSITIONS - 1, stats.getRemainingPositions());
+        assertEquals(APPLICATIONS - 1, stats.getPendingCount());
+    }
+
+    @Test
+    void testFirstWritersOfLegacyJob_shouldCreateOneStatsRow() throws Exception {
+        statsRepository.deleteById(jobId);
+        Map<String, AtomicInteger> outcomes = new ConcurrentHashMap<>();
+        run(THREADS * 2, i -> applicationService.updateApplicationStatus(applicationIds.get(i),
+                ApplicationStatus.REJECTED, "rita@acme.example"), outcomes);
+
+        assertEquals(THREADS * 2, outcomes.get("ok").get(), outcomes.toString());
+        JobApplicationStats stats = statsRepository.findById(jobId).orElseThrow();
+        assertEquals(THREADS * 2, stats.getRejectedCount());
+        assertEquals(APPLICATIONS - THREADS * 2, stats.getPendingCount());
+        assertEquals(0, statsService.reconcile());
+    }
+
+    private void run(int attempts, Function<Integer, Application> attempt, Map<String, AtomicInteger> outcomes)
+            throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            int n = i;
+            futures.add(pool.submit(() -> {
+                start.await();
+                String outcome;
+                try {
+                    attempt.apply(n);
+                    outcome = "ok";
+                } catch (ApiException e) {
+                    outcome = e.getStatus() == HttpStatus.BAD_REQUEST || e.getStatus() == HttpStatus.CONFLICT
+                            ? "refused " + e.getStatus().value() : "unexpected " + e.getMessage();
+                } catch (RuntimeException e) {
+                    outcome = "unexpected " + e;
+                }
+                outcomes.computeIfAbsent(outcome, key -> new AtomicInteger()).incrementAndGet();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+    }
+
+    private static Map<String, AtomicInteger> filter(Map<String, AtomicInteger> outcomes, Predicate<String> key) {
+        return outcomes.entrySet().stream().filter(e -> key.test(e.getKey()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+}
@@ -0,0 +1,131 @@
+package com.waildevil.job_board_api.service;
+
+import com.waildevil.job_board_api.entity.Application;
+import com.waildevil.job_board_api.entity.ApplicationStatus;
+import com.waildevil.job_board_api.entity.Category;
+import com.waildevil.job_board_api.entity.Job;
+import com.waildevil.job_board_api.entity.NotificationDelivery;
+import com.waildevil.job_board_api.entity.OutboxMail;
+import com.waildevil.job_board_api.entity.PendingNotification;
+import com.waildevil.job_board_api.entity.User;
+import com.waildevil.job_board_api.repository.ApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApplicationServiceTest extends ServiceTestSupport {
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    private Job job;
+    private Job otherJob;
+    private List<Application> pending;
+    private Application rejected;
+    private Application elsewhere;
+
+    @BeforeEach
+    void setUp() {
+        Category category = fixtures.category();
+        User recruiter = fixtures.recruiter(fixtures.company("Acme"));
+        job = fixtures.job("Backend Developer", 2, recruiter, category);
+        otherJob = fixtures.job("Frontend Developer", 1, recruiter, category);
+
+        pending = new ArrayList<>();
+        for (int i = 0; i < 450; i++) {
+            pending.add(fixtures.apply(job, "c" + i + "@example.com", ApplicationStatus.PENDING));
+        }
+        rejected = fixtures.apply(job, "earlier@example.com", ApplicationStatus.REJECTED);
+        elsewhere = fixtures.apply(otherJob, "other@example.com", ApplicationStatus.PENDING);
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void testUpdateStatus_shouldQueueMailsInTheSameTransaction() {
+        applicationService.updateApplicationStatus(pending.get(0).getId(), ApplicationStatus.ACCEPTED, "rita@acme.example");
+        applicationService.updateApplicationStatus(pending.get(1).getId(), ApplicationStatus.ACCEPTED, "rita@acme.example");
+
+        assertEquals(ApplicationStatus.ACCEPTED, statusOf(pending.get(1)));
+        for (Application application : pending.subList(2, pending.size())) {
+            assertEquals(ApplicationStatus.REJECTED, statusOf(application));
+        }
+        assertEquals(ApplicationStatus.REJECTED, statusOf(rejected));
+        assertEquals(ApplicationStatus.PENDING, statusOf(elsewhere));
+
+        List<OutboxMail> mails = outbox();
+        Set<String> accepted = recipients(mails, "Congratulations");
+        Set<String> rejectedRecipients = recipients(mails, "has been rejected");
+        assertEquals(Set.of("c0@example.com", "c1@example.com"), accepted);
+        // The application rejected earlier is not mailed again
+        assertEquals(448, rejectedRecipients.size());
+        assertFalse(rejectedRecipients.contains("earlier@example.com"));
+        assertEquals(450, mails.size());
+    }
+
+    @Test
+    void testUpdateStatus_whenRolledBack_shouldLeaveNoMailBehind() {
+        applicationService.updateApplicationStatus(pending.get(0).getId(), ApplicationStatus.ACCEPTED, "rita@acme.example");
+
+        assertEquals(ApplicationStatus.PENDING, statusOf(pending.get(1)));
+        assertEquals(Set.of("c0@example.com"), recipients(outbox(), "Backend Developer"));
+
+        TestTransaction.flagForRollback();
+        TestTransaction.end();
+        TestTransaction.start();
+        assertTrue(outbox().isEmpty());
+    }
+
+    @Test
+    void testUpdateStatus_whenCandidateWantsDigest_shouldRecordTheChangeInsteadOfMailing() {
+        User candidate = em.find(Application.class, pending.get(5).getId()).getUser();
+        candidate.setNotificationDelivery(NotificationDelivery.DIGEST);
+        em.flush();
+        em.clear();
+
+        applicationService.updateApplicationStatus(pending.get(0).getId(), ApplicationStatus.ACCEPTED, "rita@acme.example");
+        applicationService.updateApplicationStatus(pending.get(1).getId(), ApplicationStatus.ACCEPTED, "rita@acme.example");
+
+        List<OutboxMail> mails = outbox();
+        assertEquals(449, mails.size());
+        assertFalse(recipients(mails, "").contains("c5@example.com"));
+        List<PendingNotification> recorded = em.getEntityManager()
+                .createQuery("SELECT n FROM PendingNotification n", PendingNotification.class).getResultList();
+        assertEquals(1, recorded.size());
+        assertEquals(candidate.getId(), recorded.get(0).getUserId());
+        assertEquals("c5@example.com", recorded.get(0).getRecipient());
+        assertEquals("Backend Developer", recorded.get(0).getJobTitle());
+        assertEquals(ApplicationStatus.REJECTED, recorded.get(0).getStatus());
+    }
+
+    private List<OutboxMail> outbox() {
+        return em.getEntityManager().createQuery("SELECT m FROM OutboxMail m", OutboxMail.class).getResultList();
+    }
+
+    private static Set<String> recipients(List<OutboxMail> mails, String bodyPart) {
+        Set<String> recipients = new HashSet<>();
+        for (OutboxMail mail : mails) {
+            if (mail.getBody().contains(bodyPart)) {
+                recipients.add(mail.getRecipient());
+            }
+        }
+        return recipients;
+    }
+
+    private ApplicationStatus statusOf(Application application) {
+        return applicationRepository.findById(application.getId()).orElseThrow().getStatus();
+    }
+}
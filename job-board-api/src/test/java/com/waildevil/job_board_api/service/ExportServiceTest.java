@@ -0,0 +1,100 @@
+package com.waildevil.job_board_api.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waildevil.job_board_api.entity.ApplicationStatus;
+import com.waildevil.job_board_api.entity.Category;
+import com.waildevil.job_board_api.entity.Company;
+import com.waildevil.job_board_api.entity.Job;
+import com.waildevil.job_board_api.entity.User;
+import com.waildevil.job_board_api.export.ExportFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExportServiceTest extends ServiceTestSupport {
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User recruiter;
+
+    @BeforeEach
+    void setUp() {
+        Category category = fixtures.category();
+        Company company = fixtures.company("Acme, Inc.");
+        recruiter = fixtures.recruiter(company);
+        User other = fixtures.recruiter("Otto", "otto@example.com", company);
+        Job job = fixtures.job("Backend \"Java\" Developer", 1, recruiter, category);
+        Job otherJob = fixtures.job("Other", 1, other, category);
+
+        // more rows than one fetch batch, so the persistence context is cleared mid-stream
+        for (int i = 0; i < 1100; i++) {
+            User candidate = fixtures.candidate("Candidate " + i, "c" + i + "@example.com");
+            fixtures.application(i % 2 == 0 ? job : otherJob, candidate, ApplicationStatus.PENDING);
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void testNdjsonExport_shouldWriteOneApplicationPerLine() throws Exception {
+        List<String> lines = export(out -> exportService.exportApplications(null, ExportFormat.NDJSON, out));
+
+        assertEquals(1100, lines.size());
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals("Backend \"Java\" Developer", first.get("jobTitle").asText());
+        assertEquals("Candidate 0", first.get("candidateName").asText());
+        assertEquals("PENDING", first.get("status").asText());
+    }
+
+    @Test
+    void testCsvExport_whenRecruiter_shouldQuoteFieldsAndOnlyIncludeOwnJobs() {
+        List<String> lines = export(out -> exportService.exportApplications(recruiter.getEmail(), ExportFormat.CSV, out));
+
+        assertEquals(1 + 550, lines.size());
+        assertEquals("id,jobId,jobTitle,companyName,userId,candidateName,phoneNumber,status,appliedAt,resume,coverLetter",
+                lines.get(0));
+        String row = lines.get(1);
+        assertTrue(row.contains(",\"Backend \"\"Java\"\" Developer\",\"Acme, Inc.\","), row);
+        assertTrue(row.endsWith(",Candidate 0,123,PENDING,2025-01-01T09:00,,"), row);
+    }
+
+    @Test
+    void testCsvExport_shouldNeutralizeFormulasInFreeText() {
+        em.getEntityManager().createQuery("UPDATE Application a SET a.resume = '=1+2', a.coverLetter = '@SUM(A1)'")
+                .executeUpdate();
+
+        List<String> lines = export(out -> exportService.exportApplications(recruiter.getEmail(), ExportFormat.CSV, out));
+
+        String row = lines.get(1);
+        assertTrue(row.endsWith(",Candidate 0,123,PENDING,2025-01-01T09:00,'=1+2,'@SUM(A1)"), row);
+    }
+
+    @Test
+    void testUsersExport_shouldIncludeEveryUser() {
+        List<String> lines = export(out -> exportService.exportUsers(ExportFormat.CSV, out));
+
+        assertEquals(1 + 1102, lines.size());
+    }
+
+    private interface Export {
+        void to(ByteArrayOutputStream out);
+    }
+
+    private static List<String> export(Export export) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        export.to(out);
+        return out.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+}
@@ -0,0 +1,153 @@
+package com.waildevil.job_board_api.service;
+
+import com.waildevil.job_board_api.entity.Application;
+import com.waildevil.job_board_api.entity.ApplicationStatus;
+import com.waildevil.job_board_api.entity.Category;
+import com.waildevil.job_board_api.entity.Job;
+import com.waildevil.job_board_api.entity.JobApplicationStats;
+import com.waildevil.job_board_api.entity.User;
+import com.waildevil.job_board_api.repository.JobApplicationStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobApplicationStatsServiceTest extends ServiceTestSupport {
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private JobApplicationStatsService statsService;
+
+    @Autowired
+    private JobApplicationStatsRepository statsRepository;
+
+    @MockitoBean
+    private StatusChangeNotifier statusChangeNotifier;
+
+    private Category category;
+    private User recruiter;
+    private Job job;
+
+    @BeforeEach
+    void setUp() {
+        category = fixtures.category();
+        recruiter = fixtures.recruiter(fixtures.company("Acme"));
+        job = newJob("Backend Developer", 3);
+        statsService.onJobCreated(job);
+    }
+
+    @Test
+    void testCounters_shouldFollowApplicationWrites() {
+        Application first = apply("a@example.com");
+        Application second = apply("b@example.com");
+        apply("c@example.com");
+        assertCounts(3, 0, 0, 3);
+
+        applicationService.updateApplicationStatus(first.getId(), ApplicationStatus.ACCEPTED, "rita@acme.example");
+        applicationService.updateApplicationStatus(second.getId(), ApplicationStatus.REJECTED, "rita@acme.example");
+        assertCounts(1, 1, 1, 2);
+
+        applicationService.deleteApplication(second.getId());
+        assertCounts(1, 1, 0, 2);
+
+        Job edited = em.find(Job.class, job.getId());
+        edited.setAvailablePositions(1);
+        statsService.onPositionsChanged(edited);
+        assertCounts(1, 1, 0, 0);
+        assertEquals(0, statsService.reconcile());
+    }
+
+    @Test
+    void testGet_whenStatsRowMissing_shouldCountOnFirstUse() {
+        Job legacy = newJob("Legacy", 2);
+        fixtures.apply(legacy, "old@example.com", ApplicationStatus.ACCEPTED);
+        em.flush();
+
+        JobApplicationStats stats = statsService.get(legacy.getId());
+
+        assertEquals(1, stats.getAcceptedCount());
+        assertEquals(1, stats.getRemainingPositions());
+    }
+
+    @Test
+    void testStatusChange_whenStatsRowMissing_shouldCountTheChangeOnce() {
+        Job legacy = newJob("Legacy", 2);
+        Application rejected = fixtures.apply(legacy, "old@example.com", ApplicationStatus.PENDING);
+        fixtures.apply(legacy, "older@example.com", ApplicationStatus.PENDING);
+        em.flush();
+
+        applicationService.updateApplicationStatus(rejected.getId(), ApplicationStatus.REJECTED, "rita@acme.example");
+        em.flush();
+        em.clear();
+
+        JobApplicationStats stats = statsRepository.findById(legacy.getId()).orElseThrow();
+        assertEquals(1, stats.getPendingCount());
+        assertEquals(1, stats.getRejectedCount());
+        assertEquals(2, stats.getRemainingPositions());
+        assertEquals(0, statsService.reconcile());
+    }
+
+    @Test
+    void testCreateApplication_whenStatsRowMissing_shouldCountItOnce() {
+        Job legacy = newJob("Legacy", 2);
+        fixtures.apply(legacy, "old@example.com", ApplicationStatus.PENDING);
+        fixtures.candidate("new@example.com");
+        em.flush();
+
+        applicationService.createApplication(ServiceFixtures.applicationRequest(legacy), "new@example.com");
+        em.flush();
+        em.clear();
+
+        assertEquals(2, statsRepository.findById(legacy.getId()).orElseThrow().getPendingCount());
+        assertEquals(0, statsService.reconcile());
+    }
+
+    @Test
+    void testReconcile_shouldRepairDriftMissingAndOrphanedRows() {
+        apply("a@example.com");
+        apply("b@example.com");
+        Job missing = newJob("No stats row", 1);
+        fixtures.apply(missing, "m@example.com", ApplicationStatus.PENDING);
+        em.getEntityManager().createQuery("UPDATE JobApplicationStats s SET s.pendingCount = 7 WHERE s.jobId = :id")
+                .setParameter("id", job.getId()).executeUpdate();
+        statsRepository.insertEmpty(999_999L, 1);
+        em.flush();
+        em.clear();
+
+        assertEquals(2, statsService.reconcile());
+
+        assertCounts(2, 0, 0, 3);
+        assertEquals(1, statsRepository.findById(missing.getId()).orElseThrow().getPendingCount());
+        assertFalse(statsRepository.existsById(999_999L));
+        assertEquals(0, statsService.reconcile());
+    }
+
+    private Job newJob(String title, int positions) {
+        Job created = fixtures.job(title, positions, recruiter, category);
+        em.flush();
+        return created;
+    }
+
+    private Application apply(String email) {
+        fixtures.candidate(email);
+        return applicationService.createApplication(ServiceFixtures.applicationRequest(job), email);
+    }
+
+    private void assertCounts(long pending, long accepted, long rejected, int remaining) {
+        em.flush();
+        em.clear();
+        JobApplicationStats stats = statsRepository.findById(job.getId()).orElseThrow();
+        assertEquals(pending, stats.getPendingCount(), "pending");
+        assertEquals(accepted, stats.getAcceptedCount(), "accepted");
+        assertEquals(rejected, stats.getRejectedCount(), "rejected");
+        assertEquals(remaining, stats.getRemainingPositions(), "remaining");
+        assertTrue(stats.getJobId() > 0);
+    }
+}
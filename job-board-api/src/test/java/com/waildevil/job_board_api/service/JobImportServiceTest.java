@@ -0,0 +1,146 @@
+package com.waildevil.job_board_api.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waildevil.job_board_api.entity.Category;
+import com.waildevil.job_board_api.entity.Company;
+import com.waildevil.job_board_api.entity.Job;
+import com.waildevil.job_board_api.entity.User;
+import com.waildevil.job_board_api.importer.JobImportFormat;
+import com.waildevil.job_board_api.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class JobImportServiceTest extends ServiceTestSupport {
+
+    @Autowired
+    private JobImportService jobImportService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User recruiter;
+    private Category category;
+    private Company otherCompany;
+
+    @BeforeEach
+    void setUp() {
+        category = fixtures.category();
+        Company company = fixtures.company("Acme");
+        otherCompany = fixtures.company("Globex");
+        recruiter = fixtures.recruiter(company);
+        em.flush();
+    }
+
+    @Test
+    void testImportJson_shouldInsertInBatchesAndReportBadRows() throws Exception {
+        int rows = JobImportService.BATCH_SIZE * 2 + 1;
+        String json = IntStream.rangeClosed(1, rows)
+                .mapToObj(i -> switch (i) {
+                    case 3 -> "{\"title\":\"\",\"categoryId\":" + category.getId() + "}";
+                    case 4 -> "{\"title\":\"Bad category\",\"categoryId\":999}";
+                    case 5 -> "{\"title\":\"Bad salary\",\"categoryId\":" + category.getId() + ",\"minSalary\":\"lots\"}";
+                    default -> "{\"title\":\"Job " + i + "\",\"location\":\"Berlin\",\"categoryId\":" + category.getId()
+                            + ",\"minSalary\":40000,\"maxSalary\":50000}";
+                })
+                .collect(Collectors.joining(",", "[", "]"));
+
+        List<JsonNode> events = run(JobImportFormat.JSON, json);
+
+        List<Integer> errorRows = new ArrayList<>();
+        events.stream().filter(e -> e.get("type").asText().equals("error"))
+                .forEach(e -> errorRows.add(e.get("row").asInt()));
+        assertEquals(List.of(3, 4, 5), errorRows);
+        assertEquals(3, events.stream().filter(e -> e.get("type").asText().equals("progress")).count());
+
+        JsonNode done = events.get(events.size() - 1);
+        assertEquals("done", done.get("type").asText());
+        assertEquals(rows, done.get("processed").asInt());
+        assertEquals(rows - 3, done.get("imported").asInt());
+        assertEquals(3, done.get("failed").asInt());
+
+        List<Job> saved = jobRepository.findAll();
+        assertEquals(rows - 3, saved.size());
+        Job first = saved.stream().filter(j -> j.getTitle().equals("Job 1")).findFirst().orElseThrow();
+        assertEquals("Acme", first.getCompany().getName());
+        assertEquals("IT", first.getCategory().getName());
+        assertNotNull(first.getCreatedAt());
+        assertNotNull(first.getLatitude());
+        verify(jobIndexSynchronizer, times(rows - 3)).onJobSaved(any());
+        verify(jobAlertService, times(rows - 3)).onJobCreated(any());
+    }
+
+    @Test
+    void testImportCsv_shouldParseQuotedFields() throws Exception {
+        String csv = "Title,Description,categoryId,companyId\r\n"
+                + "\"Developer, Backend\",\"Says \"\"hi\"\"\non two lines\"," + category.getId() + "," + otherCompany.getId() + "\r\n"
+                + "Tester,,abc,\r\n";
+
+        List<JsonNode> events = run(JobImportFormat.CSV, csv);
+
+        assertEquals("error", events.get(0).get("type").asText());
+        assertEquals(2, events.get(0).get("row").asInt());
+        List<Job> saved = jobRepository.findAll();
+        assertEquals(1, saved.size());
+        assertEquals("Developer, Backend", saved.get(0).getTitle());
+        assertEquals("Says \"hi\"\non two lines", saved.get(0).getDescription());
+        assertEquals("Globex", saved.get(0).getCompany().getName());
+    }
+
+    @Test
+    void testImport_whenBatchFailsWithAnyException_shouldReportItsRowsAndGoOn() throws Exception {
+        doThrow(new IllegalStateException("alerts are down")).when(jobAlertService).onJobCreated(any());
+        String json = "[{\"title\":\"Job 1\",\"categoryId\":" + category.getId() + "},"
+                + "{\"title\":\"Job 2\",\"categoryId\":" + category.getId() + "}]";
+
+        List<JsonNode> events = run(JobImportFormat.JSON, json);
+
+        assertEquals(List.of("error", "error", "progress", "done"),
+                events.stream().map(e -> e.get("type").asText()).toList());
+        assertEquals(2, events.get(1).get("row").asInt());
+        JsonNode done = events.get(3);
+        assertEquals(2, done.get("processed").asInt());
+        assertEquals(0, done.get("imported").asInt());
+        assertEquals(2, done.get("failed").asInt());
+    }
+
+    @Test
+    void testImport_whenFileUnreadable_shouldStop() throws Exception {
+        List<JsonNode> events = run(JobImportFormat.JSON, "{\"title\":\"not an array\"}");
+
+        assertEquals("error", events.get(0).get("type").asText());
+        assertEquals("done", events.get(1).get("type").asText());
+        assertEquals(0, events.get(1).get("imported").asInt());
+    }
+
+    private List<JsonNode> run(JobImportFormat format, String body) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jobImportService.importJobs(format, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+                recruiter, out);
+        em.clear();
+        List<JsonNode> events = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).lines().toList()) {
+            events.add(objectMapper.readTree(line));
+        }
+        return events;
+    }
+}
@@ -0,0 +1,208 @@
+package com.waildevil.job_board_api.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.waildevil.job_board_api.entity.OutboxMail;
+import com.waildevil.job_board_api.entity.OutboxMailStatus;
+import com.waildevil.job_board_api.mail.RenderedMail;
+import com.waildevil.job_board_api.repository.OutboxMailBatchInsertRepository;
+import com.waildevil.job_board_api.repository.OutboxMailRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs without the test transaction, so claims and deletes commit like they do on the scheduler thread.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({MailOutboxDispatcher.class, MailOutbox.class, OutboxMailBatchInsertRepository.class,
+        MailOutboxDispatcherTest.Smtp.class})
+@TestPropertySource(properties = {"mail.outbox.batch-size=2", "mail.outbox.max-attempts=3",
+        "mail.outbox.backoff-seconds=30"})
+class MailOutboxDispatcherTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-05T10:00:00Z");
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @TestConfiguration
+    static class Smtp {
+        @Bean
+        JavaMailSender javaMailSender() {
+            JavaMailSenderImpl sender = new JavaMailSenderImpl();
+            sender.setHost("localhost");
+            sender.setPort(ServerSetupTest.SMTP.getPort());
+            return sender;
+        }
+    }
+
+    @Autowired
+    private MailOutboxDispatcher dispatcher;
+
+    @Autowired
+    private MailOutbox mailOutbox;
+
+    @Autowired
+    private OutboxMailRepository outboxMailRepository;
+
+    @AfterEach
+    void cleanUp() {
+        outboxMailRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testDrain_shouldSendInBatchesAndEmptyTheOutbox() throws Exception {
+        long sentBefore = dispatcher.stats().getSent();
+        mailOutbox.enqueue(List.of("a@example.com", "b@example.com", "c@example.com", "d@example.com", "e@example.com"),
+                new RenderedMail("Update on your job application", "Hello", null));
+
+        assertEquals(5, dispatcher.drain(NOW));
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(5, received.length);
+        assertEquals("Update on your job application", received[0].getSubject());
+        Set<String> recipients = Arrays.stream(received)
+                .map(MailOutboxDispatcherTest::recipientOf)
+                .collect(Collectors.toSet());
+        assertEquals(Set.of("a@example.com", "b@example.com", "c@example.com", "d@example.com", "e@example.com"),
+                recipients);
+        assertEquals(0, outboxMailRepository.count());
+        assertEquals(sentBefore + 5, dispatcher.stats().getSent());
+    }
+
+    @Test
+    void testDrain_whenServerDown_shouldRetryWithBackoff() {
+        mailOutbox.enqueue("a@example.com", new RenderedMail("Reset your password", "Click this link", null));
+        greenMail.stop();
+
+        assertEquals(0, dispatcher.drain(NOW));
+        OutboxMail mail = outboxMailRepository.findAll().get(0);
+        assertEquals(OutboxMailStatus.PENDING, mail.getStatus());
+        assertEquals(1, mail.getAttempts());
+        assertEquals(NOW.plusSeconds(30), mail.getNextAttemptAt());
+        assertNotNull(mail.getLastError());
+        assertEquals(1, dispatcher.stats().getPending());
+
+        greenMail.start();
+        // Not due yet, so nothing is attempted
+        assertEquals(0, dispatcher.drain(NOW.plusSeconds(29)));
+        assertEquals(0, greenMail.getReceivedMessages().length);
+
+        assertEquals(1, dispatcher.drain(NOW.plusSeconds(30)));
+        assertEquals(1, greenMail.getReceivedMessages().length);
+        assertEquals(0, outboxMailRepository.count());
+    }
+
+    @Test
+    void testDrain_whenAttemptsExhausted_shouldGiveUp() {
+        long givenUpBefore = dispatcher.stats().getGivenUp();
+        mailOutbox.enqueue("a@example.com", new RenderedMail("Reset your password", "Click this link", null));
+        greenMail.stop();
+
+        dispatcher.drain(NOW);
+        dispatcher.drain(NOW.plusSeconds(30));
+        dispatcher.drain(NOW.plusSeconds(30 + 60));
+        dispatcher.drain(NOW.plus(Duration.ofDays(1)));
+
+        OutboxMail mail = outboxMailRepository.findAll().get(0);
+        assertEquals(OutboxMailStatus.FAILED, mail.getStatus());
+        assertEquals(3, mail.getAttempts());
+        assertEquals(1, dispatcher.stats().getFailed());
+        assertEquals(0, dispatcher.stats().getPending());
+        assertEquals(givenUpBefore + 1, dispatcher.stats().getGivenUp());
+        greenMail.start();
+    }
+
+    @Test
+    void testDrain_whenMailHasHtml_shouldSendATextAlternative() throws Exception {
+        mailOutbox.enqueue("a@example.com", new RenderedMail("Reset your password", "Click this link",
+                "<p><a href=\"https://example.com\">Reset</a></p>"));
+
+        assertEquals(1, dispatcher.drain(NOW));
+
+        MimeMessage received = greenMail.getReceivedMessages()[0];
+        String raw = GreenMailUtil.getWholeMessage(received);
+        assertTrue(raw.contains("multipart/alternative"), raw);
+        assertTrue(raw.contains("Click this link"), raw);
+        assertTrue(raw.contains("<a href=\"https://example.com\">Reset</a>"), raw);
+    }
+
+    @Test
+    void testDrain_whenRunConcurrently_shouldClaimDisjointRows() throws Exception {
+        List<String> recipients = IntStream.range(0, 40).mapToObj(i -> "c" + i + "@example.com").toList();
+        mailOutbox.enqueue(recipients, new RenderedMail("Update on your job application", "Hello", null));
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> drains = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            drains.add(pool.submit(() -> {
+                start.await();
+                return dispatcher.drain(NOW);
+            }));
+        }
+        start.countDown();
+        int sent = 0;
+        for (Future<Integer> drain : drains) {
+            sent += drain.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        // Every mail went out exactly once, whichever drain claimed it
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(recipients.size(), sent);
+        assertEquals(recipients.size(), received.length);
+        assertEquals(Set.copyOf(recipients), Arrays.stream(received)
+                .map(MailOutboxDispatcherTest::recipientOf)
+                .collect(Collectors.toSet()));
+        assertEquals(0, outboxMailRepository.count());
+    }
+
+    @Test
+    void testBackoff_shouldDoubleUpToTheCap() {
+        assertEquals(Duration.ofSeconds(30), dispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(120), dispatcher.backoff(3));
+        assertTrue(dispatcher.backoff(40).compareTo(Duration.ofHours(1)) <= 0);
+    }
+
+    private static String recipientOf(MimeMessage message) {
+        try {
+            return message.getAllRecipients()[0].toString();
+        } catch (MessagingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
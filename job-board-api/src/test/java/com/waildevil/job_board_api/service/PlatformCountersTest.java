@@ -0,0 +1,129 @@
+package com.waildevil.job_board_api.service;
+
+import com.waildevil.job_board_api.entity.ApplicationStatus;
+import com.waildevil.job_board_api.entity.Job;
+import com.waildevil.job_board_api.entity.PlatformCounter;
+import com.waildevil.job_board_api.entity.Role;
+import com.waildevil.job_board_api.entity.User;
+import com.waildevil.job_board_api.repository.ApplicationRepository;
+import com.waildevil.job_board_api.repository.JobRepository;
+import com.waildevil.job_board_api.repository.PlatformCounterRepository;
+import com.waildevil.job_board_api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class PlatformCountersTest extends ServiceTestSupport {
+
+    @Autowired
+    private PlatformCounters counters;
+
+    @Autowired
+    private PlatformCounterRepository platformCounterRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @BeforeEach
+    void setUp() {
+        User recruiter = fixtures.recruiter(fixtures.company("Acme"));
+        Job job = fixtures.job("Job", 1, recruiter, fixtures.category());
+        for (int i = 0; i < 3; i++) {
+            fixtures.apply(job, "c" + i + "@example.com", i == 0 ? ApplicationStatus.ACCEPTED : ApplicationStatus.PENDING);
+        }
+        em.flush();
+    }
+
+    @Test
+    void testRecompute_shouldCountTheTablesAndCheckpoint() {
+        PlatformCounters.Snapshot snapshot = counters.recompute();
+
+        assertEquals(4, snapshot.users());
+        assertEquals(3, snapshot.usersByRole().get(Role.CANDIDATE));
+        assertEquals(0, snapshot.usersByRole().get(Role.ADMIN));
+        assertEquals(1, snapshot.jobs());
+        assertEquals(3, snapshot.applications());
+        assertEquals(2, snapshot.applicationsByStatus().get(ApplicationStatus.PENDING));
+        assertNotNull(snapshot.checkpointedAt());
+        assertEquals(3L, checkpoints().get("users.CANDIDATE"));
+        assertEquals(1L, checkpoints().get("jobs"));
+    }
+
+    @Test
+    void testWrites_shouldCountOnlyOnceTheyCommit() {
+        counters.recompute();
+
+        counters.onUserCreated(Role.RECRUITER);
+        counters.onStatusChanged(ApplicationStatus.PENDING, ApplicationStatus.REJECTED, 2);
+        counters.onJobsCreated(5);
+        assertEquals(4, counters.snapshot().users());
+
+        TestTransaction.flagForRollback();
+        TestTransaction.end();
+        assertEquals(4, counters.snapshot().users());
+
+        TestTransaction.start();
+        counters.onUserCreated(Role.RECRUITER);
+        counters.onStatusChanged(ApplicationStatus.PENDING, ApplicationStatus.REJECTED, 2);
+        counters.onApplicationDeleted(ApplicationStatus.ACCEPTED);
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        PlatformCounters.Snapshot snapshot = counters.snapshot();
+        assertEquals(5, snapshot.users());
+        assertEquals(2, snapshot.usersByRole().get(Role.RECRUITER));
+        assertEquals(1, snapshot.jobs());
+        assertEquals(0, snapshot.applicationsByStatus().get(ApplicationStatus.PENDING));
+        assertEquals(2, snapshot.applicationsByStatus().get(ApplicationStatus.REJECTED));
+        assertEquals(0, snapshot.applicationsByStatus().get(ApplicationStatus.ACCEPTED));
+
+        // Nothing but counters was committed; drop the checkpoint rows so the next test starts empty
+        TestTransaction.start();
+        platformCounterRepository.deleteAll();
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+    }
+
+    @Test
+    void testLoad_shouldAddTheCheckpointToWritesCountedBeforeIt() {
+        TestTransaction.flagForRollback();
+        TestTransaction.end();
+
+        // Counted before the checkpoint has been read, outside any transaction
+        PlatformCounters fresh = new PlatformCounters(platformCounterRepository, userRepository, jobRepository,
+                applicationRepository);
+        fresh.onJobsCreated(2);
+
+        TestTransaction.start();
+        Instant checkpointedAt = Instant.parse("2025-01-01T00:00:00Z");
+        platformCounterRepository.deleteAll();
+        platformCounterRepository.save(PlatformCounter.builder().name("users.ADMIN").value(40)
+                .checkpointedAt(checkpointedAt).build());
+        platformCounterRepository.save(PlatformCounter.builder().name("jobs").value(100)
+                .checkpointedAt(checkpointedAt).build());
+        fresh.load();
+
+        assertEquals(40, fresh.snapshot().usersByRole().get(Role.ADMIN));
+        assertEquals(102, fresh.snapshot().jobs());
+        assertEquals(checkpointedAt, fresh.snapshot().checkpointedAt());
+    }
+
+    private Map<String, Long> checkpoints() {
+        return platformCounterRepository.findAll().stream()
+                .collect(Collectors.toMap(PlatformCounter::getName, PlatformCounter::getValue));
+    }
+}
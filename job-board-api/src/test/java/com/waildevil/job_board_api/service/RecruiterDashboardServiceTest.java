@@ -0,0 +1,148 @@
+package com.waildevil.job_board_api.service;
+
+import com.waildevil.job_board_api.dto.RecruiterDashboardDto;
+import com.waildevil.job_board_api.dto.RecruiterJobStatsDto;
+import com.waildevil.job_board_api.entity.Application;
+import com.waildevil.job_board_api.entity.ApplicationStatus;
+import com.waildevil.job_board_api.entity.Category;
+import com.waildevil.job_board_api.entity.Job;
+import com.waildevil.job_board_api.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class RecruiterDashboardServiceTest extends ServiceTestSupport {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RecruiterDashboardService dashboardService;
+
+    @Autowired
+    private JobApplicationStatsService statsService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @MockitoBean
+    private StatusChangeNotifier statusChangeNotifier;
+
+    private User recruiter;
+    private Job newest;
+    private Job empty;
+    private boolean committed;
+
+    @BeforeEach
+    void setUp() {
+        Category category = fixtures.category();
+        recruiter = fixtures.recruiter(fixtures.company("Acme"));
+        User other = fixtures.recruiter("Otto", "otto@example.com", null);
+
+        Job older = job("Older", 2, Instant.parse("2025-01-01T00:00:00Z"), category);
+        newest = job("Newest", 3, Instant.parse("2025-02-01T00:00:00Z"), category);
+        empty = job("No applicants", 1, Instant.parse("2025-01-15T00:00:00Z"), category);
+        Job foreign = fixtures.job("Not mine", 1, other, category);
+        em.flush();
+        for (Job job : List.of(older, newest, empty, foreign)) {
+            statsService.onJobCreated(job);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            apply(newest, "c" + i + "@example.com", LocalDateTime.of(2025, 2, 2 + i, 9, 0));
+        }
+        apply(older, "o@example.com", LocalDateTime.of(2025, 1, 3, 9, 0));
+        apply(foreign, "f@example.com", LocalDateTime.of(2025, 3, 1, 9, 0));
+        em.flush();
+        em.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        if (committed) {
+            fixtures.deleteAll();
+        }
+    }
+
+    @Test
+    void testGetDashboard_shouldReturnEveryJobWithItsCountsInOneQuery() {
+        Statistics statistics = statistics();
+        RecruiterDashboardDto dashboard = dashboardService.getDashboard(recruiter);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(3, dashboard.getTotalJobs());
+        assertEquals(6, dashboard.getTotalApplications());
+        assertEquals(List.of("Newest", "No applicants", "Older"),
+                dashboard.getJobs().stream().map(RecruiterJobStatsDto::getTitle).toList());
+
+        RecruiterJobStatsDto top = dashboard.getJobs().get(0);
+        assertEquals(5, top.getPendingCount());
+        assertEquals(3, top.getRemainingPositions());
+        assertEquals(LocalDateTime.of(2025, 2, 6, 9, 0), top.getLatestAppliedAt());
+        assertNull(dashboard.getJobs().get(1).getLatestAppliedAt());
+        assertEquals(0, dashboard.getJobs().get(1).getPendingCount());
+    }
+
+    @Test
+    void testGetDashboard_shouldServeFromCacheUntilAnApplicationChanges() {
+        RecruiterDashboardDto first = dashboardService.getDashboard(recruiter);
+        Statistics statistics = statistics();
+        assertSame(first, dashboardService.getDashboard(recruiter));
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        Long applicationId = em.getEntityManager()
+                .createQuery("SELECT a.id FROM Application a WHERE a.job.id = :job ORDER BY a.id", Long.class)
+                .setParameter("job", newest.getId()).setMaxResults(1).getSingleResult();
+        applicationService.updateApplicationStatus(applicationId, ApplicationStatus.ACCEPTED, "rita@acme.example");
+        assertSame(first, dashboardService.getDashboard(recruiter));
+
+        // The entry is dropped once the change commits
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        committed = true;
+        RecruiterDashboardDto second = dashboardService.getDashboard(recruiter);
+        assertNotSame(first, second);
+        assertEquals(1, second.getJobs().get(0).getAcceptedCount());
+        assertEquals(2, second.getJobs().get(0).getRemainingPositions());
+        assertEquals(5, second.getPendingApplications());
+    }
+
+    private Job job(String title, int positions, Instant createdAt, Category category) {
+        Job job = fixtures.job(title, positions, recruiter, category);
+        // createdAt is set by Hibernate on insert
+        em.flush();
+        em.getEntityManager().createQuery("UPDATE Job j SET j.createdAt = :createdAt WHERE j.id = :id")
+                .setParameter("createdAt", createdAt).setParameter("id", job.getId()).executeUpdate();
+        return job;
+    }
+
+    private void apply(Job job, String email, LocalDateTime appliedAt) {
+        fixtures.candidate(email);
+        Application application = applicationService.createApplication(ServiceFixtures.applicationRequest(job), email);
+        em.getEntityManager().createQuery("UPDATE Application a SET a.appliedAt = :appliedAt WHERE a.id = :id")
+                .setParameter("appliedAt", appliedAt).setParameter("id", application.getId()).executeUpdate();
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
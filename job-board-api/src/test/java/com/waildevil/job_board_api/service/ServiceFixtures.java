@@ -0,0 +1,105 @@
+package com.waildevil.job_board_api.service;
+
+import com.waildevil.job_board_api.dto.ApplicationResponseDto;
+import com.waildevil.job_board_api.entity.Application;
+import com.waildevil.job_board_api.entity.ApplicationStatus;
+import com.waildevil.job_board_api.entity.Category;
+import com.waildevil.job_board_api.entity.Company;
+import com.waildevil.job_board_api.entity.Job;
+import com.waildevil.job_board_api.entity.Role;
+import com.waildevil.job_board_api.entity.User;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Test data shared by the service tests: the "IT" category, Rita the Acme recruiter, candidates and their
+ * applications. Everything is persisted in the caller's transaction.
+ */
+@TestComponent
+@RequiredArgsConstructor
+class ServiceFixtures {
+
+    static final String RECRUITER_EMAIL = "rita@acme.example";
+    static final LocalDateTime APPLIED_AT = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    // Children before parents, so the bulk deletes never trip a foreign key
+    private static final List<String> ENTITIES = List.of("PendingNotification", "OutboxMail", "JobApplicationStats",
+            "Application", "Job", "User", "Company", "Category");
+
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    Category category() {
+        return persist(Category.builder().name("IT").build());
+    }
+
+    Company company(String name) {
+        return persist(Company.builder().name(name).build());
+    }
+
+    User recruiter(Company company) {
+        return recruiter("Rita", RECRUITER_EMAIL, company);
+    }
+
+    User recruiter(String name, String email, Company company) {
+        return persist(User.builder().name(name).email(email).role(Role.RECRUITER).company(company).build());
+    }
+
+    User candidate(String email) {
+        return candidate(email, email);
+    }
+
+    User candidate(String name, String email) {
+        return persist(User.builder().name(name).email(email).role(Role.CANDIDATE).build());
+    }
+
+    Job job(String title, int positions, User recruiter, Category category) {
+        return persist(Job.builder().title(title).availablePositions(positions).company(recruiter.getCompany())
+                .recruiter(recruiter).category(category).build());
+    }
+
+    /**
+     * Persists a new candidate with an application to {@code job}, bypassing the service.
+     */
+    Application apply(Job job, String email, ApplicationStatus status) {
+        return application(job, candidate(email), status);
+    }
+
+    Application application(Job job, User candidate, ApplicationStatus status) {
+        return persist(Application.builder().job(job).user(candidate).phoneNumber("123").appliedAt(APPLIED_AT)
+                .status(status).build());
+    }
+
+    /**
+     * The request body a candidate sends to apply for {@code job} through the service.
+     */
+    static ApplicationResponseDto applicationRequest(Job job) {
+        ApplicationResponseDto dto = new ApplicationResponseDto();
+        dto.setJobId(job.getId());
+        dto.setPhoneNumber("123");
+        return dto;
+    }
+
+    <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    /**
+     * Deletes and commits everything the fixtures create, for tests that commit. Must be called outside a
+     * transaction, or the deletes roll back with it.
+     */
+    void deleteAll() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (String entity : ENTITIES) {
+                entityManager.createQuery("DELETE FROM " + entity).executeUpdate();
+            }
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package com.waildevil.job_board_api.service;
+
+import com.waildevil.job_board_api.mail.MailTemplates;
+import com.waildevil.job_board_api.mapper.ApplicationMapper;
+import com.waildevil.job_board_api.mapper.JobMapper;
+import com.waildevil.job_board_api.mapper.UserMapper;
+import com.waildevil.job_board_api.repository.JobApplicationStatsInsertRepository;
+import com.waildevil.job_board_api.repository.JobBatchInsertRepository;
+import com.waildevil.job_board_api.repository.OutboxMailBatchInsertRepository;
+import com.waildevil.job_board_api.repository.PendingNotificationBatchInsertRepository;
+import com.waildevil.job_board_api.search.CityGazetteer;
+import com.waildevil.job_board_api.search.JobIndexSynchronizer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * Base of the service tests that run against the database. Every service they exercise is imported here, so the
+ * tests share one application context and a new service is added in one place. The search index and job alerts are
+ * mocked, since they keep in-memory state that is built at startup.
+ */
+@DataJpaTest
+@Import({ServiceFixtures.class, ApplicationService.class, JobApplicationStatsService.class,
+        RecruiterDashboardService.class, RecruiterDashboardCache.class, PlatformCounters.class,
+        ActivityRollupService.class, ExportService.class, JobImportService.class, JobBatchInsertRepository.class,
+        JobApplicationStatsInsertRepository.class,
+        StatusChangeNotifier.class, EmailService.class, MailTemplates.class, MailOutbox.class,
+        OutboxMailBatchInsertRepository.class, PendingNotificationBatchInsertRepository.class,
+        ApplicationMapper.class, UserMapper.class, JobMapper.class, CityGazetteer.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+abstract class ServiceTestSupport {
+
+    @Autowired
+    protected TestEntityManager em;
+
+    @Autowired
+    protected ServiceFixtures fixtures;
+
+    @MockitoBean
+    protected JobIndexSynchronizer jobIndexSynchronizer;
+
+    @MockitoBean
+    protected JobAlertService jobAlertService;
+}
@@ -0,0 +1,102 @@
+package com.waildevil.job_board_api.service;
+
+import com.waildevil.job_board_api.entity.ApplicationStatus;
+import com.waildevil.job_board_api.entity.NotificationDelivery;
+import com.waildevil.job_board_api.entity.OutboxMail;
+import com.waildevil.job_board_api.mail.MailTemplates;
+import com.waildevil.job_board_api.repository.OutboxMailBatchInsertRepository;
+import com.waildevil.job_board_api.repository.OutboxMailRepository;
+import com.waildevil.job_board_api.repository.PendingNotificationBatchInsertRepository;
+import com.waildevil.job_board_api.repository.PendingNotificationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@Import({StatusChangeNotifier.class, EmailService.class, MailTemplates.class, MailOutbox.class,
+        OutboxMailBatchInsertRepository.class, PendingNotificationBatchInsertRepository.class})
+class StatusChangeNotifierTest {
+
+    private static final Duration AFTER_WINDOW = Duration.ofMinutes(61);
+
+    @Autowired
+    private StatusChangeNotifier notifier;
+
+    @Autowired
+    private OutboxMailRepository outboxMailRepository;
+
+    @Autowired
+    private PendingNotificationRepository pendingNotificationRepository;
+
+    @Test
+    void testFlush_shouldCollectEveryChangeOfTheWindowIntoOneMail() {
+        notifier.onStatusChanged(List.of(digest(1L, "ada@example.com"), immediate(2L, "bob@example.com")),
+                "Backend Developer", ApplicationStatus.REJECTED);
+        notifier.onStatusChanged(List.of(digest(1L, "ada@example.com")), "Frontend Developer", ApplicationStatus.ACCEPTED);
+
+        assertEquals(1, mailsTo("bob@example.com").size());
+        assertTrue(mailsTo("ada@example.com").isEmpty());
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        try {
+            Instant now = Instant.now();
+            assertEquals(1, notifier.pendingDigests());
+            assertEquals(0, notifier.flush(now));
+
+            assertEquals(1, notifier.flush(now.plus(AFTER_WINDOW)));
+            List<OutboxMail> digests = mailsTo("ada@example.com");
+            assertEquals(1, digests.size());
+            assertEquals("2 updates on your job applications", digests.get(0).getSubject());
+            String body = digests.get(0).getBody();
+            assertTrue(body.indexOf("- Backend Developer: rejected") < body.indexOf("- Frontend Developer: accepted"),
+                    body);
+            assertEquals(0, pendingNotificationRepository.count());
+            assertEquals(0, notifier.pendingDigests());
+            assertEquals(0, notifier.flush(now.plus(AFTER_WINDOW).plus(AFTER_WINDOW)));
+        } finally {
+            outboxMailRepository.deleteAll();
+            pendingNotificationRepository.deleteAll();
+        }
+    }
+
+    @Test
+    void testLoad_whenChangesWaitInTheTable_shouldSendThemAfterARestart() {
+        notifier.onStatusChanged(List.of(digest(3L, "cem@example.com")), "Backend Developer", ApplicationStatus.REJECTED);
+        Instant later = Instant.now().plus(AFTER_WINDOW);
+
+        // Not committed, so only the table knows about the change, as after a restart
+        assertEquals(0, notifier.flush(later));
+        notifier.load();
+        assertEquals(1, notifier.flush(later));
+
+        List<OutboxMail> digests = mailsTo("cem@example.com");
+        assertEquals(1, digests.size());
+        assertEquals("Update on your job application", digests.get(0).getSubject());
+        assertTrue(digests.get(0).getBody().contains("- Backend Developer: rejected"));
+        assertEquals(0, pendingNotificationRepository.count());
+    }
+
+    private List<OutboxMail> mailsTo(String recipient) {
+        return outboxMailRepository.findAll().stream()
+                .filter(mail -> mail.getRecipient().equals(recipient))
+                .toList();
+    }
+
+    private static StatusChangeNotifier.Recipient digest(Long userId, String email) {
+        return new StatusChangeNotifier.Recipient(userId, email, NotificationDelivery.DIGEST, null);
+    }
+
+    private static StatusChangeNotifier.Recipient immediate(Long userId, String email) {
+        return new StatusChangeNotifier.Recipient(userId, email, NotificationDelivery.IMMEDIATE, null);
+    }
+}
@@ -1,6 +1,10 @@
 package com.waildevil.job_board_api.service;
 
+import com.waildevil.job_board_api.entity.NotificationDelivery;
+import com.waildevil.job_board_api.entity.Role;
 import com.waildevil.job_board_api.entity.User;
+import com.waildevil.job_board_api.exception.ApiException;
+import com.waildevil.job_board_api.mail.MailTemplates;
 import com.waildevil.job_board_api.repository.UserRepository;
 import com.waildevil.job_board_api.service.UserService;
 import org.junit.jupiter.api.Test;
@@ -8,10 +12,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -21,6 +27,12 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PlatformCounters platformCounters;
+
+    @Mock
+    private MailTemplates mailTemplates;
+
     @InjectMocks
     private UserService userService;
 
@@ -38,7 +50,51 @@ class UserServiceTest {
 
     @Test
     void testDeleteUser_shouldCallRepositoryDelete() {
+        User user = new User();
+        user.setId(1L);
+        user.setRole(Role.CANDIDATE);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
         userService.deleteUser(1L);
-        verify(userRepository, times(1)).deleteById(1L);
+
+        verify(userRepository, times(1)).delete(user);
+        verify(platformCounters, times(1)).onUserDeleted(Role.CANDIDATE);
+    }
+
+    @Test
+    void testUpdateOwnLocale_whenSupported_shouldStoreTheLanguageTag() {
+        User user = new User();
+        user.setEmail("carl@example.com");
+        when(mailTemplates.supports("de_AT")).thenReturn(true);
+        when(userRepository.findByEmail("carl@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.save(user)).thenReturn(user);
+
+        User result = userService.updateOwnLocale("carl@example.com", "de_AT");
+
+        assertEquals("de-AT", result.getLocale());
+        verify(userRepository, times(1)).save(user);
+    }
+
+    @Test
+    void testUpdateOwnLocale_whenUnsupported_shouldThrowBadRequest() {
+        when(mailTemplates.supports("fr")).thenReturn(false);
+
+        ApiException e = assertThrows(ApiException.class, () -> userService.updateOwnLocale("carl@example.com", "fr"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatus());
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void testUpdateOwnNotificationDelivery_shouldStoreTheChoice() {
+        User user = new User();
+        user.setEmail("carl@example.com");
+        when(userRepository.findByEmail("carl@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.save(user)).thenReturn(user);
+
+        User result = userService.updateOwnNotificationDelivery("carl@example.com", NotificationDelivery.DIGEST);
+
+        assertEquals(NotificationDelivery.DIGEST, result.getNotificationDelivery());
+        verify(userRepository, times(1)).save(user);
     }
 }
@@ -38,10 +38,10 @@ function Home() {
     const loadInitialData = async () => {
       try {
         const [jobsData, categoriesData] = await Promise.all([
-          fetchLatestJobs(0, 5),
+          fetchLatestJobs(5),
           fetchCategories(),
         ]);
-        setLatestJobs(jobsData.content);
+        setLatestJobs(jobsData.jobs);
         setCategories(categoriesData);
       } catch (error) {
         console.error('Failed to fetch initial data', error);
@@ -8,6 +8,8 @@ import { API_URL } from '../services/api';
 
 function JobList() {
   const [jobs, setJobs] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [categories, setCategories] = useState([]);
   const [loading, setLoading] = useState(true);
   const [jobCountBySalary, setJobCountBySalary] = useState(0);
@@ -31,8 +33,8 @@ function JobList() {
         type,
         salary,
       });
-        const sorted = data.sort((a, b) => new Date(b.createdAt) - new Date(a.createdAt));
-        setJobs(sorted);
+        setJobs(data.jobs);
+        setNextCursor(data.hasMore ? data.nextCursor : null);
       } catch (err) {
         console.error('Failed to fetch jobs:', err);
       } finally {
@@ -56,6 +58,26 @@ function JobList() {
     loadCategories();
   }, []);
 
+  const loadMore = async () => {
+    setLoadingMore(true);
+    try {
+      const data = await searchJobsForList({
+        keyword,
+        location,
+        category,
+        type,
+        salary,
+        cursor: nextCursor,
+      });
+      setJobs((prev) => [...prev, ...data.jobs]);
+      setNextCursor(data.hasMore ? data.nextCursor : null);
+    } catch (err) {
+      console.error('Failed to fetch more jobs:', err);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleSalaryRelease = async (val) => {
     try {
       const count = await countJobsByMinSalary(val);
@@ -181,7 +203,7 @@ function JobList() {
 
         <div className="lg:col-span-3">
           <h1 className="text-2xl font-bold mb-2">Job Results</h1>
-          <p className="text-sm text-gray-500 mb-6">{jobs.length} job(s) found</p>
+          <p className="text-sm text-gray-500 mb-6">{jobs.length}{nextCursor ? '+' : ''} job(s) found</p>
 
           {loading ? (
             <p>Loading...</p>
@@ -190,6 +212,16 @@ function JobList() {
           ) : (
             jobs.map((job) => <JobCard key={job.id} job={job} />)
           )}
+
+          {!loading && nextCursor && (
+            <button
+              onClick={loadMore}
+              disabled={loadingMore}
+              className="w-full mt-4 px-4 py-2 bg-blue-600 text-white rounded-md hover:bg-blue-700 transition disabled:opacity-50"
+            >
+              {loadingMore ? 'Loading...' : 'Load more'}
+            </button>
+          )}
         </div>
       </div>
     </div>
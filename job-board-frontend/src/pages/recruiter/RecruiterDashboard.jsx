@@ -1,19 +1,16 @@
 import React, { useEffect, useState } from 'react';
-import { getMyJobs, getEmployerApplications } from '../../services/api';
+import { getRecruiterDashboard } from '../../services/api';
 import { useNavigate } from 'react-router-dom';
 
 export default function RecruiterDashboard() {
-  const [jobs, setJobs] = useState([]);
-  const [applications, setApplications] = useState([]);
+  const [dashboard, setDashboard] = useState(null);
   const [loading, setLoading] = useState(true);
   const navigate = useNavigate();
 
   useEffect(() => {
     (async () => {
       try {
-        const [j, a] = await Promise.all([getMyJobs(), getEmployerApplications()]);
-        setJobs(j);
-        setApplications(a);
+        setDashboard(await getRecruiterDashboard());
       } catch (e) {
         
       } finally {
@@ -22,8 +19,7 @@ export default function RecruiterDashboard() {
     })();
   }, []);
 
-  const totalApps = applications.length;
-  const openJobs = jobs.length;
+  const jobs = dashboard?.jobs ?? [];
 
   return (
     <div className="max-w-6xl mx-auto p-6 space-y-6">
@@ -41,11 +37,11 @@ export default function RecruiterDashboard() {
         <div className="grid grid-cols-1 md:grid-cols-3 gap-4">
           <div className="border rounded p-4">
             <div className="text-sm text-gray-600">Open Jobs</div>
-            <div className="text-3xl font-semibold">{openJobs}</div>
+            <div className="text-3xl font-semibold">{dashboard?.totalJobs ?? 0}</div>
           </div>
           <div className="border rounded p-4">
             <div className="text-sm text-gray-600">Total Applications</div>
-            <div className="text-3xl font-semibold">{totalApps}</div>
+            <div className="text-3xl font-semibold">{dashboard?.totalApplications ?? 0}</div>
           </div>
           <div className="border rounded p-4">
             <div className="text-sm text-gray-600">Last Job</div>
@@ -54,17 +50,22 @@ export default function RecruiterDashboard() {
         </div>
       )}
 
-      {!loading && applications.length > 0 && (
+      {!loading && jobs.length > 0 && (
         <div>
-          <h2 className="text-lg font-medium mb-2">Recent Applications</h2>
+          <h2 className="text-lg font-medium mb-2">Your Jobs</h2>
           <div className="space-y-3">
-            {applications.slice(0, 5).map(ap => (
-              <div key={ap.id} className="border rounded p-3 flex items-center justify-between">
+            {jobs.map(job => (
+              <div key={job.jobId} className="border rounded p-3 flex items-center justify-between">
                 <div>
-                  <div className="font-medium">{ap.applicantName}</div>
-                  <div className="text-sm text-gray-600">{ap.jobTitle}</div>
+                  <div className="font-medium">{job.title}</div>
+                  <div className="text-sm text-gray-600">
+                    {job.pendingCount} pending · {job.acceptedCount} accepted · {job.remainingPositions} of {job.availablePositions} positions left
+                  </div>
+                  {job.latestAppliedAt && (
+                    <div className="text-xs text-gray-500">Last application {new Date(job.latestAppliedAt).toLocaleString()}</div>
+                  )}
                 </div>
-                <button onClick={() => navigate(`/recruiter/jobs/${ap.jobId}/applicants`)} className="px-3 py-1.5 border rounded">Open</button>
+                <button onClick={() => navigate(`/recruiter/jobs/${job.jobId}/applicants`)} className="px-3 py-1.5 border rounded">Open</button>
               </div>
             ))}
           </div>
@@ -5,8 +5,8 @@ export const loginUser = async (email, password) =>
   (await axios.post('/auth/login', { email, password })).data;
 
 // JOBS (public)
-export const fetchLatestJobs = async (page = 0, size = 5) =>
-  (await axios.get(`/jobs/latest`, { params: { page, size } })).data;
+export const fetchLatestJobs = async (size = 5, cursor) =>
+  (await axios.get(`/jobs/feed`, { params: { size, cursor } })).data;
 
 export const fetchCategories = async () =>
   (await axios.get(`/categories`)).data;
@@ -21,6 +21,19 @@ export const countJobsByMinSalary = async (filters = {}) => {
   return (await axios.get('/jobs/count', { params })).data;
 };
 
+export const fetchJobFacets = async (filters = {}) => {
+  const params = {};
+  if (filters.keyword) params.keyword = filters.keyword;
+  if (filters.location) params.location = filters.location;
+  if (filters.type) params.type = filters.type;
+  if (filters.category) params.category = filters.category;
+  if (filters.minSalary) params.minSalary = filters.minSalary;
+  return (await axios.get('/jobs/facets', { params })).data;
+};
+
+export const suggestJobs = async (prefix, limit = 8) =>
+  (await axios.get('/jobs/suggest', { params: { prefix, limit } })).data;
+
 export const searchJobs = async (filters = {}) => {
   const params = {};
   if (filters.keyword) params.keyword = filters.keyword;
@@ -31,7 +44,7 @@ export const searchJobs = async (filters = {}) => {
   if (minSalary !== undefined && minSalary !== null && `${minSalary}` !== '') {
     params.minSalary = minSalary;
   }
-  return (await axios.get('/jobs/search', { params })).data;
+  return (await axios.get('/jobs/search', { params })).data.jobs;
 };
 
 // APPLICATIONS (use axios, no raw fetch)
@@ -74,6 +87,9 @@ export const getEmployerApplications = async () =>
 export const getJobStats = async (jobId) =>
   (await axios.get(`/applications/jobs/${jobId}/stats`)).data;
 
+export const getRecruiterDashboard = async () =>
+  (await axios.get(`/recruiter/dashboard`)).data;
+
 // Companies
 export const fetchCompanies = async () =>
   (await axios.get(`/companies`)).data;
@@ -97,9 +113,13 @@ export const submitApplication = async (formData) =>
   (await axios.post('/applications', formData)).data;
 
 // Page-specific search (JobList.jsx)
-export const searchJobsForList = async ({ keyword, location, category, type, salary } = {}) => {
+export const searchJobsForList = async ({ keyword, location, category, type, salary, cursor } = {}) => {
   const params = {};
-  if (keyword) params.keyword = keyword;
+  if (cursor) params.cursor = cursor;
+  if (keyword) {
+    params.keyword = keyword;
+    params.sort = 'relevance';
+  }
   if (location) params.location = location;
   if (category) params.category = category;
   if (type) params.type = type;